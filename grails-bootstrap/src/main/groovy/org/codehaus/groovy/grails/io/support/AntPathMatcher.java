@@ -5,6 +5,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,12 +40,20 @@ public class AntPathMatcher {
     /** Default path separator: "/" */
     public static final String DEFAULT_PATH_SEPARATOR = "/";
 
+    // beyond this number of distinct patterns they are most likely generated, so caching them is pointless
+    private static final int CACHE_TURNOFF_THRESHOLD = 65536;
+
     private String pathSeparator = DEFAULT_PATH_SEPARATOR;
 
+    private final Map<String, AntPathPattern> patternCache = new ConcurrentHashMap<String, AntPathPattern>(256);
+
+    private volatile boolean cachePatterns = true;
+
 
     /** Set the path separator to use for pattern parsing. Default is "/", as in Ant. */
     public void setPathSeparator(String pathSeparator) {
         this.pathSeparator = pathSeparator == null ? DEFAULT_PATH_SEPARATOR : pathSeparator;
+        patternCache.clear();
     }
 
     public boolean isPattern(String path) {
@@ -70,128 +79,31 @@ public class AntPathMatcher {
     protected boolean doMatch(String pattern, String path, boolean fullMatch,
                               Map<String, String> uriTemplateVariables) {
 
-        if (path.startsWith(pathSeparator) != pattern.startsWith(pathSeparator)) {
-            return false;
-        }
-
-        String[] pattDirs = tokenize(pattern);
-        String[] pathDirs = tokenize(path);
-
-        int pattIdxStart = 0;
-        int pattIdxEnd = pattDirs.length - 1;
-        int pathIdxStart = 0;
-        int pathIdxEnd = pathDirs.length - 1;
-
-        // Match all elements up to the first **
-        while (pattIdxStart <= pattIdxEnd && pathIdxStart <= pathIdxEnd) {
-            String patDir = pattDirs[pattIdxStart];
-            if ("**".equals(patDir)) {
-                break;
-            }
-            if (!matchStrings(patDir, pathDirs[pathIdxStart], uriTemplateVariables)) {
-                return false;
-            }
-            pattIdxStart++;
-            pathIdxStart++;
-        }
-
-        if (pathIdxStart > pathIdxEnd) {
-            // Path is exhausted, only match if rest of pattern is * or **'s
-            if (pattIdxStart > pattIdxEnd) {
-                return (pattern.endsWith(pathSeparator) ? path.endsWith(pathSeparator) :
-                        !path.endsWith(pathSeparator));
-            }
-            if (!fullMatch) {
-                return true;
-            }
-            if (pattIdxStart == pattIdxEnd && pattDirs[pattIdxStart].equals("*") && path.endsWith(pathSeparator)) {
-                return true;
-            }
-            for (int i = pattIdxStart; i <= pattIdxEnd; i++) {
-                if (!pattDirs[i].equals("**")) {
-                    return false;
-                }
-            }
-            return true;
-        }
-        else if (pattIdxStart > pattIdxEnd) {
-            // String not exhausted, but pattern is. Failure.
-            return false;
-        }
-        else if (!fullMatch && "**".equals(pattDirs[pattIdxStart])) {
-            // Path start definitely matches due to "**" part in pattern.
-            return true;
-        }
-
-        // up to last '**'
-        while (pattIdxStart <= pattIdxEnd && pathIdxStart <= pathIdxEnd) {
-            String patDir = pattDirs[pattIdxEnd];
-            if (patDir.equals("**")) {
-                break;
-            }
-            if (!matchStrings(patDir, pathDirs[pathIdxEnd], uriTemplateVariables)) {
-                return false;
-            }
-            pattIdxEnd--;
-            pathIdxEnd--;
-        }
-        if (pathIdxStart > pathIdxEnd) {
-            // String is exhausted
-            for (int i = pattIdxStart; i <= pattIdxEnd; i++) {
-                if (!pattDirs[i].equals("**")) {
-                    return false;
-                }
-            }
-            return true;
-        }
+        return getPattern(pattern).matches(path, fullMatch, uriTemplateVariables);
+    }
 
-        while (pattIdxStart != pattIdxEnd && pathIdxStart <= pathIdxEnd) {
-            int patIdxTmp = -1;
-            for (int i = pattIdxStart + 1; i <= pattIdxEnd; i++) {
-                if (pattDirs[i].equals("**")) {
-                    patIdxTmp = i;
-                    break;
+    /**
+     * Returns the compiled form of the given pattern. Compiled patterns are cached, unless the number of distinct
+     * patterns suggests that they are generated dynamically.
+     *
+     * @param pattern The Ant-style pattern
+     * @return The compiled pattern
+     */
+    public AntPathPattern getPattern(String pattern) {
+        AntPathPattern compiled = cachePatterns ? patternCache.get(pattern) : null;
+        if (compiled == null) {
+            compiled = new AntPathPattern(pattern, pathSeparator);
+            if (cachePatterns) {
+                if (patternCache.size() >= CACHE_TURNOFF_THRESHOLD) {
+                    cachePatterns = false;
+                    patternCache.clear();
                 }
-            }
-            if (patIdxTmp == pattIdxStart + 1) {
-                // '**/**' situation, so skip one
-                pattIdxStart++;
-                continue;
-            }
-            // Find the pattern between padIdxStart & padIdxTmp in str between
-            // strIdxStart & strIdxEnd
-            int patLength = (patIdxTmp - pattIdxStart - 1);
-            int strLength = (pathIdxEnd - pathIdxStart + 1);
-            int foundIdx = -1;
-
-            strLoop:
-            for (int i = 0; i <= strLength - patLength; i++) {
-                for (int j = 0; j < patLength; j++) {
-                    String subPat = pattDirs[pattIdxStart + j + 1];
-                    String subStr = pathDirs[pathIdxStart + i + j];
-                    if (!matchStrings(subPat, subStr, uriTemplateVariables)) {
-                        continue strLoop;
-                    }
+                else {
+                    patternCache.put(pattern, compiled);
                 }
-                foundIdx = pathIdxStart + i;
-                break;
-            }
-
-            if (foundIdx == -1) {
-                return false;
             }
-
-            pattIdxStart = patIdxTmp;
-            pathIdxStart = foundIdx + patLength;
         }
-
-        for (int i = pattIdxStart; i <= pattIdxEnd; i++) {
-            if (!pattDirs[i].equals("**")) {
-                return false;
-            }
-        }
-
-        return true;
+        return compiled;
     }
 
     private String[] tokenize(String pattern) {
@@ -199,18 +111,6 @@ public class AntPathMatcher {
         return list.toArray(new String[list.size()]);
     }
 
-    /**
-     * Tests whether or not a string matches against a pattern. The pattern may contain two special characters:<br> '*'
-     * means zero or more characters<br> '?' means one and only one character
-     * @param pattern pattern to match against. Must not be <code>null</code>.
-     * @param str string which must be matched against the pattern. Must not be <code>null</code>.
-     * @return <code>true</code> if the string matches against the pattern, or <code>false</code> otherwise.
-     */
-    private boolean matchStrings(String pattern, String str, Map<String, String> uriTemplateVariables) {
-        AntPathStringMatcher matcher = new AntPathStringMatcher(pattern, str, uriTemplateVariables);
-        return matcher.matchStrings();
-    }
-
     /**
      * Given a pattern and a full path, determine the pattern-mapped part. <p>For example: <ul>
      * <li>'<code>/docs/cvs/commit.html</code>' and '<code>/docs/cvs/commit.html</code> -> ''</li>
@@ -457,16 +357,10 @@ public class AntPathMatcher {
 
         private final Pattern pattern;
 
-        private String str;
-
         private final List<String> variableNames = new LinkedList<String>();
 
-        private final Map<String, String> uriTemplateVariables;
-
         /** Construct a new instance of the <code>AntPatchStringMatcher</code>. */
-        AntPathStringMatcher(String pattern, String str, Map<String, String> uriTemplateVariables) {
-            this.str = str;
-            this.uriTemplateVariables = uriTemplateVariables;
+        AntPathStringMatcher(String pattern) {
             this.pattern = createPattern(pattern);
         }
 
@@ -514,9 +408,11 @@ public class AntPathMatcher {
         /**
          * Main entry point.
          *
+         * @param str string which must be matched against the pattern
+         * @param uriTemplateVariables the map to put the values of the variables into, may be null
          * @return <code>true</code> if the string matches against the pattern, or <code>false</code> otherwise.
          */
-        public boolean matchStrings() {
+        public boolean matchStrings(String str, Map<String, String> uriTemplateVariables) {
             Matcher matcher = pattern.matcher(str);
             if (!matcher.matches()) {
                 return false;
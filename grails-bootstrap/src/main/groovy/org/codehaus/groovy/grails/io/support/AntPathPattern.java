@@ -0,0 +1,378 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.io.support;
+
+import java.util.Map;
+
+/**
+ * An Ant-style path pattern that is parsed once, with the semantics of {@link AntPathMatcher}. Each segment
+ * of the pattern is compiled to a matcher: plain segments are compared as they are, segments with '*' and '?'
+ * wildcards are matched without regular expressions, and only segments with URI template variables use a
+ * (precompiled) regular expression. Paths are matched in place, without splitting them into Strings.
+ *
+ * Instances are immutable and can be shared between threads.
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public class AntPathPattern {
+
+    private static final String DOUBLE_STAR = "**";
+
+    private final String pattern;
+    private final String pathSeparator;
+    private final boolean startsWithSeparator;
+    private final boolean endsWithSeparator;
+    private final Segment[] segments;
+
+    public AntPathPattern(String pattern) {
+        this(pattern, AntPathMatcher.DEFAULT_PATH_SEPARATOR);
+    }
+
+    public AntPathPattern(String pattern, String pathSeparator) {
+        this.pattern = pattern;
+        this.pathSeparator = pathSeparator;
+        startsWithSeparator = pattern.startsWith(pathSeparator);
+        endsWithSeparator = pattern.endsWith(pathSeparator);
+
+        int[] bounds = tokenize(pattern);
+        segments = new Segment[bounds.length / 2];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = createSegment(pattern.substring(bounds[i * 2], bounds[i * 2 + 1]));
+        }
+    }
+
+    private static Segment createSegment(String text) {
+        if (DOUBLE_STAR.equals(text)) {
+            return new Segment(text);
+        }
+        if (text.indexOf('{') > -1) {
+            return new TemplateSegment(text);
+        }
+        if (text.indexOf('*') > -1 || text.indexOf('?') > -1) {
+            return new WildcardSegment(text);
+        }
+        return new LiteralSegment(text);
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @param path The path
+     * @return true if the whole path matches the pattern
+     */
+    public boolean matches(String path) {
+        return matches(path, true, null);
+    }
+
+    /**
+     * @param path The path
+     * @return true if the pattern matches the path as far as the path goes
+     */
+    public boolean matchesStart(String path) {
+        return matches(path, false, null);
+    }
+
+    /**
+     * Matches a path against the pattern.
+     *
+     * @param path The path
+     * @param fullMatch Whether a full pattern match is required, else a match as far as the path goes is sufficient
+     * @param uriTemplateVariables The map to put the values of the URI template variables into, may be null
+     * @return true if the path matches
+     */
+    public boolean matches(String path, boolean fullMatch, Map<String, String> uriTemplateVariables) {
+        if (path.startsWith(pathSeparator) != startsWithSeparator) {
+            return false;
+        }
+
+        Segment[] pattDirs = segments;
+        int[] pathBounds = tokenize(path);
+
+        int pattIdxStart = 0;
+        int pattIdxEnd = pattDirs.length - 1;
+        int pathIdxStart = 0;
+        int pathIdxEnd = pathBounds.length / 2 - 1;
+
+        // Match all elements up to the first **
+        while (pattIdxStart <= pattIdxEnd && pathIdxStart <= pathIdxEnd) {
+            Segment patDir = pattDirs[pattIdxStart];
+            if (patDir.isDoubleStar()) {
+                break;
+            }
+            if (!matchSegment(patDir, path, pathBounds, pathIdxStart, uriTemplateVariables)) {
+                return false;
+            }
+            pattIdxStart++;
+            pathIdxStart++;
+        }
+
+        if (pathIdxStart > pathIdxEnd) {
+            // Path is exhausted, only match if rest of pattern is * or **'s
+            if (pattIdxStart > pattIdxEnd) {
+                return endsWithSeparator ? path.endsWith(pathSeparator) : !path.endsWith(pathSeparator);
+            }
+            if (!fullMatch) {
+                return true;
+            }
+            if (pattIdxStart == pattIdxEnd && pattDirs[pattIdxStart].isStar() && path.endsWith(pathSeparator)) {
+                return true;
+            }
+            return onlyDoubleStars(pattIdxStart, pattIdxEnd);
+        }
+        else if (pattIdxStart > pattIdxEnd) {
+            // String not exhausted, but pattern is. Failure.
+            return false;
+        }
+        else if (!fullMatch && pattDirs[pattIdxStart].isDoubleStar()) {
+            // Path start definitely matches due to "**" part in pattern.
+            return true;
+        }
+
+        // up to last '**'
+        while (pattIdxStart <= pattIdxEnd && pathIdxStart <= pathIdxEnd) {
+            Segment patDir = pattDirs[pattIdxEnd];
+            if (patDir.isDoubleStar()) {
+                break;
+            }
+            if (!matchSegment(patDir, path, pathBounds, pathIdxEnd, uriTemplateVariables)) {
+                return false;
+            }
+            pattIdxEnd--;
+            pathIdxEnd--;
+        }
+        if (pathIdxStart > pathIdxEnd) {
+            // String is exhausted
+            return onlyDoubleStars(pattIdxStart, pattIdxEnd);
+        }
+
+        while (pattIdxStart != pattIdxEnd && pathIdxStart <= pathIdxEnd) {
+            int patIdxTmp = -1;
+            for (int i = pattIdxStart + 1; i <= pattIdxEnd; i++) {
+                if (pattDirs[i].isDoubleStar()) {
+                    patIdxTmp = i;
+                    break;
+                }
+            }
+            if (patIdxTmp == pattIdxStart + 1) {
+                // '**/**' situation, so skip one
+                pattIdxStart++;
+                continue;
+            }
+            // Find the pattern between padIdxStart & padIdxTmp in str between
+            // strIdxStart & strIdxEnd
+            int patLength = (patIdxTmp - pattIdxStart - 1);
+            int strLength = (pathIdxEnd - pathIdxStart + 1);
+            int foundIdx = -1;
+
+            strLoop:
+            for (int i = 0; i <= strLength - patLength; i++) {
+                for (int j = 0; j < patLength; j++) {
+                    if (!matchSegment(pattDirs[pattIdxStart + j + 1], path, pathBounds, pathIdxStart + i + j, uriTemplateVariables)) {
+                        continue strLoop;
+                    }
+                }
+                foundIdx = pathIdxStart + i;
+                break;
+            }
+
+            if (foundIdx == -1) {
+                return false;
+            }
+
+            pattIdxStart = patIdxTmp;
+            pathIdxStart = foundIdx + patLength;
+        }
+
+        return onlyDoubleStars(pattIdxStart, pattIdxEnd);
+    }
+
+    private boolean onlyDoubleStars(int from, int to) {
+        for (int i = from; i <= to; i++) {
+            if (!segments[i].isDoubleStar()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchSegment(Segment segment, String path, int[] pathBounds, int index,
+            Map<String, String> uriTemplateVariables) {
+        return segment.matches(path, pathBounds[index * 2], pathBounds[index * 2 + 1], uriTemplateVariables);
+    }
+
+    /**
+     * Finds the tokens of the given String like {@link java.util.StringTokenizer} does with the characters of the
+     * path separator as delimiters.
+     *
+     * @return The start and end index of each token
+     */
+    private int[] tokenize(String str) {
+        int length = str.length();
+        int count = 0;
+        boolean inToken = false;
+        for (int i = 0; i < length; i++) {
+            boolean delimiter = isDelimiter(str.charAt(i));
+            if (!delimiter && !inToken) {
+                count++;
+            }
+            inToken = !delimiter;
+        }
+
+        int[] bounds = new int[count * 2];
+        int token = 0;
+        inToken = false;
+        for (int i = 0; i < length; i++) {
+            boolean delimiter = isDelimiter(str.charAt(i));
+            if (!delimiter && !inToken) {
+                bounds[token * 2] = i;
+            }
+            else if (delimiter && inToken) {
+                bounds[token++ * 2 + 1] = i;
+            }
+            inToken = !delimiter;
+        }
+        if (inToken) {
+            bounds[token * 2 + 1] = length;
+        }
+        return bounds;
+    }
+
+    private boolean isDelimiter(char c) {
+        return pathSeparator.indexOf(c) > -1;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    /**
+     * A pattern segment, by default '**'.
+     */
+    private static class Segment {
+        protected final String text;
+
+        Segment(String text) {
+            this.text = text;
+        }
+
+        boolean isDoubleStar() {
+            return true;
+        }
+
+        boolean isStar() {
+            return false;
+        }
+
+        boolean matches(String path, int start, int end, Map<String, String> uriTemplateVariables) {
+            throw new IllegalStateException("'**' is not matched against a single path segment");
+        }
+    }
+
+    private static class LiteralSegment extends Segment {
+        LiteralSegment(String text) {
+            super(text);
+        }
+
+        @Override
+        boolean isDoubleStar() {
+            return false;
+        }
+
+        @Override
+        boolean matches(String path, int start, int end, Map<String, String> uriTemplateVariables) {
+            return end - start == text.length() && path.regionMatches(start, text, 0, text.length());
+        }
+    }
+
+    /**
+     * A segment with '*' (zero or more characters) and '?' (exactly one character) wildcards.
+     */
+    private static class WildcardSegment extends Segment {
+        private final char[] chars;
+
+        WildcardSegment(String text) {
+            super(text);
+            chars = text.toCharArray();
+        }
+
+        @Override
+        boolean isDoubleStar() {
+            return false;
+        }
+
+        @Override
+        boolean isStar() {
+            return chars.length == 1 && chars[0] == '*';
+        }
+
+        @Override
+        boolean matches(String path, int start, int end, Map<String, String> uriTemplateVariables) {
+            int p = 0;
+            int s = start;
+            int starP = -1;
+            int starS = -1;
+            while (s < end) {
+                if (p < chars.length && chars[p] == '*') {
+                    // remember the position, first try to match nothing
+                    starP = p++;
+                    starS = s;
+                }
+                else if (p < chars.length && (chars[p] == '?' || chars[p] == path.charAt(s))) {
+                    p++;
+                    s++;
+                }
+                else if (starP > -1) {
+                    // let the last '*' match one more character
+                    p = starP + 1;
+                    s = ++starS;
+                }
+                else {
+                    return false;
+                }
+            }
+            while (p < chars.length && chars[p] == '*') {
+                p++;
+            }
+            return p == chars.length;
+        }
+    }
+
+    /**
+     * A segment with URI template variables such as <code>{id}</code> or <code>{id:\d+}</code>.
+     */
+    private static class TemplateSegment extends Segment {
+        private final AntPathMatcher.AntPathStringMatcher matcher;
+
+        TemplateSegment(String text) {
+            super(text);
+            matcher = new AntPathMatcher.AntPathStringMatcher(text);
+        }
+
+        @Override
+        boolean isDoubleStar() {
+            return false;
+        }
+
+        @Override
+        boolean matches(String path, int start, int end, Map<String, String> uriTemplateVariables) {
+            return matcher.matchStrings(path.substring(start, end), uriTemplateVariables);
+        }
+    }
+}
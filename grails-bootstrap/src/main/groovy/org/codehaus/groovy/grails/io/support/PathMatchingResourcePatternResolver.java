@@ -393,12 +393,13 @@ public class PathMatchingResourcePatternResolver {
                 rootEntryPath = rootEntryPath + "/";
             }
             Set<Resource> result = new LinkedHashSet<Resource>(8);
+            AntPathPattern compiledPattern = getPathMatcher().getPattern(subPattern);
             for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
                 JarEntry entry = entries.nextElement();
                 String entryPath = entry.getName();
                 if (entryPath.startsWith(rootEntryPath)) {
                     String relativePath = entryPath.substring(rootEntryPath.length());
-                    if (getPathMatcher().match(subPattern, relativePath)) {
+                    if (compiledPattern.matches(relativePath)) {
                         result.add(rootDirResource.createRelative(relativePath));
                     }
                 }
@@ -539,9 +540,10 @@ public class PathMatchingResourcePatternResolver {
             }
             return;
         }
+        AntPathPattern compiledPattern = getPathMatcher().getPattern(fullPattern);
         for (File content : dirContents) {
             String currPath = content.getAbsolutePath().replace( File.separator, "/");
-            if (content.isDirectory() && getPathMatcher().matchStart(fullPattern, currPath + "/")) {
+            if (content.isDirectory() && compiledPattern.matchesStart(currPath + "/")) {
                 if (!content.canRead()) {
                     if (logger.isDebugEnabled()) {
                         logger.debug("Skipping subdirectory [" + dir.getAbsolutePath() +
@@ -552,7 +554,7 @@ public class PathMatchingResourcePatternResolver {
                     doRetrieveMatchingFiles(fullPattern, content, result);
                 }
             }
-            if (getPathMatcher().match(fullPattern, currPath)) {
+            if (compiledPattern.matches(currPath)) {
                 result.add(content);
             }
         }
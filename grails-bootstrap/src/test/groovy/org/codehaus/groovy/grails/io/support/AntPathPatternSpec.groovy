@@ -0,0 +1,68 @@
+package org.codehaus.groovy.grails.io.support
+
+import spock.lang.*
+
+class AntPathPatternSpec extends Specification {
+
+    @Unroll("Pattern '#pattern' matching '#path' is #matches")
+    def "Compiled patterns match like Ant patterns"() {
+        expect:
+        new AntPathPattern(pattern).matches(path) == matches
+
+        where:
+        pattern                     | path                          | matches
+        "/foo/bar"                  | "/foo/bar"                    | true
+        "/foo/bar"                  | "/foo/baz"                    | false
+        "/foo/bar"                  | "foo/bar"                     | false
+        "/foo/*"                    | "/foo/bar"                    | true
+        "/foo/*"                    | "/foo/"                       | true
+        "/foo/*"                    | "/foo/bar/baz"                | false
+        "/foo/**"                   | "/foo"                        | true
+        "/foo/**/baz"               | "/foo/a/b/baz"                | true
+        "/foo/**/baz"               | "/foo/baz"                    | true
+        "/**/*.gsp"                 | "/views/book/list.gsp"        | true
+        "/**/*.gsp"                 | "/views/book/list.groovy"     | false
+        "com/t?st.jsp"              | "com/test.jsp"                | true
+        "com/t?st.jsp"              | "com/toast.jsp"               | false
+        "/a/*b*c?/**"               | "/a/xbyycz/d/e"               | true
+        "/a/**/b/**/c"              | "/a/x/b/y/z/c"                | true
+        "/a/**/b/**/c"              | "/a/x/c"                      | false
+        "/foo/"                     | "/foo"                        | false
+        "/books/{id}"               | "/books/1"                    | true
+        "/books/{id:\\d+}"          | "/books/one"                  | false
+    }
+
+    def "Matching the start of a path"() {
+        expect:
+        new AntPathPattern("/foo/**/*.gsp").matchesStart("/foo/bar/")
+        !new AntPathPattern("/foo/bar/*.gsp").matchesStart("/foo/baz/")
+    }
+
+    def "URI template variables are extracted"() {
+        given:
+        def variables = [:]
+
+        when:
+        def matches = new AntPathPattern("/books/{id}/{action}.html").matches("/books/12/show.html", true, variables)
+
+        then:
+        matches
+        variables == [id: "12", action: "show"]
+    }
+
+    def "Matcher caches compiled patterns"() {
+        given:
+        def matcher = new AntPathMatcher()
+
+        expect:
+        matcher.getPattern("/foo/**").is(matcher.getPattern("/foo/**"))
+        matcher.match("/foo/**", "/foo/bar")
+
+        when:
+        matcher.pathSeparator = "."
+
+        then:
+        matcher.match("com.*.Foo", "com.bar.Foo")
+        !matcher.match("com.*.Foo", "com.bar.baz.Foo")
+    }
+}
@@ -21,16 +21,21 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.BeanUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.ReflectionUtils.FieldCallback;
 import org.springframework.util.ReflectionUtils.MethodCallback;
@@ -39,7 +44,9 @@ import org.springframework.util.ReflectionUtils.MethodCallback;
  * Accesses class "properties": static fields, static getters, instance fields
  * or instance getters.
  *
- * Method and Field instances are cached for fast access.
+ * Method and Field instances are cached for fast access. Fetchers are created once per class and
+ * cached in a map holding soft references, so that cached classes (and their class loaders) can still
+ * be garbage collected when they are reloaded.
 
  * @author Lari Hotari, Sagire Software Oy
  * @author Graeme Rocher
@@ -48,17 +55,77 @@ public class ClassPropertyFetcher {
 
     private final Log log = LogFactory.getLog(getClass());
     private final Class<?> clazz;
-    final Map<String, PropertyFetcher> staticFetchers = new HashMap<String, PropertyFetcher>();
-    final Map<String, PropertyFetcher> instanceFetchers = new HashMap<String, PropertyFetcher>();
+    final Map<String, PropertyFetcher> staticFetchers;
+    final Map<String, PropertyFetcher> instanceFetchers;
     private final ReferenceInstanceCallback callback;
-    private PropertyDescriptor[] propertyDescriptors;
+    private final PropertyDescriptor[] propertyDescriptors;
+
+    private static final Log LOG = LogFactory.getLog(ClassPropertyFetcher.class);
+    private static final int LOCK_COUNT = 32;
+    private static final int MIN_PARALLEL_PRECOMPUTE = 16;
+    private static final Object[] locks = new Object[LOCK_COUNT];
+    static {
+        for (int i = 0; i < LOCK_COUNT; i++) {
+            locks[i] = new Object();
+        }
+    }
 
-    private static Map<Class<?>, ClassPropertyFetcher> cachedClassPropertyFetchers = new ConcurrentHashMap<Class<?>, ClassPropertyFetcher>();
+    private static Map<Class<?>, ClassPropertyFetcher> cachedClassPropertyFetchers = new ConcurrentReferenceHashMap<Class<?>, ClassPropertyFetcher>();
 
     public static void clearClassPropertyFetcherCache() {
         cachedClassPropertyFetchers.clear();
     }
 
+    /**
+     * Creates and caches the fetchers for the given classes using a thread per available processor, so that
+     * the introspection cost isn't paid when the classes are first accessed. Errors are ignored here and
+     * reported when the fetcher of the failing class is requested.
+     *
+     * @param classes The classes
+     */
+    public static void precompute(Collection<Class<?>> classes) {
+        int threads = Math.min(Runtime.getRuntime().availableProcessors(), classes.size());
+        if (threads < 2 || classes.size() < MIN_PARALLEL_PRECOMPUTE) {
+            for (Class<?> c : classes) {
+                precomputeQuietly(c);
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>(classes.size());
+            for (final Class<?> c : classes) {
+                futures.add(executor.submit(new Runnable() {
+                    public void run() {
+                        precomputeQuietly(c);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException e) {
+            // not thrown, precomputeQuietly() doesn't propagate errors
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void precomputeQuietly(Class<?> c) {
+        try {
+            forClass(c);
+        }
+        catch (Throwable e) {
+            LOG.debug("Unable to precompute property fetcher for class " + c.getName() + ": " + e.getMessage());
+        }
+    }
+
     public static ClassPropertyFetcher forClass(Class<?> c) {
         return forClass(c, null);
     }
@@ -66,7 +133,16 @@ public class ClassPropertyFetcher {
     public static ClassPropertyFetcher forClass(final Class<?> c, ReferenceInstanceCallback callback) {
 
         ClassPropertyFetcher cpf = cachedClassPropertyFetchers.get(c);
-        if (cpf == null) {
+        if (cpf != null) {
+            return cpf;
+        }
+
+        // make sure each fetcher is only created once, without blocking readers
+        synchronized (locks[(c.hashCode() & 0x7fffffff) % LOCK_COUNT]) {
+            cpf = cachedClassPropertyFetchers.get(c);
+            if (cpf != null) {
+                return cpf;
+            }
             if (callback == null) {
                 callback = new ReferenceInstanceCallback() {
                     private Object o;
@@ -88,7 +164,22 @@ public class ClassPropertyFetcher {
     ClassPropertyFetcher(Class<?> clazz, ReferenceInstanceCallback callback) {
         this.clazz = clazz;
         this.callback = callback;
-        init();
+
+        Map<String, PropertyFetcher> statics = new HashMap<String, PropertyFetcher>();
+        Map<String, PropertyFetcher> instances = new HashMap<String, PropertyFetcher>();
+        propertyDescriptors = init(statics, instances);
+        staticFetchers = freeze(statics);
+        instanceFetchers = freeze(instances);
+    }
+
+    private static Map<String, PropertyFetcher> freeze(Map<String, PropertyFetcher> fetchers) {
+        if (fetchers.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        // size the table for the final number of entries, the map is never written to again
+        Map<String, PropertyFetcher> map = new HashMap<String, PropertyFetcher>((int) (fetchers.size() / 0.75f) + 1);
+        map.putAll(fetchers);
+        return Collections.unmodifiableMap(map);
     }
 
     public Object getReference() {
@@ -107,7 +198,8 @@ public class ClassPropertyFetcher {
                 || instanceFetchers.containsKey(name);
     }
 
-    private void init() {
+    private PropertyDescriptor[] init(final Map<String, PropertyFetcher> staticFetchers,
+            final Map<String, PropertyFetcher> instanceFetchers) {
         FieldCallback fieldCallback = new ReflectionUtils.FieldCallback() {
             public void doWith(Field field) {
                 if (field.isSynthetic()) {
@@ -190,7 +282,7 @@ public class ClassPropertyFetcher {
             }
         }
 
-        propertyDescriptors = BeanUtils.getPropertyDescriptors(clazz);
+        PropertyDescriptor[] propertyDescriptors = BeanUtils.getPropertyDescriptors(clazz);
         for (PropertyDescriptor desc : propertyDescriptors) {
             Method readMethod = desc.getReadMethod();
             if (readMethod != null) {
@@ -204,6 +296,7 @@ public class ClassPropertyFetcher {
                 }
             }
         }
+        return propertyDescriptors;
     }
 
     private List<Class<?>> resolveAllClasses(Class<?> c) {
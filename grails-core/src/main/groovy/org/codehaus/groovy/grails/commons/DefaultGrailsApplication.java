@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -242,32 +243,43 @@ public class DefaultGrailsApplication extends GroovyObjectSupport implements Gra
         // first load the domain classes
         log.debug("Going to inspect artefact classes.");
         boolean warDeployed = Environment.isWarDeployed();
+        Map<Class<?>, ArtefactHandler> artefactHandlersByClass = new LinkedHashMap<Class<?>, ArtefactHandler>();
         for (final Class<?> theClass : classes) {
             log.debug("Inspecting [" + theClass.getName() + "]");
             // start fresh
             if(!warDeployed) {
                 GroovySystem.getMetaClassRegistry().removeMetaClass(theClass);
             }
-            if (allArtefactClasses.contains(theClass)) {
+            if (artefactHandlersByClass.containsKey(theClass)) {
                 continue;
             }
 
-            // check what kind of artefact it is and add to corrent data structure
+            // check what kind of artefact it is
             for (ArtefactHandler artefactHandler : artefactHandlers) {
                 if (artefactHandler.isArtefact(theClass)) {
-                    log.debug("Adding artefact " + theClass + " of kind " + artefactHandler.getType());
-                    GrailsClass gclass = addArtefact(artefactHandler.getType(), theClass);
-                    // Also maintain set of all artefacts (!= all classes loaded)
-                    allArtefactClasses.add(theClass);
-
-                    // Update per-artefact cache
-                    DefaultArtefactInfo info = getArtefactInfo(artefactHandler.getType(), true);
-                    info.addGrailsClass(gclass);
+                    artefactHandlersByClass.put(theClass, artefactHandler);
                     break;
                 }
             }
         }
 
+        // introspect the artefact classes in parallel before the artefacts are created
+        ClassPropertyFetcher.precompute(artefactHandlersByClass.keySet());
+
+        // add them to the correct data structures
+        for (Map.Entry<Class<?>, ArtefactHandler> entry : artefactHandlersByClass.entrySet()) {
+            Class<?> theClass = entry.getKey();
+            ArtefactHandler artefactHandler = entry.getValue();
+            log.debug("Adding artefact " + theClass + " of kind " + artefactHandler.getType());
+            GrailsClass gclass = addArtefact(artefactHandler.getType(), theClass);
+            // Also maintain set of all artefacts (!= all classes loaded)
+            allArtefactClasses.add(theClass);
+
+            // Update per-artefact cache
+            DefaultArtefactInfo info = getArtefactInfo(artefactHandler.getType(), true);
+            info.addGrailsClass(gclass);
+        }
+
         refreshArtefactGrailsClassCaches();
 
         allArtefactClassesArray = allArtefactClasses.toArray(new Class[allArtefactClasses.size()]);
@@ -566,7 +578,7 @@ public class DefaultGrailsApplication extends GroovyObjectSupport implements Gra
      *
      * @param handler The ArtefactHandler to regster
      */
-    public void registerArtefactHandler(ArtefactHandler handler) {
+    public synchronized void registerArtefactHandler(ArtefactHandler handler) {
         GrailsApplicationAwareBeanPostProcessor.processAwareInterfaces(this, handler);
         artefactHandlersByName.put(handler.getType(), handler);
         updateArtefactHandlers();
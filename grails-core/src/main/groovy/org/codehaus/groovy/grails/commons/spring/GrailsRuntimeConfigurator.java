@@ -34,6 +34,7 @@ import org.codehaus.groovy.grails.commons.ClassPropertyFetcher;
 import org.codehaus.groovy.grails.commons.GrailsApplication;
 import org.codehaus.groovy.grails.plugins.DefaultGrailsPluginManager;
 import org.codehaus.groovy.grails.plugins.GrailsPluginManager;
+import org.codehaus.groovy.grails.support.StartupTimeline;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
@@ -132,6 +133,10 @@ public class GrailsRuntimeConfigurator implements ApplicationContextAware {
 
         // TODO GRAILS-720 this causes plugin beans to be re-created - should get getApplicationContext always call refresh?
         WebApplicationContext ctx;
+        StartupTimeline timeline = StartupTimeline.getInstance();
+        timeline.reset();
+        StartupTimeline.Step total = timeline.start(StartupTimeline.STARTUP, StartupTimeline.CONFIGURE);
+        StartupTimeline.Step step = timeline.start(StartupTimeline.CONFIGURE, "createRuntimeSpringConfiguration");
         try {
             webSpringConfig = createWebRuntimeSpringConfiguration(application, parent, application.getClassLoader());
             webSpringConfig.setBeanFactory(new ReloadAwareAutowireCapableBeanFactory());
@@ -140,48 +145,60 @@ public class GrailsRuntimeConfigurator implements ApplicationContextAware {
                 webSpringConfig.setServletContext(context);
                 pluginManager.setServletContext(context);
             }
+            step = step.next("loadPlugins");
             if (!pluginManager.isInitialised()) {
                 pluginManager.loadPlugins();
             }
 
+            step = step.next("initialiseApplication");
             if (!application.isInitialised()) {
                 pluginManager.doArtefactConfiguration();
                 application.initialise();
             }
 
+            step = step.next("registerProvidedArtefacts");
             pluginManager.registerProvidedArtefacts(application);
 
             registerParentBeanFactoryPostProcessors(webSpringConfig);
 
+            step = step.next("doWithSpring");
             pluginManager.doRuntimeConfiguration(webSpringConfig);
 
             // configure scaffolding
             LOG.debug("[RuntimeConfiguration] Processing additional external configurations");
 
+            step = step.next("loadExternalBeans");
             if (loadExternalBeans) {
                 doPostResourceConfiguration(application,webSpringConfig);
             }
 
             reset();
 
+            step = step.next("refreshApplicationContext");
             application.setMainContext(webSpringConfig.getUnrefreshedApplicationContext());
 
             Environment.setInitializing(true);
             ctx = (WebApplicationContext) webSpringConfig.getApplicationContext();
             Environment.setInitializing(false);
 
+            step = step.next("doWithDynamicMethods");
             pluginManager.setApplicationContext(ctx);
             pluginManager.doDynamicMethods();
 
             ctx.publishEvent(new GrailsContextEvent(ctx, GrailsContextEvent.DYNAMIC_METHODS_REGISTERED));
 
+            step = step.next("doWithApplicationContext");
             performPostProcessing(ctx);
 
+            step = step.next("refreshConstraints");
             application.refreshConstraints();
         }
         finally {
             ClassPropertyFetcher.clearClassPropertyFetcherCache();
+            step.end();
+            total.end();
         }
+        timeline.writeJsonIfConfigured();
 
         return ctx;
     }
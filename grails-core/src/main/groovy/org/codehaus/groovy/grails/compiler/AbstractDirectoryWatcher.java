@@ -0,0 +1,123 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.compiler;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.codehaus.groovy.grails.compiler.DirectoryWatcher.FileChangeListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * Base class for the strategies used by {@link DirectoryWatcher} to detect changes to files.
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public abstract class AbstractDirectoryWatcher implements Runnable {
+
+    private final List<FileChangeListener> listeners = new CopyOnWriteArrayList<FileChangeListener>();
+    protected final Collection<String> extensions = new ConcurrentLinkedQueue<String>();
+    protected volatile boolean active = true;
+    protected long sleepTime = 3000;
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public void setSleepTime(long sleepTime) {
+        this.sleepTime = sleepTime;
+    }
+
+    public void addListener(FileChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return true if the watcher only reports files once they stopped changing
+     */
+    public boolean isCoalescingEvents() {
+        return false;
+    }
+
+    /**
+     * Adds a file to the watch list
+     *
+     * @param fileToWatch The file to watch
+     */
+    public abstract void addWatchFile(File fileToWatch);
+
+    /**
+     * Adds a directory to watch for files with the given extensions. The extensions don't start with a
+     * dot, '*' matches all files.
+     *
+     * @param dir The directory
+     * @param fileExtensions The extensions
+     */
+    public abstract void addWatchDirectory(File dir, List<String> fileExtensions);
+
+    /**
+     * @return The extensions of all watched directories, without a starting dot
+     */
+    public Collection<String> getExtensions() {
+        return extensions;
+    }
+
+    protected void addExtensions(Collection<String> toAdd) {
+        for (String extension : toAdd) {
+            extension = removeStartingDotIfPresent(extension);
+            if (!extensions.contains(extension)) {
+                extensions.add(extension);
+            }
+        }
+    }
+
+    protected void fireOnChange(File file) {
+        for (FileChangeListener listener : listeners) {
+            listener.onChange(file);
+        }
+    }
+
+    protected void fireOnNew(File file) {
+        for (FileChangeListener listener : listeners) {
+            listener.onNew(file);
+        }
+    }
+
+    protected boolean isValidDirectoryToMonitor(File file) {
+        return file.isDirectory() && !file.isHidden() && !DirectoryWatcher.SVN_DIR_NAME.equals(file.getName());
+    }
+
+    protected boolean isValidFileToMonitor(File file, Collection<String> fileExtensions) {
+        String name = file.getName();
+        String path = file.getAbsolutePath();
+        boolean isSvnFile = path.indexOf(File.separator + DirectoryWatcher.SVN_DIR_NAME + File.separator) > 0;
+        return !isSvnFile &&
+                !file.isHidden() &&
+                !name.startsWith(".") &&
+                (fileExtensions.contains("*") || fileExtensions.contains(StringUtils.getFilenameExtension(name)));
+    }
+
+    static String removeStartingDotIfPresent(String extension) {
+        if (extension.startsWith(".")) {
+            extension = extension.substring(1);
+        }
+        return extension;
+    }
+}
@@ -20,33 +20,77 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
 /**
  * Utility class to watch directories for changes.
  *
+ * Changes are detected with a {@link java.nio.file.WatchService} when running on Java 7 or above
+ * (see <code>WatchServiceDirectoryWatcher</code>, which is compiled for Java 7), otherwise by polling the watched files
+ * (see {@link PollingDirectoryWatcher}). Set the system property <code>grails.reload.watchService</code>
+ * to <code>false</code> to always poll, or to <code>true</code> to use the WatchService on Mac OS X, where the
+ * JDK implementation of it polls as well.
+ *
  * @author Graeme Rocher
  * @since 2.0
  */
 public class DirectoryWatcher extends Thread {
 
+    private static final Log LOG = LogFactory.getLog(DirectoryWatcher.class);
+
     public static final String SVN_DIR_NAME = ".svn";
-    protected Collection<String> extensions = new ConcurrentLinkedQueue<String>();
-    private List<FileChangeListener> listeners = new ArrayList<FileChangeListener>();
+    public static final String WATCH_SERVICE_ENABLED = "grails.reload.watchService";
+    private static final String WATCH_SERVICE_CLASS = "java.nio.file.WatchService";
+    private static final String WATCH_SERVICE_WATCHER_CLASS = "org.codehaus.groovy.grails.compiler.WatchServiceDirectoryWatcher";
 
-    private Map<File, Long> lastModifiedMap = new ConcurrentHashMap<File, Long>();
-    private Map<File, Collection<String>> directoryToExtensionsMap = new ConcurrentHashMap<File, Collection<String>>();
-    private Map<File, Long> directoryWatch = new ConcurrentHashMap<File, Long>();
-    private boolean active = true;
-    private long sleepTime = 3000;
+    private final AbstractDirectoryWatcher directoryWatcherDelegate;
+
+    /**
+     * The extensions of all watched directories
+     *
+     * @deprecated Kept for subclasses, watch directories with {@link #addWatchDirectory(File, List)}
+     */
+    @Deprecated
+    protected Collection<String> extensions;
 
     public DirectoryWatcher() {
         setDaemon(true);
+        directoryWatcherDelegate = createDirectoryWatcherDelegate();
+        extensions = directoryWatcherDelegate.getExtensions();
+    }
+
+    private static AbstractDirectoryWatcher createDirectoryWatcherDelegate() {
+        if (isWatchServiceEnabled()) {
+            try {
+                return (AbstractDirectoryWatcher)ClassUtils.forName(WATCH_SERVICE_WATCHER_CLASS,
+                        DirectoryWatcher.class.getClassLoader()).newInstance();
+            } catch (Throwable e) {
+                LOG.debug("Cannot use WatchService to watch for changes, polling instead: " + e.getMessage(), e);
+            }
+        }
+        return new PollingDirectoryWatcher();
+    }
+
+    private static boolean isWatchServiceEnabled() {
+        if (!ClassUtils.isPresent(WATCH_SERVICE_CLASS, DirectoryWatcher.class.getClassLoader())) {
+            return false;
+        }
+        String enabled = System.getProperty(WATCH_SERVICE_ENABLED);
+        if (enabled != null) {
+            return Boolean.valueOf(enabled);
+        }
+        return !System.getProperty("os.name", "").toLowerCase().contains("mac");
+    }
+
+    /**
+     * @return true if changes are detected with a WatchService and a file is only reported once it stopped changing
+     */
+    public boolean isCoalescingEvents() {
+        return directoryWatcherDelegate.isCoalescingEvents();
     }
 
     /**
@@ -55,7 +99,7 @@ public class DirectoryWatcher extends Thread {
      * @param active False if you want to stop watching
      */
     public void setActive(boolean active) {
-        this.active = active;
+        directoryWatcherDelegate.setActive(active);
     }
 
     /**
@@ -64,7 +108,7 @@ public class DirectoryWatcher extends Thread {
      * @param sleepTime The sleep time
      */
     public void setSleepTime(long sleepTime) {
-        this.sleepTime = sleepTime;
+        directoryWatcherDelegate.setSleepTime(sleepTime);
     }
 
     /**
@@ -73,7 +117,7 @@ public class DirectoryWatcher extends Thread {
      * @param listener The file listener
      */
     public void addListener(FileChangeListener listener) {
-        listeners.add(listener);
+        directoryWatcherDelegate.addListener(listener);
     }
 
     /**
@@ -82,7 +126,7 @@ public class DirectoryWatcher extends Thread {
      * @param fileToWatch The file to watch
      */
     public void addWatchFile(File fileToWatch) {
-        lastModifiedMap.put(fileToWatch, fileToWatch.lastModified());
+        directoryWatcherDelegate.addWatchFile(fileToWatch);
     }
 
     /**
@@ -92,18 +136,17 @@ public class DirectoryWatcher extends Thread {
      * @param fileExtensions The extensions
      */
     public void addWatchDirectory(File dir, List<String> fileExtensions) {
-        trackDirectoryExtensions(dir, fileExtensions);
-        cacheFilesForDirectory(dir, fileExtensions, false);
+        directoryWatcherDelegate.addWatchDirectory(dir, fileExtensions);
     }
 
+    /**
+     * Watches the directory for the given extensions.
+     *
+     * @deprecated Use {@link #addWatchDirectory(File, List)}, which this method calls
+     */
+    @Deprecated
     protected void trackDirectoryExtensions(File dir, List<String> fileExtensions) {
-        Collection<String> existingExtensions = directoryToExtensionsMap.get(dir);
-        if(existingExtensions == null) {
-            directoryToExtensionsMap.put(dir, fileExtensions);
-        }
-        else {
-            existingExtensions.addAll(fileExtensions);
-        }
+        directoryWatcherDelegate.addWatchDirectory(dir, fileExtensions);
     }
 
     /**
@@ -113,7 +156,7 @@ public class DirectoryWatcher extends Thread {
      * @param extension The extension
      */
     public void addWatchDirectory(File dir, String extension) {
-        extension = removeStartingDotIfPresent(extension);
+        extension = AbstractDirectoryWatcher.removeStartingDotIfPresent(extension);
         List<String> fileExtensions = new ArrayList<String>();
         if (!StringUtils.hasText(extension)) {
             fileExtensions.add("*");
@@ -121,8 +164,7 @@ public class DirectoryWatcher extends Thread {
         else {
             fileExtensions.add(extension);
         }
-        trackDirectoryExtensions(dir, fileExtensions);
-        cacheFilesForDirectory(dir, fileExtensions, false);
+        directoryWatcherDelegate.addWatchDirectory(dir, fileExtensions);
     }
 
     /**
@@ -146,99 +188,6 @@ public class DirectoryWatcher extends Thread {
 
     @Override
     public void run() {
-        int count = 0;
-        while (active) {
-            Set<File> files = lastModifiedMap.keySet();
-            for (File file : files) {
-                long currentLastModified = file.lastModified();
-                Long cachedTime = lastModifiedMap.get(file);
-                if (currentLastModified > cachedTime) {
-                    lastModifiedMap.put(file, currentLastModified);
-                    fireOnChange(file);
-                }
-            }
-            try {
-                count++;
-                if (count > 2) {
-                    count = 0;
-                    checkForNewFiles();
-                }
-                sleep(sleepTime);
-            } catch (InterruptedException e) {
-                // ignore
-            }
-        }
-    }
-
-    private void fireOnChange(File file) {
-        for (FileChangeListener listener : listeners) {
-            listener.onChange(file);
-        }
-    }
-
-    private void checkForNewFiles() {
-        for (File directory : directoryWatch.keySet()) {
-            final Long currentTimestamp = directoryWatch.get(directory);
-
-            if (currentTimestamp < directory.lastModified()) {
-                Collection<String> extensions = directoryToExtensionsMap.get(directory);
-                if(extensions == null) {
-                    extensions = this.extensions;
-                }
-                cacheFilesForDirectory(directory, extensions, true);
-            }
-        }
-    }
-
-    private void cacheFilesForDirectory(File directory, Collection<String> fileExtensions, boolean fireEvent) {
-        addExtensions(fileExtensions);
-
-        directoryWatch.put(directory, directory.lastModified());
-        File[] files = directory.listFiles();
-        if (files == null) {
-            return;
-        }
-
-        for (File file : files) {
-            if (file.isDirectory() && !file.isHidden()) {
-                if (!SVN_DIR_NAME.equals(file.getName())) {
-                    cacheFilesForDirectory(file, fileExtensions, fireEvent);
-                }
-            }
-            else if (isValidFileToMonitor(file, fileExtensions)) {
-                if (!lastModifiedMap.containsKey(file) && fireEvent) {
-                    for (FileChangeListener listener : listeners) {
-                        listener.onNew(file);
-                    }
-                }
-                lastModifiedMap.put(file, file.lastModified());
-            }
-        }
-    }
-
-    private void addExtensions(Collection<String> toAdd) {
-        for (String extension : toAdd) {
-            extension = removeStartingDotIfPresent(extension);
-            if (!extensions.contains(extension)) {
-                extensions.add(extension);
-            }
-        }
-    }
-
-    private String removeStartingDotIfPresent(String extension) {
-        if (extension.startsWith(".")) {
-            extension = extension.substring(1);
-        }
-        return extension;
-    }
-
-    private boolean isValidFileToMonitor(File file, Collection<String> fileExtensions) {
-        String name = file.getName();
-        String path = file.getAbsolutePath();
-        boolean isSvnFile = path.indexOf(File.separator + SVN_DIR_NAME + File.separator) > 0;
-        return !isSvnFile &&
-                !file.isHidden() &&
-                !file.getName().startsWith(".") &&
-                (fileExtensions.contains("*") || fileExtensions.contains(StringUtils.getFilenameExtension(name)));
+        directoryWatcherDelegate.run();
     }
 }
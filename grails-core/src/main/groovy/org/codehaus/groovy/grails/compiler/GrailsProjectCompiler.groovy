@@ -387,6 +387,8 @@ class GrailsProjectCompiler extends BaseSettingsApi{
      */
     void compileGroovyPages(String grailsAppName, classesDir = targetClassesDir) {
         final ant = getAnt()
+        // GSP tag handles are enabled with the 'grails.views.gsp.tagHandles' option in BuildConfig
+        boolean tagHandles = buildSettings.config?.grails?.views?.gsp?.tagHandles as boolean
         ant.taskdef (name: 'gspc', classname : 'org.codehaus.groovy.grails.web.pages.GroovyPageCompilerTask')
         // compile gsps in grails-app/views directory
         File gspTmpDir = new File(buildSettings.projectWorkDir, "gspcompile")
@@ -395,6 +397,7 @@ class GrailsProjectCompiler extends BaseSettingsApi{
                  packagename:GrailsNameUtils.getPropertyNameForLowerCaseHyphenSeparatedName(grailsAppName),
                  serverpath:"/WEB-INF/grails-app/views/",
                  classpathref:"grails.compile.classpath",
+                 taghandles:tagHandles,
                  tmpdir:gspTmpDir)
 
         // compile gsps in web-app directory
@@ -403,6 +406,7 @@ class GrailsProjectCompiler extends BaseSettingsApi{
                  packagename: GrailsNameUtils.getPropertyNameForLowerCaseHyphenSeparatedName(grailsAppName) + "_webapp",
                  serverpath:"/",
                  classpathref:"grails.compile.classpath",
+                 taghandles:tagHandles,
                  tmpdir:gspTmpDir)
 
         // compile views in plugins
@@ -417,6 +421,7 @@ class GrailsProjectCompiler extends BaseSettingsApi{
                              packagename:GrailsNameUtils.getPropertyNameForLowerCaseHyphenSeparatedName(info.name),
                              serverpath:viewPrefix,
                              classpathref:"grails.compile.classpath",
+                             taghandles:tagHandles,
                              tmpdir:gspTmpDir)
                 }
             }
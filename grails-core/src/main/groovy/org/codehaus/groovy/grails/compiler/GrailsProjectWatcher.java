@@ -160,8 +160,9 @@ public class GrailsProjectWatcher extends DirectoryWatcher {
                 if (fileIsReloadable(file)) {
                     LOG.info("File [" + file + "] added. Applying changes to application.");
                     String fileName = file.getName();
-                    if (fileName.endsWith(".groovy") || fileName.endsWith(".java")) {
-                        // only sleep for source files, not i18n files
+                    if (!isCoalescingEvents() && (fileName.endsWith(".groovy") || fileName.endsWith(".java"))) {
+                        // only sleep for source files, not i18n files. Not needed if new files are
+                        // only reported once they stopped changing
                         sleep(5000);
                     }
 
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.compiler;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detects changes by checking the last modified time of every watched file every <code>sleepTime</code>
+ * milliseconds, and by listing the watched directories for new files every third check.
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public class PollingDirectoryWatcher extends AbstractDirectoryWatcher {
+
+    private Map<File, Long> lastModifiedMap = new ConcurrentHashMap<File, Long>();
+    private Map<File, Collection<String>> directoryToExtensionsMap = new ConcurrentHashMap<File, Collection<String>>();
+    private Map<File, Long> directoryWatch = new ConcurrentHashMap<File, Long>();
+
+    @Override
+    public void addWatchFile(File fileToWatch) {
+        lastModifiedMap.put(fileToWatch, fileToWatch.lastModified());
+    }
+
+    @Override
+    public void addWatchDirectory(File dir, List<String> fileExtensions) {
+        trackDirectoryExtensions(dir, fileExtensions);
+        cacheFilesForDirectory(dir, fileExtensions, false);
+    }
+
+    private void trackDirectoryExtensions(File dir, List<String> fileExtensions) {
+        Collection<String> existingExtensions = directoryToExtensionsMap.get(dir);
+        if (existingExtensions == null) {
+            directoryToExtensionsMap.put(dir, fileExtensions);
+        }
+        else {
+            existingExtensions.addAll(fileExtensions);
+        }
+    }
+
+    public void run() {
+        int count = 0;
+        while (active) {
+            Set<File> files = lastModifiedMap.keySet();
+            for (File file : files) {
+                long currentLastModified = file.lastModified();
+                Long cachedTime = lastModifiedMap.get(file);
+                if (currentLastModified > cachedTime) {
+                    lastModifiedMap.put(file, currentLastModified);
+                    fireOnChange(file);
+                }
+            }
+            try {
+                count++;
+                if (count > 2) {
+                    count = 0;
+                    checkForNewFiles();
+                }
+                Thread.sleep(sleepTime);
+            } catch (InterruptedException e) {
+                // ignore
+            }
+        }
+    }
+
+    private void checkForNewFiles() {
+        for (File directory : directoryWatch.keySet()) {
+            final Long currentTimestamp = directoryWatch.get(directory);
+
+            if (currentTimestamp < directory.lastModified()) {
+                Collection<String> extensions = directoryToExtensionsMap.get(directory);
+                if (extensions == null) {
+                    extensions = this.extensions;
+                }
+                cacheFilesForDirectory(directory, extensions, true);
+            }
+        }
+    }
+
+    private void cacheFilesForDirectory(File directory, Collection<String> fileExtensions, boolean fireEvent) {
+        addExtensions(fileExtensions);
+
+        directoryWatch.put(directory, directory.lastModified());
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            if (file.isDirectory() && !file.isHidden()) {
+                if (!DirectoryWatcher.SVN_DIR_NAME.equals(file.getName())) {
+                    cacheFilesForDirectory(file, fileExtensions, fireEvent);
+                }
+            }
+            else if (isValidFileToMonitor(file, fileExtensions)) {
+                if (!lastModifiedMap.containsKey(file) && fireEvent) {
+                    fireOnNew(file);
+                }
+                lastModifiedMap.put(file, file.lastModified());
+            }
+        }
+    }
+}
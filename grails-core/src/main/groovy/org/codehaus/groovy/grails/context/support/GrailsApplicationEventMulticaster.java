@@ -0,0 +1,104 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.context.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+
+/**
+ * An application event multicaster that exposes the listeners that an event would be delivered to, so that
+ * high volume events (such as the GORM persistence events) can be dispatched through an index of listeners
+ * built once per event type. The registration count changes whenever a listener is added or removed, which
+ * invalidates such indexes.
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public class GrailsApplicationEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    private final AtomicInteger registrationCount = new AtomicInteger();
+    private volatile boolean synchronous = true;
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public void addApplicationListener(ApplicationListener listener) {
+        super.addApplicationListener(listener);
+        registrationCount.incrementAndGet();
+    }
+
+    @Override
+    public void addApplicationListenerBean(String listenerBeanName) {
+        super.addApplicationListenerBean(listenerBeanName);
+        registrationCount.incrementAndGet();
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public void removeApplicationListener(ApplicationListener listener) {
+        super.removeApplicationListener(listener);
+        registrationCount.incrementAndGet();
+    }
+
+    @Override
+    public void removeApplicationListenerBean(String listenerBeanName) {
+        super.removeApplicationListenerBean(listenerBeanName);
+        registrationCount.incrementAndGet();
+    }
+
+    @Override
+    public void removeAllListeners() {
+        super.removeAllListeners();
+        registrationCount.incrementAndGet();
+    }
+
+    @Override
+    public void setTaskExecutor(Executor taskExecutor) {
+        super.setTaskExecutor(taskExecutor);
+        synchronous = taskExecutor == null;
+    }
+
+    /**
+     * @return The number of listener registrations and removals so far
+     */
+    public int getRegistrationCount() {
+        return registrationCount.get();
+    }
+
+    /**
+     * @return true if listeners are invoked in the thread that publishes the event
+     */
+    public boolean isSynchronous() {
+        return synchronous;
+    }
+
+    /**
+     * Returns the listeners the given event would be delivered to, in the order they would be invoked.
+     *
+     * @param event The event
+     * @return The listeners
+     */
+    @SuppressWarnings("rawtypes")
+    public List<ApplicationListener> getListeners(ApplicationEvent event) {
+        return new ArrayList<ApplicationListener>((Collection)getApplicationListeners(event));
+    }
+}
@@ -43,6 +43,7 @@ import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A ReloadableResourceBundleMessageSource that is capable of loading message sources from plugins.
@@ -61,6 +62,8 @@ public class PluginAwareResourceBundleMessageSource extends ReloadableResourceBu
     private ResourceLoader localResourceLoader;
     private PathMatchingResourcePatternResolver resourceResolver;
     private Map<Locale, PropertiesHolder> cachedMergedPluginProperties = new ConcurrentHashMap<Locale, PropertiesHolder>();
+    private final Map<Locale, PluginMessages> cachedMergedPluginMessages = new ConcurrentHashMap<Locale, PluginMessages>();
+    private final Map<Locale, PluginMessages> cachedBinaryPluginMessages = new ConcurrentHashMap<Locale, PluginMessages>();
     private int pluginCacheMillis = -1;
 	private final PluginBuildSettings pluginBuildSettings = GrailsPluginUtils.getPluginBuildSettings();
 
@@ -83,6 +86,8 @@ public class PluginAwareResourceBundleMessageSource extends ReloadableResourceBu
     public void afterPropertiesSet() throws Exception {
         if (pluginManager != null && localResourceLoader != null) {
 
+            Set<Locale> bundleLocales = new LinkedHashSet<Locale>();
+            bundleLocales.add(Locale.getDefault());
             GrailsPlugin[] plugins = pluginManager.getAllPlugins();
             for (GrailsPlugin plugin : plugins) {
                 Resource[] pluginBundles;
@@ -100,6 +105,18 @@ public class PluginAwareResourceBundleMessageSource extends ReloadableResourceBu
 					}
 
 					pluginBaseNames.add(basePath + "/grails-app/i18n/" + baseName);
+
+                    String localeSuffix = StringUtils.substringAfter(FilenameUtils.getBaseName(pluginBundle.getFilename()), "_");
+                    if (localeSuffix.length() > 0) {
+                        bundleLocales.add(org.springframework.util.StringUtils.parseLocaleString(localeSuffix));
+                    }
+                }
+            }
+
+            // build the index of plugin messages for the locales known up front, rather than on the first request
+            if (pluginCacheMillis < 0) {
+                for (Locale locale : bundleLocales) {
+                    getMergedPluginMessages(locale);
                 }
             }
         }
@@ -201,7 +218,10 @@ public class PluginAwareResourceBundleMessageSource extends ReloadableResourceBu
      * <p>Only used when caching resource bundle contents forever, i.e.
      * with cacheSeconds < 0. Therefore, merged properties are always
      * cached forever.
+     *
+     * @deprecated Messages are resolved from {@link #getMergedPluginMessages(Locale)}
      */
+    @Deprecated
     protected PropertiesHolder getMergedPluginProperties(Locale locale) {
         PropertiesHolder mergedHolder = cachedMergedPluginProperties.get(locale);
         if (mergedHolder != null) {
@@ -234,6 +254,85 @@ public class PluginAwareResourceBundleMessageSource extends ReloadableResourceBu
         return mergedHolder;
     }
 
+    /**
+     * Returns the messages of all plugins for a Locale, merged the same way as
+     * {@link #getMergedPluginProperties(Locale)}, building them on first use.
+     * Only used when caching resource bundle contents forever, i.e. with cacheSeconds < 0.
+     */
+    protected PluginMessages getMergedPluginMessages(Locale locale) {
+        PluginMessages messages = cachedMergedPluginMessages.get(locale);
+        if (messages != null) {
+            return messages;
+        }
+
+        Map<String, String> mergedMessages = new HashMap<String, String>();
+        for (String basename : pluginBaseNames) {
+            List<String> filenames = calculateAllFilenames(basename, locale);
+            for (int j = filenames.size() - 1; j >= 0; j--) {
+                String filename = filenames.get(j);
+                PropertiesHolder propHolder = getProperties(filename);
+                if (propHolder.getProperties() != null) {
+                    putAll(mergedMessages, propHolder.getProperties(), true);
+                }
+            }
+        }
+        if (pluginManager != null) {
+            for (GrailsPlugin plugin : pluginManager.getAllPlugins()) {
+                if (plugin instanceof BinaryGrailsPlugin) {
+                    final Properties binaryPluginProperties = ((BinaryGrailsPlugin) plugin).getProperties(locale);
+                    if (binaryPluginProperties != null) {
+                        putAll(mergedMessages, binaryPluginProperties, true);
+                    }
+                }
+            }
+        }
+        messages = new PluginMessages(mergedMessages, locale);
+        cachedMergedPluginMessages.put(locale, messages);
+        return messages;
+    }
+
+    /**
+     * Returns the messages of the binary plugins for a Locale, where the first plugin that defines a code wins.
+     * Binary plugins are packaged in jars, so their messages are cached forever regardless of cacheSeconds.
+     */
+    protected PluginMessages getBinaryPluginMessages(Locale locale) {
+        PluginMessages messages = cachedBinaryPluginMessages.get(locale);
+        if (messages != null) {
+            return messages;
+        }
+
+        Map<String, String> binaryMessages = new HashMap<String, String>();
+        if (pluginManager != null) {
+            for (GrailsPlugin plugin : pluginManager.getAllPlugins()) {
+                if (plugin instanceof BinaryGrailsPlugin) {
+                    final Properties binaryPluginProperties = ((BinaryGrailsPlugin) plugin).getProperties(locale);
+                    if (binaryPluginProperties != null) {
+                        putAll(binaryMessages, binaryPluginProperties, false);
+                    }
+                }
+            }
+        }
+        messages = new PluginMessages(binaryMessages, locale);
+        cachedBinaryPluginMessages.put(locale, messages);
+        return messages;
+    }
+
+    private static void putAll(Map<String, String> messages, Properties properties, boolean override) {
+        for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+            if (override || !messages.containsKey(entry.getKey())) {
+                messages.put((String) entry.getKey(), (String) entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public void clearCache() {
+        super.clearCache();
+        cachedMergedPluginProperties.clear();
+        cachedMergedPluginMessages.clear();
+        cachedBinaryPluginMessages.clear();
+    }
+
     @Override
     public void setCacheSeconds(int cacheSeconds) {
         pluginCacheMillis = (cacheSeconds * 1000);
@@ -249,37 +348,13 @@ public class PluginAwareResourceBundleMessageSource extends ReloadableResourceBu
      */
     protected String resolveCodeWithoutArgumentsFromPlugins(String code, Locale locale) {
         if (pluginCacheMillis < 0) {
-            PropertiesHolder propHolder = getMergedPluginProperties(locale);
-            String result = propHolder.getProperty(code);
-            if (result != null) {
-                return result;
-            }
+            return getMergedPluginMessages(locale).getMessage(code);
         }
-        else {
-            String result = findMessageInSourcePlugins(code, locale);
-            if (result != null) return result;
-
-            result = findCodeInBinaryPlugins(code, locale);
-            if (result != null) return result;
 
-        }
-        return null;
-    }
+        String result = findMessageInSourcePlugins(code, locale);
+        if (result != null) return result;
 
-    private String findCodeInBinaryPlugins(String code, Locale locale) {
-        String result = null;
-        final GrailsPlugin[] allPlugins = pluginManager.getAllPlugins();
-        for (GrailsPlugin plugin : allPlugins) {
-            if (plugin instanceof BinaryGrailsPlugin) {
-                BinaryGrailsPlugin binaryPlugin = (BinaryGrailsPlugin) plugin;
-                final Properties binaryPluginProperties = binaryPlugin.getProperties(locale);
-                if (binaryPluginProperties != null) {
-                    result = binaryPluginProperties.getProperty(code);
-                    if (result != null) break;
-                }
-            }
-        }
-        return result;
+        return getBinaryPluginMessages(locale).getMessage(code);
     }
 
     private String findMessageInSourcePlugins(String code, Locale locale) {
@@ -295,25 +370,6 @@ public class PluginAwareResourceBundleMessageSource extends ReloadableResourceBu
         return result;
     }
 
-    private MessageFormat findMessageFormatInBinaryPlugins(String code, Locale locale) {
-        MessageFormat result = null;
-        final GrailsPlugin[] allPlugins = pluginManager.getAllPlugins();
-        for (GrailsPlugin plugin : allPlugins) {
-            if (plugin instanceof BinaryGrailsPlugin) {
-                BinaryGrailsPlugin binaryPlugin = (BinaryGrailsPlugin) plugin;
-                final Properties binaryPluginProperties = binaryPlugin.getProperties(locale);
-                if (binaryPluginProperties != null) {
-                    String foundCode = binaryPluginProperties.getProperty(code);
-                    if (foundCode != null) {
-                        result = new MessageFormat(foundCode, locale);
-                    }
-                    if (result != null) return result;
-                }
-            }
-        }
-        return result;
-    }
-
     private MessageFormat findMessageFormatInSourcePlugins(String code, Locale locale) {
         MessageFormat result = null;
         for (String pluginBaseName : pluginBaseNames) {
@@ -336,20 +392,13 @@ public class PluginAwareResourceBundleMessageSource extends ReloadableResourceBu
      */
     protected MessageFormat resolveCodeFromPlugins(String code, Locale locale) {
         if (pluginCacheMillis < 0) {
-            PropertiesHolder propHolder = getMergedPluginProperties(locale);
-            MessageFormat result = propHolder.getMessageFormat(code, locale);
-            if (result != null) {
-                return result;
-            }
+            return getMergedPluginMessages(locale).getMessageFormat(code);
         }
-        else {
-            MessageFormat result = findMessageFormatInSourcePlugins(code, locale);
-            if (result != null) return result;
 
-            result = findMessageFormatInBinaryPlugins(code, locale);
-            if (result != null) return result;
-        }
-        return null;
+        MessageFormat result = findMessageFormatInSourcePlugins(code, locale);
+        if (result != null) return result;
+
+        return getBinaryPluginMessages(locale).getMessageFormat(code);
     }
 
     @Override
@@ -379,4 +428,41 @@ public class PluginAwareResourceBundleMessageSource extends ReloadableResourceBu
         super.setResourceLoader(localResourceLoader);
         resourceResolver = new PathMatchingResourcePatternResolver(localResourceLoader);
     }
+
+    /**
+     * The plugin messages of a Locale. The messages are never modified once built, so they are
+     * read without locking, and the MessageFormat of each code is created once and then shared;
+     * AbstractMessageSource synchronizes on a MessageFormat while formatting with it.
+     */
+    protected class PluginMessages {
+
+        private final Map<String, String> messages;
+        private final Locale locale;
+        private final ConcurrentMap<String, MessageFormat> messageFormats = new ConcurrentHashMap<String, MessageFormat>();
+
+        protected PluginMessages(Map<String, String> messages, Locale locale) {
+            this.messages = messages;
+            this.locale = locale;
+        }
+
+        public String getMessage(String code) {
+            return messages.get(code);
+        }
+
+        public MessageFormat getMessageFormat(String code) {
+            MessageFormat result = messageFormats.get(code);
+            if (result == null) {
+                String msg = messages.get(code);
+                if (msg == null) {
+                    return null;
+                }
+                result = createMessageFormat(msg, locale);
+                MessageFormat existing = messageFormats.putIfAbsent(code, result);
+                if (existing != null) {
+                    result = existing;
+                }
+            }
+            return result;
+        }
+    }
 }
@@ -62,6 +62,8 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
     private static final Log LOG = LogFactory.getLog(AbstractGrailsPluginManager.class);
     private static final String BLANK = "";
     public static final String CONFIG_FILE = "Config";
+    public static final String CONFIG_PARALLEL_PHASES = "grails.plugins.parallel.enabled";
+    public static final String CONFIG_PARALLEL_POOL_SIZE = "grails.plugins.parallel.poolSize";
     protected List<GrailsPlugin> pluginList = new ArrayList<GrailsPlugin>();
     protected GrailsApplication application;
     protected Resource[] pluginResources = new Resource[0];
@@ -73,6 +75,7 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
     protected ApplicationContext applicationContext;
     protected Map<String, GrailsPlugin> failedPlugins = new HashMap<String, GrailsPlugin>();
     protected boolean loadCorePlugins = true;
+    protected final PluginPhaseScheduler phaseScheduler = new PluginPhaseScheduler();
 
     public AbstractGrailsPluginManager(GrailsApplication application) {
         Assert.notNull(application, "Argument [application] cannot be null!");
@@ -106,6 +109,35 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
         Assert.state(initialised, "Must call loadPlugins() before invoking configurational methods on GrailsPluginManager");
     }
 
+    /**
+     * @return The scheduler that runs the plugin phases and records their timings
+     */
+    public PluginPhaseScheduler getPhaseScheduler() {
+        return phaseScheduler;
+    }
+
+    /**
+     * The number of threads used to run the phases that may run in parallel (doWithDynamicMethods and the artefact
+     * configuration). Parallel phases are disabled unless <code>grails.plugins.parallel.enabled</code> is set, as
+     * plugins that change shared meta classes without declaring an order between them could interfere.
+     *
+     * @return The pool size, 1 or less if the phases run one plugin after another
+     */
+    protected int getParallelPhasePoolSize() {
+        if (application == null) {
+            return 1;
+        }
+        Map<String, Object> config = application.getFlatConfig();
+        if (config == null || !DefaultGroovyMethods.asBoolean(config.get(CONFIG_PARALLEL_PHASES))) {
+            return 1;
+        }
+        Object poolSize = config.get(CONFIG_PARALLEL_POOL_SIZE);
+        if (poolSize instanceof Number) {
+            return ((Number)poolSize).intValue();
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
     public GrailsPlugin getFailedPlugin(String name) {
         if (name.indexOf('-') > -1) {
             name = GrailsNameUtils.getPropertyNameForLowerCaseHyphenSeparatedName(name);
@@ -117,13 +149,16 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
      * Base implementation that simply goes through the list of plugins and calls doWithRuntimeConfiguration on each
      * @param springConfig The RuntimeSpringConfiguration instance
      */
-    public void doRuntimeConfiguration(RuntimeSpringConfiguration springConfig) {
+    public void doRuntimeConfiguration(final RuntimeSpringConfiguration springConfig) {
         checkInitialised();
-        for (GrailsPlugin plugin : pluginList) {
-            if (plugin.supportsCurrentScopeAndEnvironment()) {
-                plugin.doWithRuntimeConfiguration(springConfig);
+        // bean definitions of later plugins override earlier ones, so this always runs in plugin order
+        phaseScheduler.runSequentially(PluginPhaseScheduler.DO_WITH_SPRING, pluginList, new PluginPhaseScheduler.PluginCallback() {
+            public void doWithPlugin(GrailsPlugin plugin) {
+                if (plugin.supportsCurrentScopeAndEnvironment()) {
+                    plugin.doWithRuntimeConfiguration(springConfig);
+                }
             }
-        }
+        });
     }
 
     /**
@@ -170,13 +205,15 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
     /**
      * Base implementation that will simply go through each plugin and call doWithApplicationContext on each.
      */
-    public void doPostProcessing(ApplicationContext ctx) {
+    public void doPostProcessing(final ApplicationContext ctx) {
         checkInitialised();
-        for (GrailsPlugin plugin : pluginList) {
-            if (plugin.supportsCurrentScopeAndEnvironment()) {
-                plugin.doWithApplicationContext(ctx);
+        phaseScheduler.runSequentially(PluginPhaseScheduler.DO_WITH_APPLICATION_CONTEXT, pluginList, new PluginPhaseScheduler.PluginCallback() {
+            public void doWithPlugin(GrailsPlugin plugin) {
+                if (plugin.supportsCurrentScopeAndEnvironment()) {
+                    plugin.doWithApplicationContext(ctx);
+                }
             }
-        }
+        });
     }
 
     public Resource[] getPluginResources() {
@@ -220,9 +257,12 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
                 ExpandoMetaClass emc = new ExpandoMetaClass(c, true, true);
                 emc.initialize();
             }
-            for (GrailsPlugin plugin : pluginList) {
-                plugin.doWithDynamicMethods(applicationContext);
-            }
+            phaseScheduler.runInParallel(PluginPhaseScheduler.DO_WITH_DYNAMIC_METHODS, pluginList, getParallelPhasePoolSize(),
+                    new PluginPhaseScheduler.PluginCallback() {
+                        public void doWithPlugin(GrailsPlugin plugin) {
+                            plugin.doWithDynamicMethods(applicationContext);
+                        }
+                    });
         }
     }
 
@@ -262,11 +302,14 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
 
     public void doArtefactConfiguration() {
         checkInitialised();
-        for (GrailsPlugin plugin : pluginList) {
-            if (plugin.supportsCurrentScopeAndEnvironment()) {
-                plugin.doArtefactConfiguration();
-            }
-        }
+        phaseScheduler.runInParallel(PluginPhaseScheduler.DO_ARTEFACT_CONFIGURATION, pluginList, getParallelPhasePoolSize(),
+                new PluginPhaseScheduler.PluginCallback() {
+                    public void doWithPlugin(GrailsPlugin plugin) {
+                        if (plugin.supportsCurrentScopeAndEnvironment()) {
+                            plugin.doArtefactConfiguration();
+                        }
+                    }
+                });
     }
 
     public void shutdown() {
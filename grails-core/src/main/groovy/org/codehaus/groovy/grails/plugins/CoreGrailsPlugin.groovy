@@ -22,17 +22,20 @@ import org.codehaus.groovy.grails.commons.cfg.MapBasedSmartPropertyOverrideConfi
 import org.codehaus.groovy.grails.commons.spring.DefaultRuntimeSpringConfiguration
 import org.codehaus.groovy.grails.commons.spring.GrailsRuntimeConfigurator
 import org.codehaus.groovy.grails.commons.spring.RuntimeSpringConfiguration
+import org.codehaus.groovy.grails.context.support.GrailsApplicationEventMulticaster
 import org.codehaus.groovy.grails.core.io.DefaultResourceLocator
 import org.codehaus.groovy.grails.plugins.support.aware.GrailsApplicationAwareBeanPostProcessor
 import org.codehaus.groovy.grails.plugins.support.aware.PluginManagerAwareBeanPostProcessor
 import org.codehaus.groovy.grails.support.ClassEditor
 import org.codehaus.groovy.grails.support.DevelopmentShutdownHook
+import org.codehaus.groovy.grails.support.StartupTimeline
 import org.codehaus.groovy.grails.support.proxy.DefaultProxyHandler
 import org.springframework.beans.factory.config.CustomEditorConfigurer
 import org.springframework.beans.factory.config.MethodInvokingFactoryBean
 import org.springframework.beans.factory.support.DefaultListableBeanFactory
 import org.springframework.beans.factory.xml.XmlBeanDefinitionReader
 import org.springframework.core.io.Resource
+import org.springframework.jmx.export.MBeanExporter
 import grails.util.*
 
 /**
@@ -112,6 +115,17 @@ class CoreGrailsPlugin {
         }
 
         proxyHandler(DefaultProxyHandler)
+
+        // exposes the listeners per event type, used to dispatch GORM persistence events
+        applicationEventMulticaster(GrailsApplicationEventMulticaster)
+
+        // exposes the startup timeline over JMX
+        if (grailsConfig.startup.timeline.jmx != false) {
+            startupTimelineExporter(MBeanExporter) {
+                beans = [(StartupTimeline.getObjectName(application.metadata?.getApplicationName()).toString()): StartupTimeline.instance]
+                registrationBehaviorName = "REGISTRATION_REPLACE_EXISTING"
+            }
+        }
     }
 
     def doWithDynamicMethods = {
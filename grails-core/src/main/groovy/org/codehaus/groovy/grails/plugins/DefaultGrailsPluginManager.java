@@ -252,6 +252,7 @@ public class DefaultGrailsPluginManager extends AbstractGrailsPluginManager {
             return;
         }
 
+        long start = System.currentTimeMillis();
         ClassLoader gcl = application.getClassLoader();
 
         attemptLoadPlugins(gcl);
@@ -266,6 +267,7 @@ public class DefaultGrailsPluginManager extends AbstractGrailsPluginManager {
         pluginList = sortPlugins(pluginList);
         initializePlugins();
         initialised = true;
+        phaseScheduler.recordPhase(PluginPhaseScheduler.LOAD_PLUGINS, System.currentTimeMillis() - start);
     }
 
     private List<GrailsPlugin> sortPlugins(List<GrailsPlugin> toSort) {
@@ -735,16 +737,19 @@ public class DefaultGrailsPluginManager extends AbstractGrailsPluginManager {
         for (Class<?> COMMON_CLASS : COMMON_CLASSES) {
             registry.removeMetaClass(COMMON_CLASS);
         }
-        for (GrailsPlugin plugin : pluginList) {
-            if (plugin.supportsCurrentScopeAndEnvironment()) {
-                try {
-                    plugin.doWithDynamicMethods(applicationContext);
-                }
-                catch (Throwable t) {
-                    LOG.error("Error configuring dynamic methods for plugin " + plugin + ": " + t.getMessage(), t);
-                }
-            }
-        }
+        phaseScheduler.runInParallel(PluginPhaseScheduler.DO_WITH_DYNAMIC_METHODS, pluginList, getParallelPhasePoolSize(),
+                new PluginPhaseScheduler.PluginCallback() {
+                    public void doWithPlugin(GrailsPlugin plugin) {
+                        if (plugin.supportsCurrentScopeAndEnvironment()) {
+                            try {
+                                plugin.doWithDynamicMethods(applicationContext);
+                            }
+                            catch (Throwable t) {
+                                LOG.error("Error configuring dynamic methods for plugin " + plugin + ": " + t.getMessage(), t);
+                            }
+                        }
+                    }
+                });
     }
 
     public void setServletContext(ServletContext servletContext) {
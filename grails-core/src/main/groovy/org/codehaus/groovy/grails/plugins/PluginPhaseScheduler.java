@@ -0,0 +1,324 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.plugins;
+
+import grails.util.GrailsNameUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.codehaus.groovy.grails.plugins.exceptions.PluginException;
+import org.codehaus.groovy.grails.support.DaemonThreadFactory;
+import org.codehaus.groovy.grails.support.StartupTimeline;
+
+/**
+ * Runs the phases of the plugin lifecycle for a list of plugins and records how long each plugin took.
+ *
+ * Phases can be run in the order of the plugin list, or in parallel on a bounded pool. In parallel a plugin is
+ * only started once all plugins it depends on (<code>dependsOn</code> and <code>loadAfter</code>) or that have to
+ * load before it (<code>loadBefore</code>) have finished. The dependency graph is built once for a list of plugins.
+ * If it has a cycle the phase runs in list order. Each plugin is also recorded as a step of the
+ * {@link StartupTimeline}.
+ *
+ * @since 2.3
+ */
+public class PluginPhaseScheduler {
+
+    private static final Log LOG = LogFactory.getLog(PluginPhaseScheduler.class);
+
+    public static final String LOAD_PLUGINS = "loadPlugins";
+    public static final String DO_WITH_SPRING = "doWithSpring";
+    public static final String DO_ARTEFACT_CONFIGURATION = "doArtefactConfiguration";
+    public static final String DO_WITH_DYNAMIC_METHODS = "doWithDynamicMethods";
+    public static final String DO_WITH_APPLICATION_CONTEXT = "doWithApplicationContext";
+
+    /**
+     * The work a phase does for a single plugin.
+     */
+    public static interface PluginCallback {
+        void doWithPlugin(GrailsPlugin plugin);
+    }
+
+    private final Map<String, Map<String, Long>> phaseTimings = new LinkedHashMap<String, Map<String, Long>>();
+    private final Map<String, Long> phaseDurations = new LinkedHashMap<String, Long>();
+    private List<GrailsPlugin> graphPlugins;
+    private int[][] dependents;
+    private int[] dependencyCounts;
+
+    /**
+     * Runs the phase for each plugin in the order of the list.
+     *
+     * @param phase The name of the phase
+     * @param plugins The plugins
+     * @param callback The work to do for each plugin
+     */
+    public void runSequentially(String phase, List<GrailsPlugin> plugins, PluginCallback callback) {
+        long start = System.currentTimeMillis();
+        try {
+            for (GrailsPlugin plugin : plugins) {
+                runTimed(phase, plugin, callback);
+            }
+        }
+        finally {
+            recordPhase(phase, System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Runs the phase for independent plugins at the same time, on at most <code>poolSize</code> threads. If
+     * the pool size is 1 or less, or if the plugins depend on each other in a cycle, the phase runs in list order.
+     * If the phase fails for a plugin no further plugins are started and the failure is rethrown once the running
+     * plugins have finished.
+     *
+     * @param phase The name of the phase
+     * @param plugins The plugins
+     * @param poolSize The maximum number of threads
+     * @param callback The work to do for each plugin, it must be safe to call it from several threads at once
+     */
+    public void runInParallel(final String phase, List<GrailsPlugin> plugins, int poolSize, final PluginCallback callback) {
+        if (poolSize <= 1 || plugins.size() <= 1 || !buildGraph(plugins)) {
+            runSequentially(phase, plugins, callback);
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        ExecutorService executor = DaemonThreadFactory.newFixedThreadPool(Math.min(poolSize, plugins.size()),
+                "grails-" + phase);
+        try {
+            CompletionService<Integer> completionService = new ExecutorCompletionService<Integer>(executor);
+            int[] remaining = dependencyCounts.clone();
+            int submitted = 0;
+            for (int i = 0; i < remaining.length; i++) {
+                if (remaining[i] == 0) {
+                    submit(completionService, phase, i, callback);
+                    submitted++;
+                }
+            }
+
+            Throwable failure = null;
+            for (int completed = 0; completed < submitted; completed++) {
+                try {
+                    int index = completionService.take().get();
+                    if (failure != null) {
+                        continue;
+                    }
+                    for (int dependent : dependents[index]) {
+                        if (--remaining[dependent] == 0) {
+                            submit(completionService, phase, dependent, callback);
+                            submitted++;
+                        }
+                    }
+                }
+                catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException)failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error)failure;
+            }
+            if (failure != null) {
+                throw new PluginException("Error running phase [" + phase + "]: " + failure.getMessage(), failure);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PluginException("Interrupted while running phase [" + phase + "]", e);
+        }
+        finally {
+            executor.shutdownNow();
+            recordPhase(phase, System.currentTimeMillis() - start);
+        }
+    }
+
+    private void submit(CompletionService<Integer> completionService, final String phase, final int index,
+            final PluginCallback callback) {
+        final GrailsPlugin plugin = graphPlugins.get(index);
+        completionService.submit(new Callable<Integer>() {
+            public Integer call() {
+                runTimed(phase, plugin, callback);
+                return index;
+            }
+        });
+    }
+
+    private void runTimed(String phase, GrailsPlugin plugin, PluginCallback callback) {
+        long start = System.currentTimeMillis();
+        StartupTimeline.Step step = StartupTimeline.getInstance().start(phase, plugin.getName());
+        try {
+            callback.doWithPlugin(plugin);
+        }
+        finally {
+            step.end();
+            long time = System.currentTimeMillis() - start;
+            synchronized (phaseTimings) {
+                Map<String, Long> timings = phaseTimings.get(phase);
+                if (timings == null) {
+                    timings = new LinkedHashMap<String, Long>();
+                    phaseTimings.put(phase, timings);
+                }
+                Long previous = timings.get(plugin.getName());
+                timings.put(plugin.getName(), previous == null ? time : previous + time);
+            }
+        }
+    }
+
+    /**
+     * Records the time taken by a phase, the time is added to the time already recorded for it.
+     *
+     * @param phase The name of the phase
+     * @param time The time in milliseconds
+     */
+    public void recordPhase(String phase, long time) {
+        synchronized (phaseTimings) {
+            Long previous = phaseDurations.get(phase);
+            phaseDurations.put(phase, previous == null ? time : previous + time);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Phase [" + phase + "] took " + time + "ms " + getPluginTimings(phase));
+        }
+    }
+
+    /**
+     * @return The time in milliseconds each phase took so far, in the order the phases first ran
+     */
+    public Map<String, Long> getPhaseTimings() {
+        synchronized (phaseTimings) {
+            return new LinkedHashMap<String, Long>(phaseDurations);
+        }
+    }
+
+    /**
+     * @param phase The name of the phase
+     * @return The time in milliseconds the phase took for each plugin, in the order the plugins finished
+     */
+    public Map<String, Long> getPluginTimings(String phase) {
+        synchronized (phaseTimings) {
+            Map<String, Long> timings = phaseTimings.get(phase);
+            if (timings == null) {
+                return Collections.emptyMap();
+            }
+            return new LinkedHashMap<String, Long>(timings);
+        }
+    }
+
+    /**
+     * Builds the dependency graph, unless it was already built for the same plugins.
+     *
+     * @return false if the plugins depend on each other in a cycle
+     */
+    private boolean buildGraph(List<GrailsPlugin> plugins) {
+        if (plugins.equals(graphPlugins)) {
+            return dependents != null;
+        }
+
+        graphPlugins = new ArrayList<GrailsPlugin>(plugins);
+        Map<String, Integer> indexes = new HashMap<String, Integer>();
+        for (int i = 0; i < graphPlugins.size(); i++) {
+            indexes.put(graphPlugins.get(i).getName(), i);
+        }
+
+        List<List<Integer>> edges = new ArrayList<List<Integer>>();
+        for (int i = 0; i < graphPlugins.size(); i++) {
+            edges.add(new ArrayList<Integer>());
+        }
+        int[] counts = new int[graphPlugins.size()];
+        for (int i = 0; i < graphPlugins.size(); i++) {
+            GrailsPlugin plugin = graphPlugins.get(i);
+            for (String name : plugin.getDependencyNames()) {
+                addEdge(edges, counts, indexes.get(toPluginName(name)), i);
+            }
+            for (String name : plugin.getLoadAfterNames()) {
+                addEdge(edges, counts, indexes.get(toPluginName(name)), i);
+            }
+            for (String name : plugin.getLoadBeforeNames()) {
+                addEdge(edges, counts, i, indexes.get(toPluginName(name)));
+            }
+        }
+
+        int[][] graph = new int[edges.size()][];
+        for (int i = 0; i < graph.length; i++) {
+            List<Integer> targets = edges.get(i);
+            graph[i] = new int[targets.size()];
+            for (int j = 0; j < graph[i].length; j++) {
+                graph[i][j] = targets.get(j);
+            }
+        }
+
+        if (hasCycle(graph, counts)) {
+            LOG.warn("Plugins " + graphPlugins + " depend on each other in a cycle, running them in load order");
+            dependents = null;
+            dependencyCounts = null;
+            return false;
+        }
+        dependents = graph;
+        dependencyCounts = counts;
+        return true;
+    }
+
+    private String toPluginName(String name) {
+        if (name.indexOf('-') > -1) {
+            return GrailsNameUtils.getPropertyNameForLowerCaseHyphenSeparatedName(name);
+        }
+        return name;
+    }
+
+    private void addEdge(List<List<Integer>> edges, int[] counts, Integer from, Integer to) {
+        if (from == null || to == null || from.equals(to) || edges.get(from).contains(to)) {
+            return;
+        }
+        edges.get(from).add(to);
+        counts[to]++;
+    }
+
+    private boolean hasCycle(int[][] graph, int[] counts) {
+        int[] remaining = counts.clone();
+        List<Integer> ready = new ArrayList<Integer>();
+        for (int i = 0; i < remaining.length; i++) {
+            if (remaining[i] == 0) {
+                ready.add(i);
+            }
+        }
+        int visited = 0;
+        while (!ready.isEmpty()) {
+            int index = ready.remove(ready.size() - 1);
+            visited++;
+            for (int dependent : graph[index]) {
+                if (--remaining[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        return visited < graph.length;
+    }
+
+}
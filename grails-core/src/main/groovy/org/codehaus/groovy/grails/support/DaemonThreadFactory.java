@@ -0,0 +1,69 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.support;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates numbered daemon threads that use the context class loader of the thread that created the factory,
+ * for the pools Grails uses to run work in parallel at startup or in the background. Daemon threads never keep
+ * the JVM from exiting if a task hangs.
+ *
+ * @since 2.3
+ */
+public class DaemonThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger count = new AtomicInteger();
+    private final String namePrefix;
+    private final ClassLoader classLoader;
+
+    /**
+     * @param namePrefix The prefix of the thread names, followed by a dash and the number of the thread
+     */
+    public DaemonThreadFactory(String namePrefix) {
+        this(namePrefix, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * @param namePrefix The prefix of the thread names, followed by a dash and the number of the thread
+     * @param classLoader The context class loader of the threads
+     */
+    public DaemonThreadFactory(String namePrefix, ClassLoader classLoader) {
+        this.namePrefix = namePrefix;
+        this.classLoader = classLoader;
+    }
+
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, namePrefix + "-" + count.incrementAndGet());
+        thread.setDaemon(true);
+        thread.setContextClassLoader(classLoader);
+        return thread;
+    }
+
+    /**
+     * Creates a pool with a fixed number of daemon threads that use the context class loader of the calling thread.
+     *
+     * @param threads The number of threads
+     * @param namePrefix The prefix of the thread names
+     * @return The pool
+     */
+    public static ExecutorService newFixedThreadPool(int threads, String namePrefix) {
+        return Executors.newFixedThreadPool(threads, new DaemonThreadFactory(namePrefix));
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.support;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Records the wall time and the allocated memory of the steps of the application startup, such as the phases of
+ * {@link org.codehaus.groovy.grails.commons.spring.GrailsRuntimeConfigurator#configure}, the plugin phases, the
+ * domain class mappings and the loading of GSPs. The steps can be written as a JSON document and are exposed over
+ * JMX, see {@link StartupTimelineMBean}.
+ *
+ * A step is started with {@link #start(String, String)} and ended with {@link Step#end()} on the same thread.
+ * The allocated memory is the memory allocated by that thread while the step ran, and is only recorded if the JVM
+ * supports measuring it, otherwise it is -1.
+ *
+ * Only the startup is recorded: steps that end after the {@link #STARTUP} step has ended are ignored, until the
+ * timeline is {@link #reset() reset} when the application context is configured again.
+ *
+ * If the system property <code>grails.startup.timeline.file</code> is set the steps are written to that file once
+ * the application context has been configured.
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public class StartupTimeline implements StartupTimelineMBean {
+
+    private static final Log LOG = LogFactory.getLog(StartupTimeline.class);
+
+    public static final String FILE_PROPERTY = "grails.startup.timeline.file";
+    public static final String STARTUP = "startup";
+    public static final String CONFIGURE = "configure";
+    public static final String DOMAIN_BINDING = "domainBinding";
+    public static final String SESSION_FACTORY = "sessionFactory";
+    public static final String GSP = "gsp";
+
+    /**
+     * The maximum number of steps kept, later steps are only counted
+     */
+    public static final int MAX_STEPS = 10000;
+
+    private static final StartupTimeline INSTANCE = new StartupTimeline();
+
+    private static final Object THREAD_BEAN;
+    private static final Method GET_THREAD_ALLOCATED_BYTES;
+
+    static {
+        Object threadBean = null;
+        Method method = null;
+        try {
+            threadBean = ManagementFactory.getThreadMXBean();
+            Class<?> beanClass = Class.forName("com.sun.management.ThreadMXBean");
+            if (beanClass.isInstance(threadBean)) {
+                method = beanClass.getMethod("getThreadAllocatedBytes", long.class);
+                method.invoke(threadBean, Thread.currentThread().getId());
+            }
+        }
+        catch (Throwable e) {
+            // not supported by this JVM
+            method = null;
+        }
+        THREAD_BEAN = threadBean;
+        GET_THREAD_ALLOCATED_BYTES = method;
+    }
+
+    private final List<Entry> entries = new ArrayList<Entry>();
+    private int droppedSteps;
+    private volatile boolean recording = true;
+
+    /**
+     * @return The timeline of the application
+     */
+    public static StartupTimeline getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param applicationName The name of the application, can be null
+     * @return The name the timeline is registered with in the MBean server
+     */
+    public static ObjectName getObjectName(String applicationName) throws MalformedObjectNameException {
+        return new ObjectName("grails:type=StartupTimeline,name=" +
+                ObjectName.quote(applicationName == null ? "grails" : applicationName));
+    }
+
+    /**
+     * Starts a step.
+     *
+     * @param category The category of the step, for example the name of a plugin phase
+     * @param name The name of the step, for example the name of a plugin
+     * @return The step, to be ended on the same thread
+     */
+    public Step start(String category, String name) {
+        return new Step(category, name);
+    }
+
+    /**
+     * @return The recorded steps in the order they ended
+     */
+    public List<Entry> getEntries() {
+        synchronized (entries) {
+            return new ArrayList<Entry>(entries);
+        }
+    }
+
+    /**
+     * Removes the recorded steps and records the steps that end from now on.
+     */
+    public void reset() {
+        synchronized (entries) {
+            entries.clear();
+            droppedSteps = 0;
+            recording = true;
+        }
+    }
+
+    /**
+     * @return true if steps are recorded, false once the {@link #STARTUP} step has ended
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public long getStartupTime() {
+        List<Entry> steps = getEntries();
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            if (STARTUP.equals(steps.get(i).getCategory())) {
+                return steps.get(i).getTime();
+            }
+        }
+        return -1;
+    }
+
+    public int getStepCount() {
+        synchronized (entries) {
+            return entries.size() + droppedSteps;
+        }
+    }
+
+    /**
+     * @return The time in milliseconds of the steps of each category added up, in the order the categories
+     * first ended. Steps that ran at the same time are all counted.
+     */
+    public Map<String, Long> getCategoryTimes() {
+        Map<String, Long> nanos = new LinkedHashMap<String, Long>();
+        for (Entry entry : getEntries()) {
+            Long previous = nanos.get(entry.getCategory());
+            nanos.put(entry.getCategory(), previous == null ? entry.getNanos() : previous + entry.getNanos());
+        }
+        Map<String, Long> times = new LinkedHashMap<String, Long>();
+        for (Map.Entry<String, Long> entry : nanos.entrySet()) {
+            times.put(entry.getKey(), entry.getValue() / 1000000);
+        }
+        return times;
+    }
+
+    public String getTimelineAsJson() {
+        StringBuilder json = new StringBuilder();
+        int dropped;
+        synchronized (entries) {
+            dropped = droppedSteps;
+        }
+        json.append("{\n  \"jvmStartTime\": ").append(ManagementFactory.getRuntimeMXBean().getStartTime())
+            .append(",\n  \"startupTime\": ").append(getStartupTime())
+            .append(",\n  \"droppedSteps\": ").append(dropped)
+            .append(",\n  \"totals\": {");
+        boolean first = true;
+        for (Map.Entry<String, Long> total : getCategoryTimes().entrySet()) {
+            json.append(first ? "\n    " : ",\n    ");
+            appendString(json, total.getKey()).append(": ").append(total.getValue());
+            first = false;
+        }
+        json.append(first ? "},\n  \"steps\": [" : "\n  },\n  \"steps\": [");
+        first = true;
+        for (Entry entry : getEntries()) {
+            json.append(first ? "\n    {" : ",\n    {");
+            json.append("\"category\": ");
+            appendString(json, entry.getCategory()).append(", \"name\": ");
+            appendString(json, entry.getName()).append(", \"thread\": ");
+            appendString(json, entry.getThread())
+                .append(", \"start\": ").append(entry.getStartTime())
+                .append(", \"time\": ").append(entry.getTime())
+                .append(", \"nanos\": ").append(entry.getNanos())
+                .append(", \"allocatedBytes\": ").append(entry.getAllocatedBytes())
+                .append('}');
+            first = false;
+        }
+        json.append(first ? "]\n}\n" : "\n  ]\n}\n");
+        return json.toString();
+    }
+
+    public void dumpJson(String path) throws IOException {
+        writeJson(new File(path));
+    }
+
+    /**
+     * Writes the recorded steps as a JSON document to the given file.
+     *
+     * @param file The file
+     */
+    public void writeJson(File file) throws IOException {
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            writer.write(getTimelineAsJson());
+        }
+        finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes the recorded steps to the file given by the <code>grails.startup.timeline.file</code> system
+     * property, if it is set. Failures are logged.
+     */
+    public void writeJsonIfConfigured() {
+        String path = System.getProperty(FILE_PROPERTY);
+        if (path == null || path.trim().length() == 0) {
+            return;
+        }
+        try {
+            writeJson(new File(path.trim()));
+        }
+        catch (IOException e) {
+            LOG.warn("Cannot write startup timeline to [" + path + "]: " + e.getMessage());
+        }
+    }
+
+    private void record(Entry entry) {
+        synchronized (entries) {
+            if (!recording) {
+                return;
+            }
+            if (STARTUP.equals(entry.getCategory())) {
+                recording = false;
+            }
+            if (entries.size() < MAX_STEPS) {
+                entries.add(entry);
+            }
+            else {
+                droppedSteps++;
+            }
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Step [" + entry.getCategory() + ":" + entry.getName() + "] took " + entry.getTime() + "ms");
+        }
+    }
+
+    private static StringBuilder appendString(StringBuilder json, String value) {
+        if (value == null) {
+            return json.append("null");
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': json.append("\\\""); break;
+                case '\\': json.append("\\\\"); break;
+                case '\n': json.append("\\n"); break;
+                case '\r': json.append("\\r"); break;
+                case '\t': json.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        String hex = Integer.toHexString(c);
+                        json.append("\\u");
+                        for (int j = hex.length(); j < 4; j++) {
+                            json.append('0');
+                        }
+                        json.append(hex);
+                    }
+                    else {
+                        json.append(c);
+                    }
+            }
+        }
+        return json.append('"');
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (GET_THREAD_ALLOCATED_BYTES == null) {
+            return -1;
+        }
+        try {
+            return (Long)GET_THREAD_ALLOCATED_BYTES.invoke(THREAD_BEAN, Thread.currentThread().getId());
+        }
+        catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * A running step. Steps started once the timeline stopped recording are not measured.
+     */
+    public class Step {
+        private final String category;
+        private final String name;
+        private final long startTime;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+        private boolean ended;
+
+        Step(String category, String name) {
+            this.category = category;
+            this.name = name;
+            ended = !recording;
+            startTime = ended ? 0 : System.currentTimeMillis();
+            startNanos = ended ? 0 : System.nanoTime();
+            startAllocatedBytes = ended ? -1 : currentThreadAllocatedBytes();
+        }
+
+        /**
+         * Ends the step and records it, if it has not ended yet.
+         */
+        public void end() {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            long nanos = System.nanoTime() - startNanos;
+            long allocatedBytes = -1;
+            if (startAllocatedBytes > -1) {
+                long endAllocatedBytes = currentThreadAllocatedBytes();
+                if (endAllocatedBytes > -1) {
+                    allocatedBytes = endAllocatedBytes - startAllocatedBytes;
+                }
+            }
+            record(new Entry(category, name, Thread.currentThread().getName(), startTime, nanos, allocatedBytes));
+        }
+
+        /**
+         * Ends this step and starts the next step of the same category.
+         *
+         * @param nextName The name of the next step
+         * @return The next step
+         */
+        public Step next(String nextName) {
+            end();
+            return start(category, nextName);
+        }
+    }
+
+    /**
+     * A recorded step.
+     */
+    public static class Entry {
+        private final String category;
+        private final String name;
+        private final String thread;
+        private final long startTime;
+        private final long nanos;
+        private final long allocatedBytes;
+
+        Entry(String category, String name, String thread, long startTime, long nanos, long allocatedBytes) {
+            this.category = category;
+            this.name = name;
+            this.thread = thread;
+            this.startTime = startTime;
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The name of the thread the step ran on
+         */
+        public String getThread() {
+            return thread;
+        }
+
+        /**
+         * @return The time the step started, in milliseconds since the epoch
+         */
+        public long getStartTime() {
+            return startTime;
+        }
+
+        /**
+         * @return The time in milliseconds the step took
+         */
+        public long getTime() {
+            return nanos / 1000000;
+        }
+
+        /**
+         * @return The time in nanoseconds the step took
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return The bytes allocated by the thread while the step ran, or -1 if unknown
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.support;
+
+import java.io.IOException;
+
+/**
+ * The JMX view of the {@link StartupTimeline}.
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public interface StartupTimelineMBean {
+
+    /**
+     * @return The time in milliseconds the last configuration of the application context took, or -1
+     */
+    long getStartupTime();
+
+    /**
+     * @return The number of recorded steps
+     */
+    int getStepCount();
+
+    /**
+     * @return The recorded steps as a JSON document
+     */
+    String getTimelineAsJson();
+
+    /**
+     * Writes the recorded steps as a JSON document to the given file.
+     *
+     * @param path The path of the file
+     */
+    void dumpJson(String path) throws IOException;
+}
@@ -937,9 +937,7 @@ public class ConstrainedProperty {
      * @param errors The Errors instances to report errors to
      */
     public void validate(Object target, Object propertyValue, Errors errors) {
-        List<Constraint> delayedConstraints = new ArrayList<Constraint>();
-
-        // validate only vetoing constraints first, putting non-vetoing into delayedConstraints
+        // validate only vetoing constraints first, then the non-vetoing ones
         for (Constraint c : appliedConstraints.values()) {
             if (c instanceof VetoingConstraint) {
                 c.setMessageSource(messageSource);
@@ -948,15 +946,14 @@ public class ConstrainedProperty {
                     return;
                 }
             }
-            else {
-                delayedConstraints.add(c);
-            }
         }
 
         // process non-vetoing constraints
-        for (Constraint c : delayedConstraints) {
-            c.setMessageSource(messageSource);
-            c.validate(target, propertyValue, errors);
+        for (Constraint c : appliedConstraints.values()) {
+            if (!(c instanceof VetoingConstraint)) {
+                c.setMessageSource(messageSource);
+                c.validate(target, propertyValue, errors);
+            }
         }
     }
 
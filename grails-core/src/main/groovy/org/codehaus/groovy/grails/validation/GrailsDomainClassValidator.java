@@ -16,6 +16,9 @@ package org.codehaus.groovy.grails.validation;
 
 import groovy.lang.GString;
 
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
@@ -29,9 +32,11 @@ import org.codehaus.groovy.grails.commons.GrailsApplication;
 import org.codehaus.groovy.grails.commons.GrailsDomainClass;
 import org.codehaus.groovy.grails.commons.GrailsDomainClassProperty;
 import org.codehaus.groovy.grails.plugins.support.aware.GrailsApplicationAware;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.context.MessageSource;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.validation.Errors;
 import org.springframework.validation.FieldError;
 
@@ -53,7 +58,7 @@ public class GrailsDomainClassValidator implements CascadingValidator, GrailsApp
     protected MessageSource messageSource;
     protected GrailsApplication grailsApplication;
 
-
+    private volatile ValidationPlan validationPlan;
 
     @SuppressWarnings("rawtypes")
     public boolean supports(Class clazz) {
@@ -70,36 +75,140 @@ public class GrailsDomainClassValidator implements CascadingValidator, GrailsApp
                     domainClass.getClazz() + "] which this validator is configured for");
         }
 
-        BeanWrapper bean = new BeanWrapperImpl(obj);
+        ValidationPlan plan = getValidationPlan();
+        PropertyReader reader = new PropertyReader(plan, obj);
 
-        Map constrainedProperties = domainClass.getConstrainedProperties();
-        Set<String> constrainedPropertyNames = new HashSet(constrainedProperties.keySet());
+        for (int i = 0; i < plan.constrainedNames.length; i++) {
+            validateConstrainedProperty(plan, i, reader, obj, errors);
+        }
+
+        if (cascade) {
+            for (GrailsDomainClassProperty persistentProperty : plan.cascadingProperties) {
+                cascadeToAssociativeProperty(errors, reader.getBeanWrapper(), persistentProperty);
+            }
+        }
 
-        for (Object key : constrainedProperties.keySet()) {
-            String propertyName = (String) key;
-            validatePropertyWithConstraint(propertyName, obj, errors, bean, constrainedProperties);
+        // Now process the remaining constrained properties, for example any transients.
+        for (int i : plan.nonPersistentIndexes) {
+            validateConstrainedProperty(plan, i, reader, obj, errors);
         }
 
+        postValidate(obj,errors);
+    }
+
+    private void validateConstrainedProperty(ValidationPlan plan, int index, PropertyReader reader, Object obj, Errors errors) {
+        String propertyName = plan.constrainedNames[index];
+        if (errors.getFieldError(propertyName) == null) {
+            ConstrainedProperty c = plan.constrainedProperties[index];
+            c.setMessageSource(messageSource);
+            c.validate(obj, reader.getPropertyValue(index, propertyName), errors);
+        }
+    }
+
+    /**
+     * Returns the validation plan of the domain class, building it if the constraints or the persistent
+     * properties of the domain class have changed since it was built.
+     */
+    @SuppressWarnings("rawtypes")
+    private ValidationPlan getValidationPlan() {
+        Map constrainedProperties = domainClass.getConstrainedProperties();
         GrailsDomainClassProperty[] persistentProperties = domainClass.getPersistentProperties();
+        ValidationPlan plan = validationPlan;
+        if (plan == null || plan.sourceConstraints != constrainedProperties || plan.sourceProperties != persistentProperties) {
+            plan = new ValidationPlan(domainClass.getClazz(), constrainedProperties, persistentProperties);
+            validationPlan = plan;
+        }
+        return plan;
+    }
 
-        for (GrailsDomainClassProperty persistentProperty : persistentProperties) {
-            String propertyName = persistentProperty.getName();
+    /**
+     * The constrained properties of a domain class, in validation order, with the methods that read them, and
+     * the properties that validation cascades to. Built once so that validating an instance needs no lookups.
+     */
+    private static final class ValidationPlan {
+        final Map<?, ?> sourceConstraints;
+        final GrailsDomainClassProperty[] sourceProperties;
+        final Class<?> clazz;
+        final String[] constrainedNames;
+        final ConstrainedProperty[] constrainedProperties;
+        final Method[] readMethods;
+        final GrailsDomainClassProperty[] cascadingProperties;
+        final int[] nonPersistentIndexes;
+
+        ValidationPlan(Class<?> clazz, Map<?, ?> constraints, GrailsDomainClassProperty[] persistentProperties) {
+            this.clazz = clazz;
+            sourceConstraints = constraints;
+            sourceProperties = persistentProperties;
+
+            int count = constraints.size();
+            constrainedNames = new String[count];
+            constrainedProperties = new ConstrainedProperty[count];
+            readMethods = new Method[count];
+            int i = 0;
+            for (Map.Entry<?, ?> entry : constraints.entrySet()) {
+                constrainedNames[i] = (String) entry.getKey();
+                constrainedProperties[i] = (ConstrainedProperty) entry.getValue();
+                PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(clazz, constrainedNames[i]);
+                if (descriptor != null && descriptor.getReadMethod() != null) {
+                    readMethods[i] = descriptor.getReadMethod();
+                    ReflectionUtils.makeAccessible(readMethods[i]);
+                }
+                i++;
+            }
 
-            if ((persistentProperty.isAssociation() || persistentProperty.isEmbedded()) && cascade) {
-                cascadeToAssociativeProperty(errors, bean, persistentProperty);
+            Set<String> persistentNames = new HashSet<String>();
+            List<GrailsDomainClassProperty> cascading = new ArrayList<GrailsDomainClassProperty>();
+            for (GrailsDomainClassProperty persistentProperty : persistentProperties) {
+                persistentNames.add(persistentProperty.getName());
+                if (persistentProperty.isAssociation() || persistentProperty.isEmbedded()) {
+                    cascading.add(persistentProperty);
+                }
             }
+            cascadingProperties = cascading.toArray(new GrailsDomainClassProperty[cascading.size()]);
 
-            // Remove this property from the set of constrained property
-            // names because we have already processed it.
-            constrainedPropertyNames.remove(propertyName);
+            List<Integer> nonPersistent = new ArrayList<Integer>();
+            for (i = 0; i < count; i++) {
+                if (!persistentNames.contains(constrainedNames[i])) {
+                    nonPersistent.add(i);
+                }
+            }
+            nonPersistentIndexes = new int[nonPersistent.size()];
+            for (i = 0; i < nonPersistentIndexes.length; i++) {
+                nonPersistentIndexes[i] = nonPersistent.get(i);
+            }
         }
+    }
 
-        // Now process the remaining constrained properties, for example any transients.
-        for (String name : constrainedPropertyNames) {
-            validatePropertyWithConstraint(name, obj, errors, bean, constrainedProperties);
+    /**
+     * Reads the properties of the validated instance through the methods of the validation plan, falling back
+     * to a BeanWrapper (created when first needed) for properties without a read method.
+     */
+    private static final class PropertyReader {
+        private final ValidationPlan plan;
+        private final Object obj;
+        private final boolean planApplies;
+        private BeanWrapper beanWrapper;
+
+        PropertyReader(ValidationPlan plan, Object obj) {
+            this.plan = plan;
+            this.obj = obj;
+            planApplies = plan.clazz.isInstance(obj);
         }
 
-        postValidate(obj,errors);
+        Object getPropertyValue(int index, String propertyName) {
+            Method readMethod = plan.readMethods[index];
+            if (planApplies && readMethod != null) {
+                return ReflectionUtils.invokeMethod(readMethod, obj);
+            }
+            return getBeanWrapper().getPropertyValue(propertyName);
+        }
+
+        BeanWrapper getBeanWrapper() {
+            if (beanWrapper == null) {
+                beanWrapper = new BeanWrapperImpl(obj);
+            }
+            return beanWrapper;
+        }
     }
 
     /**
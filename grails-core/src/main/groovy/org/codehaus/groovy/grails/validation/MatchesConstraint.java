@@ -14,6 +14,9 @@
  */
 package org.codehaus.groovy.grails.validation;
 
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
 import org.springframework.validation.Errors;
 
 /**
@@ -25,6 +28,7 @@ import org.springframework.validation.Errors;
 public class MatchesConstraint extends AbstractConstraint {
 
     private String regex;
+    private Pattern pattern;
 
     /**
      * @return Returns the regex.
@@ -53,6 +57,13 @@ public class MatchesConstraint extends AbstractConstraint {
         }
 
         regex = (String)constraintParameter;
+        try {
+            pattern = Pattern.compile(regex);
+        }
+        catch (PatternSyntaxException e) {
+            // reported when validating, as before
+            pattern = null;
+        }
         super.setParameter(constraintParameter);
     }
 
@@ -62,7 +73,8 @@ public class MatchesConstraint extends AbstractConstraint {
 
     @Override
     protected void processValidate(Object target, Object propertyValue, Errors errors) {
-        if (propertyValue.toString().matches(regex)) {
+        String value = propertyValue.toString();
+        if (pattern != null ? pattern.matcher(value).matches() : value.matches(regex)) {
             return;
         }
 
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.compiler;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Detects changes with a {@link WatchService} (Java 7 and above), so the file system reports changes instead
+ * of the watched files being checked one by one. Changes are reported in batches: the changed files are
+ * reported together once no watched file has changed for {@link #QUIET_PERIOD} milliseconds, or
+ * <code>sleepTime</code> milliseconds after the first change of the batch if files keep changing.
+ *
+ * This class is only loaded by {@link DirectoryWatcher} if the WatchService API is available. It is compiled
+ * for Java 7 from its own source set, the rest of the module is compiled for Java 5.
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public class WatchServiceDirectoryWatcher extends AbstractDirectoryWatcher {
+
+    private static final Log LOG = LogFactory.getLog(WatchServiceDirectoryWatcher.class);
+
+    /**
+     * The time in milliseconds a file has to be unchanged before a change is reported
+     */
+    public static final long QUIET_PERIOD = 300;
+
+    private final WatchService watchService;
+    private final Map<WatchKey, WatchedDirectory> directoriesByKey = new ConcurrentHashMap<WatchKey, WatchedDirectory>();
+    private final Map<Path, WatchedDirectory> directoriesByPath = new ConcurrentHashMap<Path, WatchedDirectory>();
+    private final Set<File> knownFiles = Collections.newSetFromMap(new ConcurrentHashMap<File, Boolean>());
+    private final Map<File, Collection<String>> missingDirectories = new ConcurrentHashMap<File, Collection<String>>();
+
+    public WatchServiceDirectoryWatcher() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create WatchService: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isCoalescingEvents() {
+        return true;
+    }
+
+    @Override
+    public void addWatchFile(File fileToWatch) {
+        File dir = fileToWatch.getAbsoluteFile().getParentFile();
+        WatchedDirectory watchedDirectory = dir == null ? null : register(dir);
+        if (watchedDirectory != null) {
+            watchedDirectory.files.put(fileToWatch.getName(), fileToWatch);
+        }
+    }
+
+    @Override
+    public void addWatchDirectory(File dir, List<String> fileExtensions) {
+        addExtensions(fileExtensions);
+        Set<String> extensions = new CopyOnWriteArraySet<String>();
+        for (String extension : fileExtensions) {
+            extensions.add(removeStartingDotIfPresent(extension));
+        }
+        registerTree(dir, extensions, null);
+    }
+
+    public void run() {
+        Map<File, Boolean> pending = new LinkedHashMap<File, Boolean>();
+        long firstPendingTime = 0;
+        try {
+            while (active) {
+                WatchKey key;
+                try {
+                    key = watchService.poll(pending.isEmpty() ? sleepTime : QUIET_PERIOD, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    continue;
+                }
+
+                boolean wasPending = !pending.isEmpty();
+                // checked on every poll, since a busy directory would keep the poll from timing out
+                if (!missingDirectories.isEmpty()) {
+                    registerMissingDirectories(pending);
+                }
+                if (key != null) {
+                    processEvents(key, pending);
+                }
+                if (pending.isEmpty()) {
+                    continue;
+                }
+                if (!wasPending) {
+                    firstPendingTime = System.currentTimeMillis();
+                }
+                else if (key == null || System.currentTimeMillis() - firstPendingTime >= sleepTime) {
+                    firePending(pending);
+                }
+            }
+        }
+        catch (ClosedWatchServiceException e) {
+            // stopped
+        }
+        finally {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+    private void processEvents(WatchKey key, Map<File, Boolean> pending) {
+        WatchedDirectory watchedDirectory = directoriesByKey.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (watchedDirectory == null) {
+                continue;
+            }
+            if (event.kind() == OVERFLOW) {
+                // events were lost, look for new files at least
+                LOG.debug("Events lost for directory [" + watchedDirectory.directory + "], rescanning it");
+                if (!watchedDirectory.extensions.isEmpty()) {
+                    registerTree(watchedDirectory.directory, watchedDirectory.extensions, pending);
+                }
+                continue;
+            }
+
+            String name = event.context().toString();
+            File watchedFile = watchedDirectory.files.get(name);
+            if (watchedFile != null) {
+                queue(pending, watchedFile, false);
+                continue;
+            }
+            if (watchedDirectory.extensions.isEmpty()) {
+                continue;
+            }
+
+            File file = new File(watchedDirectory.directory, name);
+            if (file.isDirectory()) {
+                if (event.kind() == ENTRY_CREATE && isValidDirectoryToMonitor(file)) {
+                    registerTree(file, watchedDirectory.extensions, pending);
+                }
+            }
+            else if (isValidFileToMonitor(file, watchedDirectory.extensions)) {
+                queue(pending, file, knownFiles.add(file.getAbsoluteFile()));
+            }
+        }
+
+        if (!key.reset()) {
+            // the directory is no longer accessible
+            directoriesByKey.remove(key);
+            if (watchedDirectory != null) {
+                directoriesByPath.remove(watchedDirectory.path);
+            }
+        }
+    }
+
+    private void queue(Map<File, Boolean> pending, File file, boolean isNew) {
+        Boolean wasNew = pending.get(file);
+        pending.put(file, isNew || (wasNew != null && wasNew));
+    }
+
+    private void firePending(Map<File, Boolean> pending) {
+        for (Map.Entry<File, Boolean> entry : pending.entrySet()) {
+            if (entry.getValue()) {
+                fireOnNew(entry.getKey());
+            }
+            else {
+                fireOnChange(entry.getKey());
+            }
+        }
+        pending.clear();
+    }
+
+    private void registerMissingDirectories(Map<File, Boolean> pending) {
+        for (Map.Entry<File, Collection<String>> entry : missingDirectories.entrySet()) {
+            File dir = entry.getKey();
+            if (dir.isDirectory()) {
+                missingDirectories.remove(dir);
+                registerTree(dir, entry.getValue(), pending);
+            }
+        }
+    }
+
+    /**
+     * Registers the directory and its sub directories. Files that are not known yet are queued as new files
+     * if a pending map is passed.
+     */
+    private void registerTree(File dir, Collection<String> extensions, Map<File, Boolean> pending) {
+        if (!dir.isDirectory()) {
+            // watched like the polling watcher does once it is created
+            missingDirectories.put(dir, extensions);
+            return;
+        }
+        WatchedDirectory watchedDirectory = register(dir);
+        if (watchedDirectory == null) {
+            return;
+        }
+        watchedDirectory.extensions.addAll(extensions);
+
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                if (isValidDirectoryToMonitor(file)) {
+                    registerTree(file, extensions, pending);
+                }
+            }
+            else if (isValidFileToMonitor(file, extensions) && knownFiles.add(file.getAbsoluteFile()) && pending != null) {
+                queue(pending, file, true);
+            }
+        }
+    }
+
+    private synchronized WatchedDirectory register(File dir) {
+        Path path = dir.toPath().toAbsolutePath().normalize();
+        WatchedDirectory watchedDirectory = directoriesByPath.get(path);
+        if (watchedDirectory != null) {
+            return watchedDirectory;
+        }
+        try {
+            WatchKey key = path.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            watchedDirectory = new WatchedDirectory(dir, path);
+            directoriesByKey.put(key, watchedDirectory);
+            directoriesByPath.put(path, watchedDirectory);
+            return watchedDirectory;
+        } catch (IOException e) {
+            LOG.debug("Cannot watch directory [" + dir + "]: " + e.getMessage());
+            return null;
+        } catch (ClosedWatchServiceException e) {
+            return null;
+        }
+    }
+
+    private static class WatchedDirectory {
+        final File directory;
+        final Path path;
+        final Set<String> extensions = new CopyOnWriteArraySet<String>();
+        final Map<String, File> files = new ConcurrentHashMap<String, File>();
+
+        WatchedDirectory(File directory, Path path) {
+            this.directory = directory;
+            this.path = path;
+        }
+    }
+}
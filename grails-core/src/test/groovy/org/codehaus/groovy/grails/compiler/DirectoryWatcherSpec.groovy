@@ -0,0 +1,102 @@
+package org.codehaus.groovy.grails.compiler
+
+import spock.lang.IgnoreIf
+import spock.lang.Specification
+import spock.lang.Unroll
+import spock.util.concurrent.PollingConditions
+
+class DirectoryWatcherSpec extends Specification {
+
+    // only built on JDK 7 and above
+    static final Class watchServiceWatcher = loadWatchServiceWatcher()
+
+    File dir
+
+    private static Class loadWatchServiceWatcher() {
+        try {
+            return Class.forName("org.codehaus.groovy.grails.compiler.WatchServiceDirectoryWatcher")
+        }
+        catch (Throwable e) {
+            return null
+        }
+    }
+
+    void setup() {
+        dir = File.createTempFile("watched", "dir")
+        dir.delete()
+        new File(dir, "sub").mkdirs()
+    }
+
+    void cleanup() {
+        dir.deleteDir()
+    }
+
+    @Unroll("#watcherType.simpleName reports new and changed files")
+    def "Watchers report new and changed files"() {
+        given:
+        def existing = new File(dir, "sub/Existing.groovy")
+        existing.text = "class Existing {}"
+        def changed = [] as Set
+        def created = [] as Set
+
+        AbstractDirectoryWatcher watcher = watcherType.newInstance()
+        watcher.sleepTime = 100
+        watcher.addWatchDirectory(dir, ["groovy"])
+        watcher.addListener([onChange: { changed << it.name }, onNew: { created << it.name }] as DirectoryWatcher.FileChangeListener)
+        Thread.start { watcher.run() }
+        Thread.sleep(200)
+
+        when:
+        existing.text = "class Existing { String name }"
+        existing.setLastModified(System.currentTimeMillis() + 2000)
+        new File(dir, "sub/Added.groovy").text = "class Added {}"
+        new File(dir, "ignored.txt").text = "ignored"
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            assert changed == ["Existing.groovy"] as Set
+            assert created == ["Added.groovy"] as Set
+        }
+
+        cleanup:
+        watcher.active = false
+
+        where:
+        watcherType << [PollingDirectoryWatcher] + (watchServiceWatcher ? [watchServiceWatcher] : [])
+    }
+
+    @IgnoreIf({ DirectoryWatcherSpec.watchServiceWatcher == null })
+    def "Directories created after they are added are watched while other files keep changing"() {
+        given:
+        def busy = new File(dir, "sub/Busy.groovy")
+        busy.text = "class Busy {}"
+        def created = [] as Set
+
+        AbstractDirectoryWatcher watcher = watchServiceWatcher.newInstance()
+        watcher.sleepTime = 100
+        watcher.addWatchDirectory(dir, ["groovy"])
+        watcher.addWatchDirectory(new File(dir, "later"), ["groovy"])
+        watcher.addListener([onChange: {}, onNew: { created << it.name }] as DirectoryWatcher.FileChangeListener)
+        Thread.start { watcher.run() }
+        def writer = Thread.start {
+            while (watcher.active) {
+                busy.text = "class Busy { long time = ${System.currentTimeMillis()} }"
+                Thread.sleep(20)
+            }
+        }
+        Thread.sleep(200)
+
+        when:
+        new File(dir, "later").mkdirs()
+        new File(dir, "later/Later.groovy").text = "class Later {}"
+
+        then:
+        new PollingConditions(timeout: 10).eventually {
+            assert created == ["Later.groovy"] as Set
+        }
+
+        cleanup:
+        watcher.active = false
+        writer?.join()
+    }
+}
@@ -0,0 +1,97 @@
+package org.codehaus.groovy.grails.support
+
+import java.lang.management.ManagementFactory
+
+import spock.lang.Specification
+
+class StartupTimelineSpec extends Specification {
+
+    StartupTimeline timeline = new StartupTimeline()
+
+    void "Steps are recorded in the order they end"() {
+        when:
+        def total = timeline.start(StartupTimeline.STARTUP, StartupTimeline.CONFIGURE)
+        def step = timeline.start(StartupTimeline.CONFIGURE, "loadPlugins")
+        step = step.next("doWithSpring")
+        step.end()
+        step.end()
+        total.end()
+
+        then:
+        timeline.entries*.name == ["loadPlugins", "doWithSpring", "configure"]
+        timeline.entries*.category == [StartupTimeline.CONFIGURE, StartupTimeline.CONFIGURE, StartupTimeline.STARTUP]
+        timeline.entries.every { it.thread == Thread.currentThread().name && it.nanos >= 0 }
+        timeline.startupTime == timeline.entries[2].time
+        timeline.categoryTimes.keySet() as List == [StartupTimeline.CONFIGURE, StartupTimeline.STARTUP]
+    }
+
+    void "Steps that end after the startup are ignored until the timeline is reset"() {
+        given:
+        def late = timeline.start(StartupTimeline.CONFIGURE, "late")
+        timeline.start(StartupTimeline.STARTUP, StartupTimeline.CONFIGURE).end()
+
+        when:
+        late.end()
+        timeline.start(StartupTimeline.GSP, "page").end()
+
+        then:
+        !timeline.recording
+        timeline.entries*.name == [StartupTimeline.CONFIGURE]
+        timeline.stepCount == 1
+
+        when:
+        timeline.reset()
+        timeline.start(StartupTimeline.GSP, "page").end()
+
+        then:
+        timeline.recording
+        timeline.entries*.name == ["page"]
+    }
+
+    void "Steps are written as JSON"() {
+        given:
+        timeline.start("doWithSpring", 'the "core" plugin').end()
+
+        when:
+        def json = timeline.timelineAsJson
+
+        then:
+        json.contains('"totals": {\n    "doWithSpring": ')
+        json.contains('{"category": "doWithSpring", "name": "the \\"core\\" plugin", "thread": ')
+        json.contains('"startupTime": -1')
+
+        when:
+        timeline.reset()
+
+        then:
+        timeline.stepCount == 0
+        timeline.timelineAsJson.contains('"steps": []')
+    }
+
+    void "Steps over the maximum are only counted"() {
+        when:
+        (StartupTimeline.MAX_STEPS + 2).times { timeline.start(StartupTimeline.GSP, "page$it").end() }
+
+        then:
+        timeline.entries.size() == StartupTimeline.MAX_STEPS
+        timeline.stepCount == StartupTimeline.MAX_STEPS + 2
+        timeline.timelineAsJson.contains('"droppedSteps": 2')
+    }
+
+    void "The timeline can be registered as an MBean"() {
+        given:
+        def server = ManagementFactory.platformMBeanServer
+        def name = StartupTimeline.getObjectName("test, app")
+        timeline.start(StartupTimeline.STARTUP, StartupTimeline.CONFIGURE).end()
+
+        when:
+        server.registerMBean(timeline, name)
+
+        then:
+        server.getAttribute(name, "StepCount") == 1
+        server.getAttribute(name, "TimelineAsJson") == timeline.timelineAsJson
+
+        cleanup:
+        server.unregisterMBean(name)
+    }
+}
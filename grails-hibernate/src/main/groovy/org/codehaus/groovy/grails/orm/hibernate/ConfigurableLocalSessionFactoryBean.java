@@ -30,6 +30,7 @@ import org.codehaus.groovy.grails.commons.GrailsDomainClassProperty;
 import org.codehaus.groovy.grails.orm.hibernate.cfg.DefaultGrailsDomainConfiguration;
 import org.codehaus.groovy.grails.orm.hibernate.cfg.GrailsDomainConfiguration;
 import org.codehaus.groovy.grails.orm.hibernate.support.ClosureEventTriggeringInterceptor;
+import org.codehaus.groovy.grails.support.StartupTimeline;
 import org.hibernate.EntityMode;
 import org.hibernate.HibernateException;
 import org.hibernate.SessionFactory;
@@ -181,6 +182,7 @@ public class ConfigurableLocalSessionFactoryBean extends
 
     @Override
     protected SessionFactory newSessionFactory(Configuration configuration) throws HibernateException {
+        StartupTimeline.Step step = StartupTimeline.getInstance().start(StartupTimeline.SESSION_FACTORY, dataSourceName);
         try {
 
             SessionFactory sf = super.newSessionFactory(configuration);
@@ -212,6 +214,9 @@ public class ConfigurableLocalSessionFactoryBean extends
             }
             throw e;
         }
+        finally {
+            step.end();
+        }
     }
 
     protected String getCauseMessage(HibernateException e) {
@@ -58,6 +58,7 @@ public class EventTriggeringInterceptor extends AbstractPersistenceEventListener
             new ConcurrentHashMap<SoftKey<Class<?>>, ClosureEventListener>();
     private transient ConcurrentMap<SoftKey<Class<?>>, Boolean> cachedShouldTrigger =
             new ConcurrentHashMap<SoftKey<Class<?>>, Boolean>();
+    private transient volatile ResolvedListener lastResolvedListener;
     private boolean failOnError;
     private List<?> failOnErrorPackages = Collections.emptyList();
 
@@ -200,7 +201,31 @@ public class EventTriggeringInterceptor extends AbstractPersistenceEventListener
         if (entity == null) return null;
         Class<?> clazz = entity.getClass();
 
+        // events usually come in runs for the same class, e.g. when a result set is loaded
+        ResolvedListener last = lastResolvedListener;
+        if (last != null && last.key.get() == clazz && isCurrent(last)) {
+            return last.eventListener;
+        }
+
         SoftKey<Class<?>> key = new SoftKey<Class<?>>(clazz);
+        ClosureEventListener eventListener = resolveEventListener(entity, clazz, key);
+        lastResolvedListener = new ResolvedListener(key, eventListener);
+        return eventListener;
+    }
+
+    /**
+     * The last resolved listener is only reused while the caches still hold it, so that clearing them (for
+     * example when the configuration changes) takes effect. A reloaded class is a different class, so it
+     * never matches the listener of the class it replaces. Reusing the key avoids allocating one per event.
+     */
+    private boolean isCurrent(ResolvedListener last) {
+        if (last.eventListener == null) {
+            return Boolean.FALSE.equals(cachedShouldTrigger.get(last.key));
+        }
+        return eventListeners.get(last.key) == last.eventListener;
+    }
+
+    private ClosureEventListener resolveEventListener(Object entity, Class<?> clazz, SoftKey<Class<?>> key) {
         ClosureEventListener eventListener = eventListeners.get(key);
         if (eventListener != null) {
             return eventListener;
@@ -237,4 +262,14 @@ public class EventTriggeringInterceptor extends AbstractPersistenceEventListener
     public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
         return AbstractPersistenceEvent.class.isAssignableFrom(eventType);
     }
+
+    private static final class ResolvedListener {
+        final SoftKey<Class<?>> key;
+        final ClosureEventListener eventListener;
+
+        ResolvedListener(SoftKey<Class<?>> key, ClosureEventListener eventListener) {
+            this.key = key;
+            this.eventListener = eventListener;
+        }
+    }
 }
@@ -38,7 +38,11 @@ import org.hibernate.*
 import org.hibernate.criterion.Projections
 import org.hibernate.criterion.Restrictions
 import org.hibernate.engine.EntityEntry
+import org.hibernate.engine.EntityKey
+import org.hibernate.engine.PersistenceContext
 import org.hibernate.engine.SessionImplementor
+import org.hibernate.engine.Status
+import org.hibernate.persister.entity.EntityPersister
 import org.hibernate.proxy.HibernateProxy
 import org.springframework.beans.SimpleTypeConverter
 import org.springframework.core.convert.ConversionService
@@ -127,6 +131,7 @@ class HibernateGormEnhancer extends GormEnhancer {
  */
 class HibernateGormStaticApi<D> extends GormStaticApi<D> {
     private static final EMPTY_ARRAY = [] as Object[]
+    static final int DEFAULT_GET_ALL_BATCH_SIZE = 1000
 
     private GrailsHibernateTemplate hibernateTemplate
     private SessionFactory sessionFactory
@@ -141,6 +146,7 @@ class HibernateGormStaticApi<D> extends GormStaticApi<D> {
     private ClassLoader classLoader
     private GrailsApplication grailsApplication
     private boolean cacheQueriesByDefault = false
+    private int getAllBatchSize = DEFAULT_GET_ALL_BATCH_SIZE
 
     HibernateGormStaticApi(Class persistentClass, HibernateDatastore datastore, List<FinderMethod> finders,
                 ClassLoader classLoader, PlatformTransactionManager transactionManager) {
@@ -165,6 +171,11 @@ class HibernateGormStaticApi<D> extends GormStaticApi<D> {
             listMethod = new ListPersistentMethod(grailsApplication, sessionFactory, classLoader)
             hibernateTemplate = new GrailsHibernateTemplate(sessionFactory, grailsApplication)
             hibernateTemplate.setCacheQueries(cacheQueriesByDefault)
+
+            def batchSize = grailsApplication.config?.grails?.gorm?.getAll?.batchSize
+            if (batchSize instanceof Number) {
+                getAllBatchSize = batchSize.intValue()
+            }
         } else {
             hibernateTemplate = new GrailsHibernateTemplate(sessionFactory)
         }
@@ -247,23 +258,54 @@ class HibernateGormStaticApi<D> extends GormStaticApi<D> {
         getAllInternal(ids)
     }
 
+    /**
+     * Instances that are already associated with the session are taken from it. The remaining ones are queried
+     * with IN restrictions of at most grails.gorm.getAll.batchSize identifiers each (0 for a single query).
+     * The results have the order of the given identifiers, with null for the ones that weren't found.
+     */
     private List getAllInternal(ids) {
         if (!ids) return []
 
         hibernateTemplate.execute({Session session ->
-            ids = ids.collect { convertIdentifier(it) }
-            def criteria = session.createCriteria(persistentClass)
-            hibernateTemplate.applySettings(criteria)
-            def identityName = persistentEntity.identity.name
-            criteria.add(Restrictions.'in'(identityName, ids))
-            def results = criteria.list()
-            def idsMap = [:]
-            for (object in results) {
-                idsMap[object[identityName]] = object
-            }
-            results.clear()
+            int count = ids.size()
+            Object[] idArray = new Object[count]
+            int i = 0
             for (id in ids) {
-                results << idsMap[id]
+                idArray[i++] = convertIdentifier(id)
+            }
+
+            Map<Object, Object> instancesById = new HashMap<Object, Object>()
+            List<Object> remainingIds = new ArrayList<Object>()
+            PersistenceContext persistenceContext = ((SessionImplementor)session).getPersistenceContext()
+            EntityPersister persister = ((SessionImplementor)session).getFactory().getEntityPersister(persistentClass.name)
+            for (Object id in idArray) {
+                if (id == null || instancesById.containsKey(id)) continue
+
+                Object instance = persistenceContext.getEntity(new EntityKey((Serializable)id, persister, EntityMode.POJO))
+                if (instance != null && persistentClass.isInstance(instance)) {
+                    EntityEntry entry = persistenceContext.getEntry(instance)
+                    instancesById.put(id, entry.status == Status.DELETED || entry.status == Status.GONE ? null : instance)
+                }
+                else {
+                    instancesById.put(id, null)
+                    remainingIds.add(id)
+                }
+            }
+
+            int batchSize = getAllBatchSize > 0 ? getAllBatchSize : remainingIds.size()
+            String identityName = persistentEntity.identity.name
+            for (int start = 0; start < remainingIds.size(); start += batchSize) {
+                def criteria = session.createCriteria(persistentClass)
+                hibernateTemplate.applySettings(criteria)
+                criteria.add(Restrictions.'in'(identityName, remainingIds.subList(start, Math.min(start + batchSize, remainingIds.size()))))
+                for (Object instance in criteria.list()) {
+                    instancesById.put(session.getIdentifier(instance), instance)
+                }
+            }
+
+            List results = new ArrayList(count)
+            for (Object id in idArray) {
+                results.add(id == null ? null : instancesById.get(id))
             }
             results
         } as HibernateCallback)
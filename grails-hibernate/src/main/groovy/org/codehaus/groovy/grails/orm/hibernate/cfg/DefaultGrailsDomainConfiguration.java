@@ -18,6 +18,7 @@ import groovy.lang.Closure;
 import groovy.util.Eval;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.codehaus.groovy.grails.commons.DomainClassArtefactHandler;
@@ -25,6 +26,8 @@ import org.codehaus.groovy.grails.commons.GrailsApplication;
 import org.codehaus.groovy.grails.commons.GrailsClass;
 import org.codehaus.groovy.grails.commons.GrailsDomainClass;
 import org.codehaus.groovy.grails.commons.GrailsDomainClassProperty;
+import org.codehaus.groovy.grails.support.StartupTimeline;
+import org.codehaus.groovy.runtime.DefaultGroovyMethods;
 import org.hibernate.MappingException;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.cfg.Mappings;
@@ -39,6 +42,10 @@ import org.hibernate.cfg.Mappings;
 public class DefaultGrailsDomainConfiguration extends Configuration implements GrailsDomainConfiguration {
 
     private static final long serialVersionUID = -7115087342689305517L;
+
+    public static final String CONFIG_PARALLEL_MAPPINGS = "grails.gorm.mapping.parallel.enabled";
+    public static final String CONFIG_PARALLEL_MAPPINGS_POOL_SIZE = "grails.gorm.mapping.parallel.poolSize";
+
     private GrailsApplication grailsApplication;
     private Set<GrailsDomainClass> domainClasses = new HashSet<GrailsDomainClass>();
     private boolean configLocked;
@@ -112,13 +119,33 @@ public class DefaultGrailsDomainConfiguration extends Configuration implements G
     public static void configureDomainBinder(GrailsApplication grailsApplication, Set<GrailsDomainClass> domainClasses) {
         Object defaultMapping = Eval.x(grailsApplication, "x.config?.grails?.gorm?.default?.mapping");
         // do Grails class configuration
-        for (GrailsDomainClass domainClass : domainClasses) {
-            if (defaultMapping instanceof Closure) {
-                GrailsDomainBinder.evaluateMapping(domainClass, (Closure<?>)defaultMapping);
-            }
-            else {
-                GrailsDomainBinder.evaluateMapping(domainClass);
-            }
+        StartupTimeline.Step step = StartupTimeline.getInstance().start(StartupTimeline.DOMAIN_BINDING, "evaluateMappings");
+        try {
+            GrailsDomainBinder.evaluateMappings(domainClasses,
+                    defaultMapping instanceof Closure ? (Closure<?>)defaultMapping : null,
+                    getMappingEvaluationPoolSize(grailsApplication));
+        }
+        finally {
+            step.end();
+        }
+    }
+
+    /**
+     * @return The number of threads used to evaluate the mappings of the domain classes, 1 unless
+     * <code>grails.gorm.mapping.parallel.enabled</code> is set
+     */
+    public static int getMappingEvaluationPoolSize(GrailsApplication grailsApplication) {
+        if (grailsApplication == null) {
+            return 1;
+        }
+        Map<String, Object> config = grailsApplication.getFlatConfig();
+        if (config == null || !DefaultGroovyMethods.asBoolean(config.get(CONFIG_PARALLEL_MAPPINGS))) {
+            return 1;
+        }
+        Object poolSize = config.get(CONFIG_PARALLEL_MAPPINGS_POOL_SIZE);
+        if (poolSize instanceof Number) {
+            return ((Number)poolSize).intValue();
         }
+        return Runtime.getRuntime().availableProcessors();
     }
 }
@@ -22,6 +22,7 @@ import java.lang.reflect.Modifier;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -32,6 +33,10 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.StringTokenizer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
@@ -50,6 +55,8 @@ import org.codehaus.groovy.grails.orm.hibernate.validation.UniqueConstraint;
 import org.codehaus.groovy.grails.plugins.GrailsPlugin;
 import org.codehaus.groovy.grails.plugins.GrailsPluginManager;
 import org.codehaus.groovy.grails.plugins.orm.hibernate.HibernatePluginSupport;
+import org.codehaus.groovy.grails.support.DaemonThreadFactory;
+import org.codehaus.groovy.grails.support.StartupTimeline;
 import org.codehaus.groovy.grails.validation.ConstrainedProperty;
 import org.codehaus.groovy.grails.validation.Constraint;
 import org.hibernate.FetchMode;
@@ -113,7 +120,7 @@ public final class GrailsDomainBinder {
     private static final String CASCADE_NONE = "none";
     private static final String BACKTICK = "`";
 
-    private static final Map<Class<?>, Mapping> MAPPING_CACHE = new HashMap<Class<?>, Mapping>();
+    private static final MappingCache MAPPING_CACHE = new MappingCache();
     private static final String ENUM_TYPE_CLASS = "org.hibernate.type.EnumType";
     private static final String ENUM_CLASS_PROP = "enumClass";
     private static final String ENUM_TYPE_PROP = "type";
@@ -1316,7 +1323,14 @@ public final class GrailsDomainBinder {
             throws MappingException {
         //if (domainClass.getClazz().getSuperclass() == Object.class) {
         if (domainClass.isRoot()) {
-            bindRoot(domainClass, mappings, sessionFactoryBeanName);
+            StartupTimeline.Step step = StartupTimeline.getInstance().start(
+                    StartupTimeline.DOMAIN_BINDING, domainClass.getFullName());
+            try {
+                bindRoot(domainClass, mappings, sessionFactoryBeanName);
+            }
+            finally {
+                step.end();
+            }
         }
     }
 
@@ -1334,27 +1348,32 @@ public final class GrailsDomainBinder {
         return evaluateMapping(domainClass, defaultMapping, true);
     }
 
-    public static Mapping evaluateMapping(GrailsDomainClass domainClass, Closure<?> defaultMapping, boolean cache) {
-       try {
-            Object o = GrailsClassUtils.getStaticPropertyValue(domainClass.getClazz(), GrailsDomainClassProperty.MAPPING);
-            if (o != null || defaultMapping != null) {
-                HibernateMappingBuilder builder = new HibernateMappingBuilder(domainClass.getFullName());
-                GrailsApplication application = domainClass.getGrailsApplication();
-                ApplicationContext ctx = null;
-                if (application != null) {
-                    ctx = application.getMainContext();
-                    if (ctx == null) ctx = application.getParentContext();
-                }
-
-                Mapping m = null;
-                if (defaultMapping != null) {
-                    m = builder.evaluate(defaultMapping,ctx);
-                }
-
-                if (o instanceof Closure) {
-                    m = builder.evaluate((Closure<?>) o,ctx);
-                }
+    /**
+     * Evaluates the mapping of a domain class. If the mapping is cached it is only evaluated the first time it is
+     * requested for a class and default mapping: later calls with the same default mapping (compared by identity)
+     * return the cached mapping until the cache is cleared for the class, a call with another default mapping
+     * evaluates the mapping again and replaces the cached one.
+     *
+     * @param domainClass The domain class
+     * @param defaultMapping The default mapping, applied before the mapping of the class. Can be null
+     * @param cache Whether to cache the mapping
+     * @return The mapping, or null if there is neither a default mapping nor a mapping for the class
+     */
+    public static Mapping evaluateMapping(final GrailsDomainClass domainClass, final Closure<?> defaultMapping, boolean cache) {
+        try {
+            Mapping m;
+            if (cache) {
+                m = MAPPING_CACHE.getOrEvaluate(domainClass.getClazz(), defaultMapping, new MappingCache.Evaluator() {
+                    public Mapping evaluate() {
+                        return buildMapping(domainClass, defaultMapping);
+                    }
+                });
+            }
+            else {
+                m = buildMapping(domainClass, defaultMapping);
+            }
 
+            if (m != null) {
                 final Object identity = m.getIdentity();
                 if(identity instanceof Identity) {
                     final Identity identityObject = (Identity) identity;
@@ -1370,19 +1389,93 @@ public final class GrailsDomainBinder {
                 }
 
                 trackCustomCascadingSaves(m, domainClass.getPersistentProperties());
-
-                if (cache) {
-                    MAPPING_CACHE.put(domainClass.getClazz(), m);
-                }
-                return m;
             }
-            return null;
+            return m;
         } catch (Exception e) {
             throw new GrailsDomainException("Error evaluating ORM mappings block for domain [" +
                     domainClass.getFullName() + "]:  " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Evaluates and caches the mappings of the given domain classes, using up to <code>poolSize</code> threads.
+     * If evaluating a mapping fails the first failure is rethrown once the running evaluations have finished.
+     *
+     * @param domainClasses The domain classes
+     * @param defaultMapping The default mapping, can be null
+     * @param poolSize The maximum number of threads, the mappings are evaluated on the calling thread if 1 or less
+     */
+    public static void evaluateMappings(Collection<GrailsDomainClass> domainClasses, final Closure<?> defaultMapping, int poolSize) {
+        if (poolSize <= 1 || domainClasses.size() <= 1) {
+            for (GrailsDomainClass domainClass : domainClasses) {
+                evaluateMapping(domainClass, defaultMapping);
+            }
+            return;
+        }
+
+        ExecutorService executor = DaemonThreadFactory.newFixedThreadPool(
+                Math.min(poolSize, domainClasses.size()), "grails-evaluateMapping");
+        try {
+            List<Future<Mapping>> results = new ArrayList<Future<Mapping>>();
+            for (final GrailsDomainClass domainClass : domainClasses) {
+                results.add(executor.submit(new Callable<Mapping>() {
+                    public Mapping call() {
+                        return evaluateMapping(domainClass, defaultMapping);
+                    }
+                }));
+            }
+            RuntimeException failure = null;
+            for (Future<Mapping> result : results) {
+                try {
+                    result.get();
+                }
+                catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException ? (RuntimeException)e.getCause() :
+                            new GrailsDomainException("Error evaluating ORM mappings: " + e.getCause().getMessage(), e.getCause());
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GrailsDomainException("Interrupted while evaluating ORM mappings", e);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Mapping buildMapping(GrailsDomainClass domainClass, Closure<?> defaultMapping) {
+        Object o = GrailsClassUtils.getStaticPropertyValue(domainClass.getClazz(), GrailsDomainClassProperty.MAPPING);
+        if (o == null && defaultMapping == null) {
+            return null;
+        }
+
+        HibernateMappingBuilder builder = new HibernateMappingBuilder(domainClass.getFullName());
+        GrailsApplication application = domainClass.getGrailsApplication();
+        ApplicationContext ctx = null;
+        if (application != null) {
+            ctx = application.getMainContext();
+            if (ctx == null) ctx = application.getParentContext();
+        }
+
+        // the builder sets the delegate of the closures, so copies are evaluated in case
+        // several mappings are evaluated at the same time
+        Mapping m = null;
+        if (defaultMapping != null) {
+            m = builder.evaluate((Closure<?>) defaultMapping.clone(), ctx);
+        }
+
+        if (o instanceof Closure) {
+            m = builder.evaluate((Closure<?>) ((Closure<?>) o).clone(), ctx);
+        }
+        return m;
+    }
+
     /**
      * Checks for any custom cascading saves set up via the mapping DSL and records them within the persistent property.
      * @param mapping The Mapping.
@@ -1442,13 +1535,7 @@ public final class GrailsDomainBinder {
     }
 
     public static void clearMappingCache(Class<?> theClass) {
-        String className = theClass.getName();
-        for(Iterator<Map.Entry<Class<?>, Mapping>> it = MAPPING_CACHE.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<Class<?>, Mapping> entry = it.next();
-            if(className.equals(entry.getKey().getName())) {
-                it.remove();
-            }
-        }
+        MAPPING_CACHE.clear(theClass);
     }
 
     /**
@@ -70,6 +70,8 @@ class HibernateMappingBuilder {
      */
     void includes(Closure callable) {
         if (callable) {
+            // included closures are often shared, so a copy is evaluated
+            callable = callable.clone()
             callable.resolveStrategy = Closure.DELEGATE_ONLY
             callable.delegate = this
             try {
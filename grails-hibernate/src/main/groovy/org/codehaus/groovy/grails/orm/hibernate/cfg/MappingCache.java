@@ -0,0 +1,130 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.orm.hibernate.cfg;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the evaluated {@link Mapping} of each domain class. The mapping of a class is evaluated once for each
+ * default mapping, other threads asking for the same class wait for the evaluation, threads asking for other
+ * classes do not. Asking for the mapping of a class with another default mapping than the one it was evaluated
+ * with evaluates it again and replaces it.
+ *
+ * Entries are keyed by class name and only hold the class weakly, so a reloaded class replaces the mapping of
+ * the class it replaces and the cache does not keep old classes loaded.
+ *
+ * @since 2.3
+ */
+class MappingCache {
+
+    /**
+     * Evaluates the mapping of a class.
+     */
+    interface Evaluator {
+        Mapping evaluate() throws Exception;
+    }
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+
+    /**
+     * @return The mapping of the class, or null if it has not been evaluated or the class has no mapping
+     */
+    Mapping get(Class<?> theClass) {
+        Entry entry = entries.get(theClass.getName());
+        return entry != null && entry.isFor(theClass) ? entry.mapping : null;
+    }
+
+    /**
+     * Replaces the mapping of the class. The next evaluation of the class evaluates it again, whatever its
+     * default mapping is.
+     */
+    void put(Class<?> theClass, Mapping mapping) {
+        Entry entry = new Entry(theClass, Entry.UNKNOWN_DEFAULT_MAPPING);
+        entry.mapping = mapping;
+        entry.evaluated = true;
+        entries.put(theClass.getName(), entry);
+    }
+
+    /**
+     * Returns the mapping of the class, evaluating it if it has not been evaluated yet with the given default
+     * mapping. If the evaluation fails nothing is cached and the next call evaluates it again.
+     *
+     * @param theClass The class
+     * @param defaultMapping The default mapping the evaluator applies, compared by identity. Can be null
+     * @param evaluator Evaluates the mapping
+     */
+    Mapping getOrEvaluate(Class<?> theClass, Object defaultMapping, Evaluator evaluator) throws Exception {
+        Entry entry = entryFor(theClass, defaultMapping);
+        if (entry.evaluated) {
+            return entry.mapping;
+        }
+        synchronized (entry) {
+            if (!entry.evaluated) {
+                try {
+                    entry.mapping = evaluator.evaluate();
+                    entry.evaluated = true;
+                }
+                catch (Exception e) {
+                    entries.remove(theClass.getName(), entry);
+                    throw e;
+                }
+            }
+            return entry.mapping;
+        }
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    void clear(Class<?> theClass) {
+        entries.remove(theClass.getName());
+    }
+
+    private Entry entryFor(Class<?> theClass, Object defaultMapping) {
+        String name = theClass.getName();
+        while (true) {
+            Entry existing = entries.get(name);
+            if (existing != null && existing.isFor(theClass) && existing.defaultMapping == defaultMapping) {
+                return existing;
+            }
+            Entry entry = new Entry(theClass, defaultMapping);
+            if (existing == null ? entries.putIfAbsent(name, entry) == null : entries.replace(name, existing, entry)) {
+                return entry;
+            }
+        }
+    }
+
+    private static class Entry {
+        static final Object UNKNOWN_DEFAULT_MAPPING = new Object();
+
+        private final WeakReference<Class<?>> type;
+        final Object defaultMapping;
+        volatile Mapping mapping;
+        volatile boolean evaluated;
+
+        Entry(Class<?> type, Object defaultMapping) {
+            this.type = new WeakReference<Class<?>>(type);
+            this.defaultMapping = defaultMapping;
+        }
+
+        boolean isFor(Class<?> theClass) {
+            return type.get() == theClass;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import groovy.lang.MissingMethodException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.codehaus.groovy.grails.commons.*;
+import org.codehaus.groovy.grails.exceptions.InvalidPropertyException;
 import org.hibernate.Criteria;
 import org.hibernate.SessionFactory;
 import org.hibernate.criterion.CriteriaQuery;
@@ -31,11 +32,14 @@ import org.springframework.beans.SimpleTypeConverter;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -50,7 +54,7 @@ public abstract class AbstractClausedStaticPersistentMethod extends AbstractStat
     /**
      * @author Graeme Rocher
      */
-    protected abstract static class GrailsMethodExpression {
+    protected abstract static class GrailsMethodExpression implements Cloneable {
         protected static final String LESS_THAN = "LessThan";
         protected static final String LESS_THAN_OR_EQUAL = "LessThanEquals";
         protected static final String GREATER_THAN = "GreaterThan";
@@ -73,6 +77,7 @@ public abstract class AbstractClausedStaticPersistentMethod extends AbstractStat
         protected String type;
         protected Class<?> targetClass;
         private GrailsApplication application;
+        private GrailsDomainClassProperty domainProperty;
 
         /**
          * Used as an indication that an expression will return no results, so stop processing and return nothing.
@@ -127,9 +132,12 @@ public abstract class AbstractClausedStaticPersistentMethod extends AbstractStat
                         argumentsRequired + " arguments");
             }
 
-            GrailsDomainClass dc = (GrailsDomainClass)application.getArtefact(
-                    DomainClassArtefactHandler.TYPE, targetClass.getName());
-            GrailsDomainClassProperty prop = dc.getPropertyByName(propertyName);
+            GrailsDomainClassProperty prop = domainProperty;
+            if (prop == null) {
+                GrailsDomainClass dc = (GrailsDomainClass)application.getArtefact(
+                        DomainClassArtefactHandler.TYPE, targetClass.getName());
+                prop = dc.getPropertyByName(propertyName);
+            }
 
             if (prop == null) {
                 throw new IllegalArgumentException("Property " + propertyName +
@@ -173,6 +181,33 @@ public abstract class AbstractClausedStaticPersistentMethod extends AbstractStat
             arguments = args;
         }
 
+        /**
+         * Resolves and remembers the domain class property of this expression so that copies
+         * don't need to look it up again when their arguments are set.
+         */
+        void resolveDomainProperty() {
+            GrailsDomainClass dc = (GrailsDomainClass)application.getArtefact(
+                    DomainClassArtefactHandler.TYPE, targetClass.getName());
+            if (dc == null) {
+                return;
+            }
+            try {
+                domainProperty = dc.getPropertyByName(propertyName);
+            }
+            catch (InvalidPropertyException e) {
+                // reported when the arguments are set
+            }
+        }
+
+        GrailsMethodExpression copy() {
+            try {
+                return (GrailsMethodExpression)clone();
+            }
+            catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
         abstract Criterion createCriterion();
 
         protected Criterion getCriterion() {
@@ -419,6 +454,10 @@ public abstract class AbstractClausedStaticPersistentMethod extends AbstractStat
         }
     }
 
+    // shared by all finders (and data sources) so that the plans of a reloaded domain class can be dropped
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<String, FinderPlan>> FINDER_PLANS =
+        new ConcurrentReferenceHashMap<Class<?>, ConcurrentMap<String, FinderPlan>>();
+
     private final String[] operators;
     private final Pattern[] operatorPatterns;
 
@@ -457,14 +496,94 @@ public abstract class AbstractClausedStaticPersistentMethod extends AbstractStat
     }
 
     protected Object doInvokeInternal(Class<?> clazz, String methodName, DetachedCriteria<?> detachedCriteria, Closure<?> additionalCriteria, Object[] arguments) {
-        List<GrailsMethodExpression> expressions = new ArrayList<GrailsMethodExpression>();
         if (arguments == null) arguments = new Object[0];
+        FinderPlan plan = getFinderPlan(clazz, methodName);
+
+        List<GrailsMethodExpression> expressions = new ArrayList<GrailsMethodExpression>(plan.expressions.length);
+        int argumentCursor = 0;
+        for (GrailsMethodExpression prototype : plan.expressions) {
+            GrailsMethodExpression currentExpression = prototype.copy();
+            if (prototype.arguments == null) {
+                // populate the arguments into the GrailsExpression from the argument list
+                if ((argumentCursor + currentExpression.argumentsRequired) > arguments.length) {
+                    throw new MissingMethodException(methodName, clazz, arguments);
+                }
+
+                Object[] currentArguments = new Object[currentExpression.argumentsRequired];
+                System.arraycopy(arguments, argumentCursor, currentArguments, 0, currentExpression.argumentsRequired);
+                argumentCursor += currentExpression.argumentsRequired;
+                try {
+                    currentExpression.setArguments(currentArguments);
+                }
+                catch (IllegalArgumentException iae) {
+                    LOG.debug(iae.getMessage(), iae);
+                    throw new MissingMethodException(methodName, clazz, arguments);
+                }
+            }
+            expressions.add(currentExpression);
+        }
+
+        // calculate the remaining arguments
+        Object[] remainingArguments = new Object[arguments.length - argumentCursor];
+        if (remainingArguments.length > 0) {
+            System.arraycopy(arguments, argumentCursor, remainingArguments, 0, remainingArguments.length);
+        }
+
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Calculated expressions: " + expressions);
+        }
+
+        return doInvokeInternalWithExpressions(clazz, methodName, remainingArguments, expressions, plan.operatorInUse, detachedCriteria, additionalCriteria);
+    }
+
+    /**
+     * Returns the parsed form of the given finder method name. Plans only depend on the class, the finder and the
+     * method name so they are cached per domain class and only bound to the actual arguments at invocation time.
+     *
+     * @param clazz The domain class
+     * @param methodName The name of the finder method
+     * @return The plan
+     */
+    protected FinderPlan getFinderPlan(Class<?> clazz, String methodName) {
+        ConcurrentMap<String, FinderPlan> plans = FINDER_PLANS.get(clazz);
+        if (plans == null) {
+            plans = new ConcurrentHashMap<String, FinderPlan>();
+            ConcurrentMap<String, FinderPlan> existing = FINDER_PLANS.putIfAbsent(clazz, plans);
+            if (existing != null) {
+                plans = existing;
+            }
+        }
+
+        FinderPlan plan = plans.get(methodName);
+        if (plan == null || !plan.isFor(getClass(), application)) {
+            plan = createFinderPlan(clazz, methodName);
+            plans.put(methodName, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Drops the finder plans of all domain classes.
+     */
+    public static void clearFinderPlans() {
+        FINDER_PLANS.clear();
+    }
+
+    /**
+     * Drops the finder plans of the given domain class, which also hold on to its domain class properties.
+     *
+     * @param clazz The domain class
+     */
+    public static void clearFinderPlans(Class<?> clazz) {
+        FINDER_PLANS.remove(clazz);
+    }
+
+    private FinderPlan createFinderPlan(Class<?> clazz, String methodName) {
+        List<GrailsMethodExpression> expressions = new ArrayList<GrailsMethodExpression>();
         Matcher match = super.getPattern().matcher(methodName);
         // find match
         match.find();
 
-        String[] queryParameters;
-        int totalRequiredArguments = 0;
         // get the sequence clauses
         final String querySequence;
         int groupCount = match.groupCount();
@@ -490,89 +609,53 @@ public abstract class AbstractClausedStaticPersistentMethod extends AbstractStat
         else {
             querySequence = match.group(2);
         }
+
         // if it contains operator and split
-        boolean containsOperator = false;
         String operatorInUse = null;
         if (querySequence != null) {
             for (int i = 0; i < operators.length; i++) {
                 Matcher currentMatcher = operatorPatterns[i].matcher(querySequence);
                 if (currentMatcher.find()) {
-                    containsOperator = true;
                     operatorInUse = operators[i];
-
-                    queryParameters = querySequence.split(operatorInUse);
-
-                    // loop through query parameters and create expressions
-                    // calculating the number of arguments required for the expression
-                    int argumentCursor = 0;
-                    for (String queryParameter : queryParameters) {
-                        GrailsMethodExpression currentExpression = GrailsMethodExpression.create(
-                                application, clazz, queryParameter);
-                        totalRequiredArguments += currentExpression.argumentsRequired;
-                        // populate the arguments into the GrailsExpression from the argument list
-                        Object[] currentArguments = new Object[currentExpression.argumentsRequired];
-                        if ((argumentCursor + currentExpression.argumentsRequired) > arguments.length) {
-                            throw new MissingMethodException(methodName, clazz, arguments);
-                        }
-
-                        for (int k = 0; k < currentExpression.argumentsRequired; k++, argumentCursor++) {
-                            currentArguments[k] = arguments[argumentCursor];
-                        }
-                        try {
-                            currentExpression.setArguments(currentArguments);
-                        }
-                        catch (IllegalArgumentException iae) {
-                            LOG.debug(iae.getMessage(), iae);
-                            throw new MissingMethodException(methodName, clazz, arguments);
-                        }
-                        // add to list of expressions
-                        expressions.add(currentExpression);
+                    for (String queryParameter : querySequence.split(operatorInUse)) {
+                        expressions.add(GrailsMethodExpression.create(application, clazz, queryParameter));
                     }
                     break;
                 }
             }
-        }
-        // otherwise there is only one expression
-        if (!containsOperator && querySequence != null) {
-            GrailsMethodExpression solo = GrailsMethodExpression.create(application, clazz, querySequence);
-
-            if (solo.argumentsRequired > arguments.length) {
-                throw new MissingMethodException(methodName,clazz,arguments);
-            }
-
-            totalRequiredArguments += solo.argumentsRequired;
-            Object[] soloArgs = new Object[solo.argumentsRequired];
-
-            System.arraycopy(arguments, 0, soloArgs, 0, solo.argumentsRequired);
-            try {
-                solo.setArguments(soloArgs);
+            // otherwise there is only one expression
+            if (operatorInUse == null) {
+                expressions.add(GrailsMethodExpression.create(application, clazz, querySequence));
             }
-            catch (IllegalArgumentException iae) {
-                LOG.debug(iae.getMessage(), iae);
-                throw new MissingMethodException(methodName,clazz,arguments);
-            }
-            expressions.add(solo);
         }
 
-        // if the total of all the arguments necessary does not equal the number of arguments
-        // throw exception
-        if (totalRequiredArguments > arguments.length) {
-            throw new MissingMethodException(methodName,clazz,arguments);
+        for (GrailsMethodExpression expression : expressions) {
+            expression.resolveDomainProperty();
         }
+        return new FinderPlan(getClass(), application,
+                expressions.toArray(new GrailsMethodExpression[expressions.size()]), operatorInUse);
+    }
 
-        // calculate the remaining arguments
-        Object[] remainingArguments = new Object[arguments.length - totalRequiredArguments];
-        if (remainingArguments.length > 0) {
-            for (int i = 0, j = totalRequiredArguments; i < remainingArguments.length; i++,j++) {
-                remainingArguments[i] = arguments[j];
-            }
+    /**
+     * The parsed form of a finder method name: the expressions to evaluate and the operator used to combine them.
+     * Expressions without arguments are prototypes that are copied and bound to the arguments of each invocation.
+     */
+    protected static class FinderPlan {
+        final Class<?> finderClass;
+        final GrailsApplication application;
+        final GrailsMethodExpression[] expressions;
+        final String operatorInUse;
+
+        FinderPlan(Class<?> finderClass, GrailsApplication application, GrailsMethodExpression[] expressions, String operatorInUse) {
+            this.finderClass = finderClass;
+            this.application = application;
+            this.expressions = expressions;
+            this.operatorInUse = operatorInUse;
         }
 
-        if (LOG.isTraceEnabled()) {
-            LOG.trace("Calculated expressions: " + expressions);
+        boolean isFor(Class<?> finder, GrailsApplication app) {
+            return finderClass == finder && application == app;
         }
-
-        return doInvokeInternalWithExpressions(clazz, methodName, remainingArguments, expressions, operatorInUse, detachedCriteria, additionalCriteria);
     }
 
     @SuppressWarnings("rawtypes")
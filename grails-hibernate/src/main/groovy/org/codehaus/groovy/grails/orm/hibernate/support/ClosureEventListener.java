@@ -131,6 +131,8 @@ public class ClosureEventListener implements SaveOrUpdateEventListener,
     }
 
     private EventTriggerCaller buildCaller(Class<?> domainClazz, String event) {
+        // handler methods are invoked through reflection: grails-hibernate has no Java 7 source set (like the
+        // one grails-core builds when compiled on Java 7) that could hold a MethodHandle based caller
         Method method = ReflectionUtils.findMethod(domainClazz, event);
         if (method != null) {
             ReflectionUtils.makeAccessible(method);
@@ -174,181 +176,151 @@ public class ClosureEventListener implements SaveOrUpdateEventListener,
         }
     }
 
-    public void onPreLoad(final PreLoadEvent event) {
-        if (preLoadEventCaller == null) {
-            return;
+    public void onPreLoad(PreLoadEvent event) {
+        if (preLoadEventCaller != null) {
+            callWithManualSession(event, preLoadEventCaller, event.getEntity());
         }
-
-        doWithManualSession(event, new Closure(this) {
-            @Override
-            public Object call() {
-                preLoadEventCaller.call(event.getEntity());
-                return null;
-            }
-        });
     }
 
-    public void onPostLoad(final PostLoadEvent event) {
-        if (postLoadEventListener == null) {
-            return;
+    public void onPostLoad(PostLoadEvent event) {
+        if (postLoadEventListener != null) {
+            callWithManualSession(event, postLoadEventListener, event.getEntity());
         }
-
-       doWithManualSession(event, new Closure(this) {
-            @Override
-            public Object call() {
-                postLoadEventListener.call(event.getEntity());
-                return null;
-            }
-        });
     }
 
     public void onPostInsert(PostInsertEvent event) {
-        final Object entity = event.getEntity();
+        Object entity = event.getEntity();
         AbstractSavePersistentMethod.clearDisabledValidations(entity);
-        if (postInsertEventListener == null) {
-            return;
+        if (postInsertEventListener != null) {
+            callWithManualSession(event, postInsertEventListener, entity);
         }
-
-        doWithManualSession(event, new Closure(this) {
-            @Override
-            public Object call() {
-                postInsertEventListener.call(entity);
-                return null;
-            }
-        });
     }
 
     public void onPostUpdate(PostUpdateEvent event) {
-        final Object entity = event.getEntity();
+        Object entity = event.getEntity();
         AbstractSavePersistentMethod.clearDisabledValidations(entity);
-        if (postUpdateEventListener == null) {
-            return;
+        if (postUpdateEventListener != null) {
+            callWithManualSession(event, postUpdateEventListener, entity);
         }
-
-        doWithManualSession(event, new Closure(this) {
-            @Override
-            public Object call() {
-                postUpdateEventListener.call(entity);
-                return null;
-            }
-        });
     }
 
     public void onPostDelete(PostDeleteEvent event) {
-        final Object entity = event.getEntity();
+        Object entity = event.getEntity();
         AbstractSavePersistentMethod.clearDisabledValidations(entity);
-        if (postDeleteEventListener == null) {
-            return;
+        if (postDeleteEventListener != null) {
+            callWithManualSession(event, postDeleteEventListener, entity);
         }
-
-        doWithManualSession(event, new Closure(this) {
-            @Override
-            public Object call() {
-                postDeleteEventListener.call(entity);
-                return null;
-            }
-        });
     }
 
-    public boolean onPreDelete(final PreDeleteEvent event) {
+    public boolean onPreDelete(PreDeleteEvent event) {
         if (preDeleteEventListener == null) {
             return false;
         }
+        return callWithManualSession(event, preDeleteEventListener, event.getEntity());
+    }
 
-        return doWithManualSession(event, new Closure<Boolean>(this) {
-            @Override
-            public Boolean call() {
-                return preDeleteEventListener.call(event.getEntity());
-            }
-        });
+    public boolean onPreUpdate(PreUpdateEvent event) {
+        Session session = event.getSession();
+        FlushMode current = session.getFlushMode();
+        try {
+            session.setFlushMode(FlushMode.MANUAL);
+            return doPreUpdate(event);
+        } finally {
+            session.setFlushMode(current);
+        }
     }
 
-    public boolean onPreUpdate(final PreUpdateEvent event) {
-        return doWithManualSession(event, new Closure<Boolean>(this) {
-            @Override
-            public Boolean call() {
-                Object entity = event.getEntity();
-                boolean evict = false;
-                if (preUpdateEventListener != null) {
-                    evict = preUpdateEventListener.call(entity);
-                    synchronizePersisterState(entity, event.getPersister(), event.getState());
-                }
-                if (lastUpdatedProperty != null && shouldTimestamp) {
-                    Object now = DefaultGroovyMethods.newInstance(lastUpdatedProperty.getType(), new Object[] { System
-                            .currentTimeMillis() });
-                    event.getState()[ArrayUtils.indexOf(event.getPersister().getPropertyNames(), GrailsDomainClassProperty.LAST_UPDATED)] = now;
-                    lastUpdatedProperty.setProperty(entity, now);
-                }
-                if (!AbstractSavePersistentMethod.isAutoValidationDisabled(entity)
-                        && !DefaultTypeTransformation.castToBoolean(validateMethod.invoke(entity,
-                                new Object[] { validateParams }))) {
-                    evict = true;
-                    if (failOnErrorEnabled) {
-                        Errors errors = (Errors) errorsProperty.getProperty(entity);
-                        throw new ValidationException("Validation error whilst flushing entity [" + entity.getClass().getName()
-                                + "]", errors);
-                    }
-                }
-                return evict;
+    private boolean doPreUpdate(PreUpdateEvent event) {
+        Object entity = event.getEntity();
+        boolean evict = false;
+        if (preUpdateEventListener != null) {
+            evict = preUpdateEventListener.call(entity);
+            synchronizePersisterState(entity, event.getPersister(), event.getState());
+        }
+        if (lastUpdatedProperty != null && shouldTimestamp) {
+            Object now = DefaultGroovyMethods.newInstance(lastUpdatedProperty.getType(), new Object[] { System
+                    .currentTimeMillis() });
+            event.getState()[ArrayUtils.indexOf(event.getPersister().getPropertyNames(), GrailsDomainClassProperty.LAST_UPDATED)] = now;
+            lastUpdatedProperty.setProperty(entity, now);
+        }
+        if (!AbstractSavePersistentMethod.isAutoValidationDisabled(entity)
+                && !DefaultTypeTransformation.castToBoolean(validateMethod.invoke(entity,
+                        new Object[] { validateParams }))) {
+            evict = true;
+            if (failOnErrorEnabled) {
+                Errors errors = (Errors) errorsProperty.getProperty(entity);
+                throw new ValidationException("Validation error whilst flushing entity [" + entity.getClass().getName()
+                        + "]", errors);
             }
-        });
+        }
+        return evict;
+    }
+
+    /**
+     * Calls the event handler with the session flush mode set to manual. No closure is created per event,
+     * loading large result sets calls the handlers for every row.
+     */
+    private boolean callWithManualSession(AbstractEvent event, EventTriggerCaller caller, Object entity) {
+        Session session = event.getSession();
+        FlushMode current = session.getFlushMode();
+        try {
+            session.setFlushMode(FlushMode.MANUAL);
+            return caller.call(entity);
+        } finally {
+            session.setFlushMode(current);
+        }
     }
 
-    private <T> T doWithManualSession(AbstractEvent event, Closure<T> callable) {
+    public boolean onPreInsert(PreInsertEvent event) {
         Session session = event.getSession();
         FlushMode current = session.getFlushMode();
         try {
-           session.setFlushMode(FlushMode.MANUAL);
-           return callable.call();
+            session.setFlushMode(FlushMode.MANUAL);
+            return doPreInsert(event);
         } finally {
             session.setFlushMode(current);
         }
     }
 
-    public boolean onPreInsert(final PreInsertEvent event) {
-        return doWithManualSession(event, new Closure<Boolean>(this) {
-            @Override
-            public Boolean call() {
-                Object entity = event.getEntity();
-                boolean synchronizeState = false;
-                if (beforeInsertCaller != null) {
-                    if (beforeInsertCaller.call(entity)) {
-                        return true;
-                    }
-                    synchronizeState = true;
-                }
-                if (shouldTimestamp) {
-                    long time = System.currentTimeMillis();
-                    if (dateCreatedProperty != null) {
-                        Object now = DefaultGroovyMethods.newInstance(dateCreatedProperty.getType(), new Object[] { time });
-                        dateCreatedProperty.setProperty(entity, now);
-                        synchronizeState = true;
-                    }
-                    if (lastUpdatedProperty != null) {
-                        Object now = DefaultGroovyMethods.newInstance(lastUpdatedProperty.getType(), new Object[] { time });
-                        lastUpdatedProperty.setProperty(entity, now);
-                        synchronizeState = true;
-                    }
-                }
-
-                if (synchronizeState) {
-                    synchronizePersisterState(entity, event.getPersister(), event.getState());
-                }
-
-                boolean evict = false;
-                if (!AbstractSavePersistentMethod.isAutoValidationDisabled(entity)
-                        && !DefaultTypeTransformation.castToBoolean(validateMethod.invoke(entity,
-                                new Object[] { validateParams }))) {
-                    evict = true;
-                    if (failOnErrorEnabled) {
-                        Errors errors = (Errors) errorsProperty.getProperty(entity);
-                        throw new ValidationException("Validation error whilst flushing entity [" + entity.getClass().getName()
-                                + "]", errors);
-                    }
-                }
-                return evict;
+    private boolean doPreInsert(PreInsertEvent event) {
+        Object entity = event.getEntity();
+        boolean synchronizeState = false;
+        if (beforeInsertCaller != null) {
+            if (beforeInsertCaller.call(entity)) {
+                return true;
             }
-        });
+            synchronizeState = true;
+        }
+        if (shouldTimestamp) {
+            long time = System.currentTimeMillis();
+            if (dateCreatedProperty != null) {
+                Object now = DefaultGroovyMethods.newInstance(dateCreatedProperty.getType(), new Object[] { time });
+                dateCreatedProperty.setProperty(entity, now);
+                synchronizeState = true;
+            }
+            if (lastUpdatedProperty != null) {
+                Object now = DefaultGroovyMethods.newInstance(lastUpdatedProperty.getType(), new Object[] { time });
+                lastUpdatedProperty.setProperty(entity, now);
+                synchronizeState = true;
+            }
+        }
+
+        if (synchronizeState) {
+            synchronizePersisterState(entity, event.getPersister(), event.getState());
+        }
+
+        boolean evict = false;
+        if (!AbstractSavePersistentMethod.isAutoValidationDisabled(entity)
+                && !DefaultTypeTransformation.castToBoolean(validateMethod.invoke(entity,
+                        new Object[] { validateParams }))) {
+            evict = true;
+            if (failOnErrorEnabled) {
+                Errors errors = (Errors) errorsProperty.getProperty(entity);
+                throw new ValidationException("Validation error whilst flushing entity [" + entity.getClass().getName()
+                        + "]", errors);
+            }
+        }
+        return evict;
     }
 
     public void onValidate(ValidationEvent event) {
@@ -21,6 +21,7 @@ import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.codehaus.groovy.grails.orm.hibernate.HibernateDatastore;
 import org.codehaus.groovy.grails.orm.hibernate.SessionFactoryProxy;
@@ -83,8 +84,9 @@ public class ClosureEventTriggeringInterceptor extends SaveOrUpdateEventListener
     public static final String AFTER_LOAD_EVENT = "afterLoad";
 
     private Method markInterceptorDirtyMethod;
-    private ApplicationContext ctx;
     private Map<SessionFactory, HibernateDatastore> datastores;
+    private final Map<SessionFactory, Datastore> datastoresBySessionFactory = new ConcurrentHashMap<SessionFactory, Datastore>();
+    private PersistenceEventBus eventBus;
 
     private static final ThreadLocal<Boolean> insertActiveThreadLocal = new ThreadLocal<Boolean>();
 
@@ -99,6 +101,7 @@ public class ClosureEventTriggeringInterceptor extends SaveOrUpdateEventListener
 
     public void setDatastores(Map<SessionFactory, HibernateDatastore> datastores) {
         this.datastores = datastores;
+        datastoresBySessionFactory.clear();
     }
 
     @Override
@@ -155,16 +158,27 @@ public class ClosureEventTriggeringInterceptor extends SaveOrUpdateEventListener
     }
 
     public void setApplicationContext(ApplicationContext applicationContext) {
-        ctx = applicationContext;
+        eventBus = new PersistenceEventBus(applicationContext);
     }
 
     private void publishEvent(AbstractEvent hibernateEvent, AbstractPersistenceEvent mappingEvent) {
         mappingEvent.setNativeEvent(hibernateEvent);
-        ctx.publishEvent(mappingEvent);
+        eventBus.publishEvent(mappingEvent);
     }
 
     private Datastore findDatastore(AbstractEvent hibernateEvent) {
         SessionFactory sessionFactory = hibernateEvent.getSession().getSessionFactory();
+        Datastore datastore = datastoresBySessionFactory.get(sessionFactory);
+        if (datastore == null) {
+            datastore = resolveDatastore(sessionFactory);
+            if (datastore != null) {
+                datastoresBySessionFactory.put(sessionFactory, datastore);
+            }
+        }
+        return datastore;
+    }
+
+    private Datastore resolveDatastore(SessionFactory sessionFactory) {
         if (!(sessionFactory instanceof SessionFactoryProxy)) {
             // should always be the case
             for (Map.Entry<SessionFactory, HibernateDatastore> entry : datastores.entrySet()) {
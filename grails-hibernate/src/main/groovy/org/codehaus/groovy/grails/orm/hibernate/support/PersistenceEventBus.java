@@ -0,0 +1,116 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.orm.hibernate.support;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.codehaus.groovy.grails.context.support.GrailsApplicationEventMulticaster;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+
+/**
+ * Publishes GORM persistence events to the listeners of an application context. The listeners that
+ * support an event type are looked up once and kept until a listener is added to or removed from the
+ * {@link GrailsApplicationEventMulticaster}, instead of asking every application listener whether it supports
+ * each event. Events that no listener supports are not dispatched at all.
+ *
+ * If the context does not use a synchronous {@link GrailsApplicationEventMulticaster} events are published
+ * through the context as usual.
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public class PersistenceEventBus {
+
+    private static final ApplicationListener<?>[] NO_LISTENERS = new ApplicationListener<?>[0];
+
+    private final ApplicationContext applicationContext;
+    private final ConcurrentMap<Class<?>, Listeners> listenersByEventType = new ConcurrentHashMap<Class<?>, Listeners>();
+    private volatile GrailsApplicationEventMulticaster multicaster;
+    private volatile boolean multicasterResolved;
+
+    public PersistenceEventBus(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * Publishes the event to the listeners of the application context and its parents.
+     *
+     * @param event The event
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void publishEvent(ApplicationEvent event) {
+        GrailsApplicationEventMulticaster eventMulticaster = getMulticaster();
+        if (eventMulticaster == null || !eventMulticaster.isSynchronous()) {
+            applicationContext.publishEvent(event);
+            return;
+        }
+
+        for (ApplicationListener listener : getListeners(eventMulticaster, event)) {
+            listener.onApplicationEvent(event);
+        }
+
+        ApplicationContext parent = applicationContext.getParent();
+        if (parent != null) {
+            parent.publishEvent(event);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private ApplicationListener<?>[] getListeners(GrailsApplicationEventMulticaster eventMulticaster, ApplicationEvent event) {
+        Class<?> eventType = event.getClass();
+        Class<?> sourceType = event.getSource().getClass();
+        Listeners listeners = listenersByEventType.get(eventType);
+        int registrationCount = eventMulticaster.getRegistrationCount();
+        if (listeners == null || listeners.registrationCount != registrationCount || listeners.sourceType != sourceType) {
+            List<ApplicationListener> supported = eventMulticaster.getListeners(event);
+            listeners = new Listeners(registrationCount, sourceType,
+                    supported.isEmpty() ? NO_LISTENERS : supported.toArray(new ApplicationListener<?>[supported.size()]));
+            listenersByEventType.put(eventType, listeners);
+        }
+        return listeners.listeners;
+    }
+
+    private GrailsApplicationEventMulticaster getMulticaster() {
+        if (!multicasterResolved) {
+            String beanName = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME;
+            if (applicationContext.containsLocalBean(beanName)) {
+                Object bean = applicationContext.getBean(beanName);
+                if (bean instanceof GrailsApplicationEventMulticaster) {
+                    multicaster = (GrailsApplicationEventMulticaster)bean;
+                }
+            }
+            multicasterResolved = true;
+        }
+        return multicaster;
+    }
+
+    private static final class Listeners {
+        final int registrationCount;
+        final Class<?> sourceType;
+        final ApplicationListener<?>[] listeners;
+
+        Listeners(int registrationCount, Class<?> sourceType, ApplicationListener<?>[] listeners) {
+            this.registrationCount = registrationCount;
+            this.sourceType = sourceType;
+            this.listeners = listeners;
+        }
+    }
+}
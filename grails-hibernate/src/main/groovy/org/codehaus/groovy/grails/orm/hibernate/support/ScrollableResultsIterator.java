@@ -0,0 +1,71 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.orm.hibernate.support;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.hibernate.ScrollableResults;
+
+/**
+ * Adapts ScrollableResults to an Iterator so that results can be consumed lazily, for example by the
+ * converters when rendering large results. Rows with a single column are returned as the column value.
+ * The results are closed once the last row has been read or when the iterator is closed, which the
+ * converters do after rendering it.
+ *
+ * @since 2.3
+ */
+public class ScrollableResultsIterator implements Iterator<Object>, Closeable {
+
+    private final ScrollableResults results;
+    private Boolean hasNext;
+    private boolean closed;
+
+    public ScrollableResultsIterator(ScrollableResults results) {
+        this.results = results;
+    }
+
+    public boolean hasNext() {
+        if (hasNext == null) {
+            hasNext = !closed && results.next();
+            if (!hasNext) {
+                close();
+            }
+        }
+        return hasNext;
+    }
+
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        hasNext = null;
+        Object[] row = results.get();
+        return row.length == 1 ? row[0] : row;
+    }
+
+    public void close() {
+        if (!closed) {
+            closed = true;
+            results.close();
+        }
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+}
@@ -32,6 +32,7 @@ import org.codehaus.groovy.grails.orm.hibernate.*
 import org.codehaus.groovy.grails.orm.hibernate.cfg.GrailsDomainBinder
 import org.codehaus.groovy.grails.orm.hibernate.cfg.GrailsHibernateUtil
 import org.codehaus.groovy.grails.orm.hibernate.events.PatchedDefaultFlushEventListener
+import org.codehaus.groovy.grails.orm.hibernate.metaclass.AbstractClausedStaticPersistentMethod
 import org.codehaus.groovy.grails.orm.hibernate.proxy.HibernateProxyHandler
 import org.codehaus.groovy.grails.orm.hibernate.support.*
 import org.codehaus.groovy.grails.orm.hibernate.validation.HibernateConstraintsEvaluator
@@ -352,6 +353,7 @@ Using Grails' default naming strategy: '${ImprovedNamingStrategy.name}'"""
                 return
             }
             GrailsDomainBinder.clearMappingCache(event.source)
+            AbstractClausedStaticPersistentMethod.clearFinderPlans(event.source)
             def dcMappingDsNames = GrailsHibernateUtil.getDatasourceNames(dc) as Set
             datasourceNames = [] as Set
             for(name in allDatasourceNames) {
@@ -361,6 +363,7 @@ Using Grails' default naming strategy: '${ImprovedNamingStrategy.name}'"""
             }
         } else {
             GrailsDomainBinder.clearMappingCache()
+            AbstractClausedStaticPersistentMethod.clearFinderPlans()
             datasourceNames = allDatasourceNames
         }
         
@@ -16,6 +16,7 @@ package org.codehaus.groovy.grails.plugins.codecs;
 
 import org.codehaus.groovy.grails.web.servlet.GrailsApplicationAttributes;
 import org.codehaus.groovy.grails.web.util.StreamCharBuffer;
+import org.codehaus.groovy.grails.web.util.StreamingHTMLEncoder;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.util.HtmlUtils;
@@ -33,7 +34,7 @@ public class HTMLCodec {
             if (target instanceof StreamCharBuffer) {
                 return ((StreamCharBuffer)target).encodeAsHTML();
             }
-            return HtmlUtils.htmlEscape(target.toString());
+            return StreamingHTMLEncoder.encode(target.toString());
         }
         return null;
     }
@@ -1,6 +1,8 @@
 package org.codehaus.groovy.grails.web.codecs
 
 import org.codehaus.groovy.grails.plugins.codecs.HTMLCodec
+import org.codehaus.groovy.grails.web.util.StreamCharBuffer
+import org.springframework.web.util.HtmlUtils
 
 class HTMLCodecTests extends GroovyTestCase {
 
@@ -12,6 +14,22 @@ class HTMLCodecTests extends GroovyTestCase {
         assertEquals("Hitchiker&#39;s Guide", codec.encode("Hitchiker's Guide"))
     }
 
+    void testEncodeIsCompatibleWithHtmlUtils() {
+        def input = 'plain text <a href="x?a=1&b=2">caf\u00e9 \u00a0\u03b1\u2264\u20ac</a> \'end\''
+        assertEquals HtmlUtils.htmlEscape(input), codec.encode(input)
+
+        def plain = 'nothing to escape'
+        assertSame plain, codec.encode(plain)
+
+        def buffer = new StreamCharBuffer(16)
+        def writer = buffer.writer
+        writer.write('<b>')
+        writer.write(input.toCharArray())
+        writer.write(input * 100)
+        writer.write('</b>')
+        assertEquals HtmlUtils.htmlEscape(buffer.toString()), codec.encode(buffer).toString()
+    }
+
     void testDecode() {
         assertEquals('<tag>', codec.decode('&lt;tag&gt;'))
         assertEquals('"quoted"', codec.decode('&quot;quoted&quot;'))
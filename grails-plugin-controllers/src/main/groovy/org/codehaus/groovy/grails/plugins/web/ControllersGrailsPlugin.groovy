@@ -24,6 +24,7 @@ import org.codehaus.groovy.grails.commons.GrailsDomainClass
 import org.codehaus.groovy.grails.commons.metaclass.MetaClassEnhancer
 import org.codehaus.groovy.grails.plugins.web.api.ControllersApi
 import org.codehaus.groovy.grails.plugins.web.api.ControllersDomainBindingApi
+import org.codehaus.groovy.grails.web.binding.GrailsDataBinder
 import org.codehaus.groovy.grails.web.errors.GrailsExceptionResolver
 import org.codehaus.groovy.grails.web.filters.HiddenHttpMethodFilter
 import org.codehaus.groovy.grails.web.metaclass.RedirectDynamicMethod
@@ -212,6 +213,8 @@ class ControllersGrailsPlugin {
             return
         }
 
+        GrailsDataBinder.clearBindingMetadataCache()
+
         if (application.isArtefactOfType(DomainClassArtefactHandler.TYPE, event.source)) {
             def dc = application.getDomainClass(event.source.name)
             enhanceDomainWithBinding(event.ctx, dc, GroovySystem.metaClassRegistry.getMetaClass(event.source))
@@ -20,8 +20,10 @@ import groovy.util.BuilderSupport;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PushbackInputStream;
 import java.io.Reader;
+import java.io.UnsupportedEncodingException;
 import java.io.Writer;
 import java.util.Collection;
 import java.util.HashMap;
@@ -31,7 +33,6 @@ import java.util.Stack;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.codehaus.groovy.grails.web.converters.AbstractConverter;
@@ -47,6 +48,7 @@ import org.codehaus.groovy.grails.web.json.JSONArray;
 import org.codehaus.groovy.grails.web.json.JSONElement;
 import org.codehaus.groovy.grails.web.json.JSONException;
 import org.codehaus.groovy.grails.web.json.JSONObject;
+import org.codehaus.groovy.grails.web.json.JSONStreamTokener;
 import org.codehaus.groovy.grails.web.json.JSONTokener;
 import org.codehaus.groovy.grails.web.json.JSONWriter;
 import org.codehaus.groovy.grails.web.json.PathCapturingJSONWriterWrapper;
@@ -68,6 +70,7 @@ public class JSON extends AbstractConverter<JSONWriter> {
     private final ConverterConfiguration<JSON> config;
     private final CircularReferenceBehaviour circularReferenceBehaviour;
     private boolean prettyPrint;
+    private boolean streaming;
 
     protected JSONWriter writer;
     protected Stack<Object> referenceStack;
@@ -84,6 +87,7 @@ public class JSON extends AbstractConverter<JSONWriter> {
         encoding = config != null ? config.getEncoding() : "UTF-8";
         circularReferenceBehaviour = config != null ? config.getCircularReferenceBehaviour() : CircularReferenceBehaviour.DEFAULT;
         prettyPrint = config != null && config.isPrettyPrint();
+        streaming = ConvertersConfigurationHolder.isStreaming(config);
     }
 
     /**
@@ -100,6 +104,15 @@ public class JSON extends AbstractConverter<JSONWriter> {
         this.prettyPrint = prettyPrint;
     }
 
+    /**
+     * Defaults to the grails.converters.json.streaming setting, or else grails.converters.default.streaming.
+     *
+     * @param streaming Whether to encode the output directly to the OutputStream of the response
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     private void prepareRender(Writer out) {
         writer = prettyPrint ? new PrettyPrintJSONWriter(out) : new JSONWriter(out);
         if (circularReferenceBehaviour == CircularReferenceBehaviour.PATH) {
@@ -139,7 +152,8 @@ public class JSON extends AbstractConverter<JSONWriter> {
     }
 
     /**
-     * Directs the JSON Writer to the Outputstream of the HttpServletResponse and sets the Content-Type to application/json
+     * Directs the JSON Writer to the Outputstream of the HttpServletResponse and sets the Content-Type to application/json.
+     * In streaming mode the output is encoded straight to the OutputStream in fixed size chunks.
      *
      * @param response a HttpServletResponse
      * @throws ConverterException
@@ -147,7 +161,7 @@ public class JSON extends AbstractConverter<JSONWriter> {
     public void render(HttpServletResponse response) throws ConverterException {
         response.setContentType(GrailsWebUtil.getContentType("application/json", encoding));
         try {
-            render(response.getWriter());
+            render(streaming ? createStreamingWriter(response, encoding) : response.getWriter());
         }
         catch (IOException e) {
             throw new ConverterException(e);
@@ -251,21 +265,8 @@ public class JSON extends AbstractConverter<JSONWriter> {
      * @throws ConverterException when the JSON content is not valid
      */
     public static JSONElement parse(Reader reader) throws ConverterException {
-//        TODO: Migrate to new javacc based parser
-//        JSONParser parser = new JSONParser(reader);
-//        try {
-//            return parser.parseJSON();
-//        }
-//        catch (ParseException e) {
-//            throw new ConverterException("Error parsing JSON: " + e.getMessage(), e);
-//        }
-
-        try {
-            return parse(IOUtils.toString(reader));
-        }
-        catch (IOException e) {
-            throw new ConverterException(e);
-        }
+        // read incrementally, so that the content is never held as a single String
+        return parse(new JSONStreamTokener(reader));
     }
 
     /**
@@ -276,9 +277,12 @@ public class JSON extends AbstractConverter<JSONWriter> {
      * @throws ConverterException when the JSON content is not valid
      */
     public static JSONElement parse(String source) throws ConverterException {
-        // TODO: Migrate to new javacc based parser
+        return parse(new JSONTokener(source));
+    }
+
+    private static JSONElement parse(JSONTokener tokener) throws ConverterException {
         try {
-            final Object value = new JSONTokener(source).nextValue();
+            final Object value = tokener.nextValue();
             if (value instanceof JSONElement) {
                 return (JSONElement) value;
             }
@@ -300,18 +304,10 @@ public class JSON extends AbstractConverter<JSONWriter> {
      * @throws ConverterException when the JSON content is not valid
      */
     public static JSONElement parse(InputStream is, String encoding) throws ConverterException {
-//        TODO: Migrate to new javacc based parser
-//        JSONParser parser = new JSONParser(is, encoding);
-//        try {
-//            return parser.parseJSON();
-//        }
-//        catch (ParseException e) {
-//            throw new ConverterException("Error parsing JSON: " + e.getMessage(), e);
-//        }
         try {
-            return parse(IOUtils.toString(is, encoding));
+            return parse(new InputStreamReader(is, encoding));
         }
-        catch (IOException e) {
+        catch (UnsupportedEncodingException e) {
             throw new ConverterException(e);
         }
     }
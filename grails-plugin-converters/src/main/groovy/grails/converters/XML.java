@@ -15,6 +15,7 @@
 package grails.converters;
 
 import grails.util.GrailsNameUtils;
+import grails.util.GrailsWebUtil;
 import groovy.lang.Closure;
 import groovy.util.BuilderSupport;
 import groovy.util.XmlSlurper;
@@ -67,11 +68,13 @@ public class XML extends AbstractConverter<XMLStreamWriter> {
     private XMLStreamWriter writer;
     private Stack<Object> referenceStack = new Stack<Object>();
     private boolean isRendering = false;
+    private boolean streaming;
 
     public XML() {
         config = ConvertersConfigurationHolder.getConverterConfiguration(XML.class);
         encoding = config.getEncoding() != null ? config.getEncoding() : "UTF-8";
         circularReferenceBehaviour = config.getCircularReferenceBehaviour();
+        streaming = ConvertersConfigurationHolder.isStreaming(config);
     }
 
     public XML(Object target) {
@@ -88,6 +91,16 @@ public class XML extends AbstractConverter<XMLStreamWriter> {
         this.target = target;
     }
 
+    /**
+     * Defaults to the grails.converters.xml.streaming setting, or else grails.converters.default.streaming.
+     * When streaming, the Content-Type of the response includes the charset the output is encoded with.
+     *
+     * @param streaming Whether to encode the output directly to the OutputStream of the response
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     private void finalizeRender(Writer out) {
         try {
             if (out != null) {
@@ -247,9 +260,15 @@ public class XML extends AbstractConverter<XMLStreamWriter> {
     }
 
     public void render(HttpServletResponse response) throws ConverterException {
-        response.setContentType("text/xml");
         try {
-            render(response.getWriter());
+            if (streaming) {
+                response.setContentType(GrailsWebUtil.getContentType("text/xml", encoding));
+                render(createStreamingWriter(response, encoding));
+            }
+            else {
+                response.setContentType("text/xml");
+                render(response.getWriter());
+            }
         }
         catch (IOException e) {
             throw new ConverterException(e);
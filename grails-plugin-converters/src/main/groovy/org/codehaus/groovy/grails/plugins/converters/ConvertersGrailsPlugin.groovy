@@ -24,8 +24,10 @@ import org.codehaus.groovy.grails.plugins.converters.codecs.JSONCodec
 import org.codehaus.groovy.grails.plugins.converters.codecs.XMLCodec
 import org.codehaus.groovy.grails.web.converters.JSONParsingParameterCreationListener
 import org.codehaus.groovy.grails.web.converters.XMLParsingParameterCreationListener
+import org.codehaus.groovy.grails.web.converters.configuration.ConvertersConfigurationHolder
 import org.codehaus.groovy.grails.web.converters.configuration.ConvertersConfigurationInitializer
 import org.codehaus.groovy.grails.web.converters.configuration.ObjectMarshallerRegisterer
+import org.codehaus.groovy.grails.web.converters.marshaller.ObjectPropertyAccessor
 
  /**
  * A plug-in that allows the obj as XML syntax.
@@ -46,7 +48,7 @@ class ConvertersGrailsPlugin {
     """
     def documentation = "http://grails.org/Converters+Plugin"
     def providedArtefacts = [JSONCodec, XMLCodec]
-    def observe = ["controllers"]
+    def observe = ["controllers", "domainClass"]
 
     def dependsOn = [
         controllers: GrailsUtil.getGrailsVersion(),
@@ -85,4 +87,14 @@ class ConvertersGrailsPlugin {
 
         log.debug "Converters Plugin configured successfully"
     }
+
+    def onChange = { event ->
+        if (!(event.source instanceof Class)) {
+            return
+        }
+
+        // marshallers and property accessors are resolved per class, so forget the ones of the old classes
+        ConvertersConfigurationHolder.clearResolvedMarshallers()
+        ObjectPropertyAccessor.clearObjectPropertyAccessorCache()
+    }
 }
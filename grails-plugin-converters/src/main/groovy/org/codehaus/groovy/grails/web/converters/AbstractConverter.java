@@ -14,6 +14,11 @@
  */
 package org.codehaus.groovy.grails.web.converters;
 
+import java.io.IOException;
+import java.io.Writer;
+
+import javax.servlet.http.HttpServletResponse;
+
 import org.apache.commons.lang.UnhandledException;
 import org.codehaus.groovy.grails.web.pages.FastStringWriter;
 import org.springframework.beans.BeanWrapper;
@@ -41,6 +46,24 @@ public abstract class AbstractConverter<W> implements Converter<W> {
         return writer.toString();
     }
 
+    /**
+     * Creates a Writer that encodes the converter output straight to the OutputStream of the response in fixed size
+     * chunks. Falls back to the Writer of the response if it has already been obtained.
+     *
+     * @param response The response
+     * @param encoding The character encoding
+     * @return The Writer
+     * @throws IOException
+     */
+    protected Writer createStreamingWriter(HttpServletResponse response, String encoding) throws IOException {
+        try {
+            return new ChunkedOutputStreamWriter(response.getOutputStream(), encoding);
+        }
+        catch (IllegalStateException e) {
+            return response.getWriter();
+        }
+    }
+
     protected BeanWrapper createBeanWrapper(Object o) {
         return new BeanWrapperImpl(o);
     }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.web.converters;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * A Writer that encodes characters directly to an OutputStream. Characters are buffered up to a fixed chunk size,
+ * then encoded and written (and flushed) to the stream, so the memory used is bounded by the chunk size regardless
+ * of the amount of data written. The CharsetEncoder is reused by subsequent writers created on the same thread.
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public class ChunkedOutputStreamWriter extends Writer {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private static final ThreadLocal<CharsetEncoder> reusableEncoder = new ThreadLocal<CharsetEncoder>();
+
+    private final OutputStream out;
+    private final CharsetEncoder encoder;
+    private final CharBuffer chars;
+    private final ByteBuffer bytes;
+    private boolean closed;
+
+    public ChunkedOutputStreamWriter(OutputStream out, String encoding) {
+        this(out, encoding, DEFAULT_CHUNK_SIZE);
+    }
+
+    public ChunkedOutputStreamWriter(OutputStream out, String encoding, int chunkSize) {
+        this.out = out;
+        encoder = acquireEncoder(Charset.forName(encoding));
+        chars = CharBuffer.allocate(chunkSize);
+        bytes = ByteBuffer.allocate((int) Math.ceil(chunkSize * encoder.maxBytesPerChar()));
+    }
+
+    private static CharsetEncoder acquireEncoder(Charset charset) {
+        CharsetEncoder encoder = reusableEncoder.get();
+        if (encoder != null && encoder.charset().equals(charset)) {
+            // taken out of the thread local until closed, so nested writers on the same thread create their own
+            reusableEncoder.remove();
+            return encoder.reset();
+        }
+        return charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        ensureOpen();
+        if (!chars.hasRemaining()) {
+            writeChunk(false);
+        }
+        chars.put((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (!chars.hasRemaining()) {
+                writeChunk(false);
+            }
+            int n = Math.min(len, chars.remaining());
+            chars.put(cbuf, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (!chars.hasRemaining()) {
+                writeChunk(false);
+            }
+            int n = Math.min(len, chars.remaining());
+            chars.put(str, off, off + n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        writeChunk(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            writeChunk(true);
+            encodeResult(encoder.flush(bytes));
+            writeBytes();
+            out.close();
+        }
+        finally {
+            closed = true;
+            reusableEncoder.set(encoder);
+        }
+    }
+
+    private void writeChunk(boolean endOfInput) throws IOException {
+        chars.flip();
+        CoderResult result;
+        do {
+            result = encoder.encode(chars, bytes, endOfInput);
+            encodeResult(result);
+            writeBytes();
+        }
+        while (result.isOverflow());
+        // a trailing high surrogate stays in the buffer until its pair is written
+        chars.compact();
+        out.flush();
+    }
+
+    private void encodeResult(CoderResult result) throws CharacterCodingException {
+        if (result.isError()) {
+            result.throwException();
+        }
+    }
+
+    private void writeBytes() throws IOException {
+        if (bytes.position() > 0) {
+            out.write(bytes.array(), 0, bytes.position());
+            bytes.clear();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Writer has been closed");
+        }
+    }
+}
@@ -18,12 +18,15 @@ package org.codehaus.groovy.grails.web.converters.configuration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentMap;
 
 import org.codehaus.groovy.grails.support.proxy.DefaultProxyHandler;
 import org.codehaus.groovy.grails.support.proxy.ProxyHandler;
 import org.codehaus.groovy.grails.web.converters.Converter;
 import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller;
 import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * An immutable ConverterConfiguration which chains the lookup calls for ObjectMarshallers
@@ -35,14 +38,16 @@ import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
  * @since 1.1
  */
 @SuppressWarnings("rawtypes")
-public class ChainedConverterConfiguration<C extends Converter> implements ConverterConfiguration<C> {
+public class ChainedConverterConfiguration<C extends Converter> implements StreamingConverterConfiguration<C> {
 
     private List<ObjectMarshaller<C>> marshallerList;
     private ChainedObjectMarshaller<C> root;
     private final String encoding;
     private final Converter.CircularReferenceBehaviour circularReferenceBehaviour;
     private final boolean prettyPrint;
+    private final boolean streaming;
     private ProxyHandler proxyHandler;
+    private final ConcurrentMap<Class<?>, ObjectMarshaller<C>> resolvedMarshallers = new ConcurrentReferenceHashMap<Class<?>, ObjectMarshaller<C>>();
 
     public ChainedConverterConfiguration(ConverterConfiguration<C> cfg) {
         this(cfg, new DefaultProxyHandler());
@@ -54,6 +59,7 @@ public class ChainedConverterConfiguration<C extends Converter> implements Conve
 
         encoding = cfg.getEncoding();
         prettyPrint = cfg.isPrettyPrint();
+        streaming = ConvertersConfigurationHolder.isStreaming(cfg);
         circularReferenceBehaviour = cfg.getCircularReferenceBehaviour();
 
         List<ObjectMarshaller<C>> oms = new ArrayList<ObjectMarshaller<C>>(marshallerList);
@@ -66,7 +72,34 @@ public class ChainedConverterConfiguration<C extends Converter> implements Conve
     }
 
     public ObjectMarshaller<C> getMarshaller(Object o) {
-        return root.findMarhallerFor(o);
+        if (o == null) {
+            return root != null ? root.findMarhallerFor(o) : null;
+        }
+
+        ObjectMarshaller<C> marshaller = resolvedMarshallers.get(o.getClass());
+        if (marshaller != null) {
+            return marshaller;
+        }
+
+        // the result can be cached for the class if all marshallers consulted only look at the class
+        boolean cacheable = true;
+        for (ChainedObjectMarshaller<C> current = root; current != null; current = current.next) {
+            cacheable = cacheable && current.om instanceof ClassBasedMarshaller;
+            if (current.supports(o)) {
+                if (cacheable) {
+                    resolvedMarshallers.put(o.getClass(), current.om);
+                }
+                return current.om;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Discards the marshallers remembered per class, for example after classes have been reloaded.
+     */
+    public void clearResolvedMarshallers() {
+        resolvedMarshallers.clear();
     }
 
     public String getEncoding() {
@@ -81,6 +114,10 @@ public class ChainedConverterConfiguration<C extends Converter> implements Conve
         return prettyPrint;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
     public List<ObjectMarshaller<C>> getOrderedObjectMarshallers() {
         return marshallerList;
     }
@@ -65,6 +65,39 @@ public class ConvertersConfigurationHolder {
         configurationHolder.threadLocalConfiguration.clear();
     }
 
+    /**
+     * Discards the marshallers that the default and named configurations remember per class. Called when
+     * classes are reloaded so that the lookup is repeated against the new classes.
+     */
+    public static void clearResolvedMarshallers() {
+        final ConvertersConfigurationHolder configurationHolder = getInstance();
+        for (ConverterConfiguration cfg : configurationHolder.defaultConfiguration.values()) {
+            clearResolvedMarshallers(cfg);
+        }
+        for (Map<String, ConverterConfiguration> namedConfigs : configurationHolder.namedConfigurations.values()) {
+            for (ConverterConfiguration cfg : namedConfigs.values()) {
+                clearResolvedMarshallers(cfg);
+            }
+        }
+    }
+
+    private static void clearResolvedMarshallers(ConverterConfiguration cfg) {
+        if (cfg instanceof DefaultConverterConfiguration) {
+            ((DefaultConverterConfiguration)cfg).clearResolvedMarshallers();
+        }
+        else if (cfg instanceof ChainedConverterConfiguration) {
+            ((ChainedConverterConfiguration)cfg).clearResolvedMarshallers();
+        }
+    }
+
+    /**
+     * @param cfg A configuration, can be null
+     * @return true if the configuration is a {@link StreamingConverterConfiguration} that streams
+     */
+    public static boolean isStreaming(ConverterConfiguration<?> cfg) {
+        return cfg instanceof StreamingConverterConfiguration && ((StreamingConverterConfiguration<?>)cfg).isStreaming();
+    }
+
     public static <C extends Converter> void setDefaultConfiguration(Class<C> c, ConverterConfiguration<C> cfg) {
         getInstance().defaultConfiguration.put(c, cfg);
     }
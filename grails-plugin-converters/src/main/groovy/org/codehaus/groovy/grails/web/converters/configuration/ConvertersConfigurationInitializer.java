@@ -25,6 +25,7 @@ import org.codehaus.groovy.grails.support.proxy.DefaultProxyHandler;
 import org.codehaus.groovy.grails.support.proxy.ProxyHandler;
 import org.codehaus.groovy.grails.web.converters.Converter;
 import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
+import org.codehaus.groovy.grails.web.converters.marshaller.ObjectPropertyAccessor;
 import org.codehaus.groovy.grails.web.converters.marshaller.ProxyUnwrappingMarshaller;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -53,6 +54,7 @@ public class ConvertersConfigurationInitializer implements ApplicationContextAwa
 
     public void initialize(GrailsApplication application) {
         LOG.debug("Initializing Converters Default Configurations...");
+        ObjectPropertyAccessor.clearObjectPropertyAccessorCache();
         initJSONConfiguration(application);
         initXMLConfiguration(application);
         initDeepJSONConfiguration(application);
@@ -66,6 +68,7 @@ public class ConvertersConfigurationInitializer implements ApplicationContextAwa
         marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.json.ArrayMarshaller());
         marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.json.ByteArrayMarshaller());
         marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.json.CollectionMarshaller());
+        marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.json.IteratorMarshaller());
         marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.json.MapMarshaller());
         marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.json.EnumMarshaller());
         marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.ProxyUnwrappingMarshaller<JSON>());
@@ -104,6 +107,9 @@ public class ConvertersConfigurationInitializer implements ApplicationContextAwa
         Boolean prettyPrint = grailsConfig.get("grails.converters.json.pretty.print", defaultPrettyPrint);
         cfg.setPrettyPrint(prettyPrint);
 
+        Boolean defaultStreaming = grailsConfig.get("grails.converters.default.streaming", false);
+        cfg.setStreaming(grailsConfig.get("grails.converters.json.streaming", defaultStreaming));
+
         registerObjectMarshallersFromApplicationContext(cfg, JSON.class);
 
         ConvertersConfigurationHolder.setDefaultConfiguration(JSON.class, new ChainedConverterConfiguration<JSON>(cfg, proxyHandler));
@@ -123,6 +129,7 @@ public class ConvertersConfigurationInitializer implements ApplicationContextAwa
         marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.xml.Base64ByteArrayMarshaller());
         marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.xml.ArrayMarshaller());
         marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.xml.CollectionMarshaller());
+        marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.xml.IteratorMarshaller());
         marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.xml.MapMarshaller());
         marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.xml.EnumMarshaller());
         marshallers.add(new org.codehaus.groovy.grails.web.converters.marshaller.xml.DateMarshaller());
@@ -151,6 +158,9 @@ public class ConvertersConfigurationInitializer implements ApplicationContextAwa
         Boolean defaultPrettyPrint = grailsConfig.get("grails.converters.default.pretty.print", false);
         Boolean prettyPrint = grailsConfig.get("grails.converters.xml.pretty.print", defaultPrettyPrint);
         cfg.setPrettyPrint(prettyPrint);
+
+        Boolean defaultStreaming = grailsConfig.get("grails.converters.default.streaming", false);
+        cfg.setStreaming(grailsConfig.get("grails.converters.xml.streaming", defaultStreaming));
         registerObjectMarshallersFromApplicationContext(cfg, XML.class);
         ConvertersConfigurationHolder.setDefaultConfiguration(XML.class, new ChainedConverterConfiguration<XML>(cfg,proxyHandler));
     }
@@ -21,13 +21,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.codehaus.groovy.grails.support.proxy.DefaultProxyHandler;
 import org.codehaus.groovy.grails.support.proxy.ProxyHandler;
 import org.codehaus.groovy.grails.web.converters.Converter;
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller;
 import org.codehaus.groovy.grails.web.converters.marshaller.ClosureOjectMarshaller;
 import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Mutable Converter Configuration with an priority sorted set of ObjectMarshallers
@@ -36,16 +39,19 @@ import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
  * @since 1.1
  */
 @SuppressWarnings("rawtypes")
-public class DefaultConverterConfiguration<C extends Converter> implements ConverterConfiguration<C> {
+public class DefaultConverterConfiguration<C extends Converter> implements StreamingConverterConfiguration<C> {
 
     public static final int DEFAULT_PRIORITY = 0;
 
     private static final AtomicInteger MARSHALLER_SEQUENCE = new AtomicInteger(0);
+    private static final Object USE_DELEGATE = new Object();
 
     private ConverterConfiguration<C> delegate;
     private String encoding;
     private boolean prettyPrint = false;
+    private boolean streaming = false;
     private final SortedSet<Entry> objectMarshallers = new TreeSet<Entry>();
+    private volatile ConcurrentMap<Class<?>, Object> resolvedMarshallers = new ConcurrentReferenceHashMap<Class<?>, Object>();
     private Converter.CircularReferenceBehaviour circularReferenceBehaviour;
     private ProxyHandler proxyHandler;
 
@@ -69,6 +75,14 @@ public class DefaultConverterConfiguration<C extends Converter> implements Conve
         this.prettyPrint = prettyPrint;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public List<ObjectMarshaller<C>> getOrderedObjectMarshallers() {
         List<ObjectMarshaller<C>> list = new ArrayList<ObjectMarshaller<C>>();
         for (Entry entry : objectMarshallers) {
@@ -94,6 +108,7 @@ public class DefaultConverterConfiguration<C extends Converter> implements Conve
         this();
         this.delegate = delegate;
         prettyPrint = delegate.isPrettyPrint();
+        streaming = ConvertersConfigurationHolder.isStreaming(delegate);
         circularReferenceBehaviour = delegate.getCircularReferenceBehaviour();
         encoding = delegate.getEncoding();
     }
@@ -106,6 +121,7 @@ public class DefaultConverterConfiguration<C extends Converter> implements Conve
         this(proxyHandler);
         this.delegate = delegate;
         prettyPrint = delegate.isPrettyPrint();
+        streaming = ConvertersConfigurationHolder.isStreaming(delegate);
         circularReferenceBehaviour = delegate.getCircularReferenceBehaviour();
         encoding = delegate.getEncoding();
     }
@@ -129,6 +145,14 @@ public class DefaultConverterConfiguration<C extends Converter> implements Conve
 
     public void registerObjectMarshaller(ObjectMarshaller<C> marshaller, int priority) {
         objectMarshallers.add(new Entry(marshaller, priority));
+        clearResolvedMarshallers();
+    }
+
+    /**
+     * Discards the marshallers remembered per class, for example after classes have been reloaded.
+     */
+    public void clearResolvedMarshallers() {
+        resolvedMarshallers = new ConcurrentReferenceHashMap<Class<?>, Object>();
     }
 
     public void registerObjectMarshaller(Class<?> c, int priority, Closure callable) {
@@ -139,12 +163,41 @@ public class DefaultConverterConfiguration<C extends Converter> implements Conve
         registerObjectMarshaller(new ClosureOjectMarshaller<C>(c, callable));
     }
 
+    @SuppressWarnings("unchecked")
     public ObjectMarshaller<C> getMarshaller(Object o) {
+        if (o == null) {
+            return findMarshaller(o, null);
+        }
+
+        ConcurrentMap<Class<?>, Object> resolved = resolvedMarshallers;
+        Object marshaller = resolved.get(o.getClass());
+        if (marshaller == null) {
+            return findMarshaller(o, resolved);
+        }
+        if (marshaller == USE_DELEGATE) {
+            return delegate != null ? delegate.getMarshaller(o) : null;
+        }
+        return (ObjectMarshaller<C>)marshaller;
+    }
+
+    /**
+     * Looks up the marshaller by asking each registered marshaller whether it supports the object. The result is
+     * remembered for the class of the object if all consulted marshallers are {@link ClassBasedMarshaller}s.
+     */
+    private ObjectMarshaller<C> findMarshaller(Object o, ConcurrentMap<Class<?>, Object> resolved) {
+        boolean cacheable = resolved != null;
         for (Entry entry : objectMarshallers) {
+            cacheable = cacheable && entry.marshaller instanceof ClassBasedMarshaller;
             if (entry.marshaller.supports(o)) {
+                if (cacheable) {
+                    resolved.put(o.getClass(), entry.marshaller);
+                }
                 return entry.marshaller;
             }
         }
+        if (cacheable) {
+            resolved.put(o.getClass(), USE_DELEGATE);
+        }
         return delegate != null ? delegate.getMarshaller(o) : null;
     }
 
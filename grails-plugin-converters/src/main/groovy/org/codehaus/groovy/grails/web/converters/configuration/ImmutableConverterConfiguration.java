@@ -30,7 +30,7 @@ import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
  * @see org.codehaus.groovy.grails.web.converters.configuration.ChainedConverterConfiguration
  */
 @SuppressWarnings("rawtypes")
-public class ImmutableConverterConfiguration<C extends Converter> implements ConverterConfiguration<C> {
+public class ImmutableConverterConfiguration<C extends Converter> implements StreamingConverterConfiguration<C> {
 
     protected final List<ObjectMarshaller<C>> marshallers;
 
@@ -40,6 +40,8 @@ public class ImmutableConverterConfiguration<C extends Converter> implements Con
 
     private final boolean prettyPrint;
 
+    private final boolean streaming;
+
     private ProxyHandler proxyHandler;
 
     public ImmutableConverterConfiguration(ConverterConfiguration<C> cfg) {
@@ -50,6 +52,7 @@ public class ImmutableConverterConfiguration<C extends Converter> implements Con
         marshallers = Collections.unmodifiableList(cfg.getOrderedObjectMarshallers());
         encoding = cfg.getEncoding();
         prettyPrint = cfg.isPrettyPrint();
+        streaming = ConvertersConfigurationHolder.isStreaming(cfg);
         circularReferenceBehaviour = cfg.getCircularReferenceBehaviour();
         this.proxyHandler = proxyHandler;
     }
@@ -87,6 +90,13 @@ public class ImmutableConverterConfiguration<C extends Converter> implements Con
         return prettyPrint;
     }
 
+    /**
+     * @see StreamingConverterConfiguration#isStreaming()
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
     public List<ObjectMarshaller<C>> getOrderedObjectMarshallers() {
         return marshallers;
     }
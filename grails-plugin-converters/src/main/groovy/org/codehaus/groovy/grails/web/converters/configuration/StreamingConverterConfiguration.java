@@ -0,0 +1,36 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.web.converters.configuration;
+
+import org.codehaus.groovy.grails.web.converters.Converter;
+
+/**
+ * A {@link ConverterConfiguration} that can make the converters stream their output. Configurations that do not
+ * implement this interface never stream.
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+@SuppressWarnings("rawtypes")
+public interface StreamingConverterConfiguration<C extends Converter> extends ConverterConfiguration<C> {
+
+    /**
+     * Lookup method whether the converter should stream its output directly to the response OutputStream when
+     * rendering to a HttpServletResponse
+     * @return a boolean
+     */
+    boolean isStreaming();
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.web.converters.marshaller;
+
+/**
+ * Marker interface for ObjectMarshallers whose {@link ObjectMarshaller#supports(Object)} result only depends on
+ * the class of the object. The marshaller lookup of a converter configuration can then be cached per class.
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public interface ClassBasedMarshaller {
+}
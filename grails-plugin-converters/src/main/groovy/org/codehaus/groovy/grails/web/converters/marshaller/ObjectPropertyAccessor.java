@@ -0,0 +1,162 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.web.converters.marshaller;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Reads the properties of objects of a given class through accessors that are resolved once per class,
+ * so that marshallers don't need to introspect each rendered object with a BeanWrapper.
+ *
+ * @since 2.3
+ */
+public class ObjectPropertyAccessor {
+
+    private static final String META_CLASS_PROPERTY = "metaClass";
+
+    // entries are only softly referenced so that cached accessors don't keep reloaded classes alive
+    private static final ConcurrentMap<Class<?>, ObjectPropertyAccessor> cachedAccessors = new ConcurrentReferenceHashMap<Class<?>, ObjectPropertyAccessor>();
+
+    private final Class<?> clazz;
+    private final Map<String, Method> readMethods = new HashMap<String, Method>();
+    private final Property[] beanProperties;
+
+    public static ObjectPropertyAccessor forClass(Class<?> c) {
+        ObjectPropertyAccessor accessor = cachedAccessors.get(c);
+        if (accessor == null) {
+            accessor = new ObjectPropertyAccessor(c);
+            ObjectPropertyAccessor existing = cachedAccessors.putIfAbsent(c, accessor);
+            if (existing != null) {
+                accessor = existing;
+            }
+        }
+        return accessor;
+    }
+
+    public static void clearObjectPropertyAccessorCache() {
+        cachedAccessors.clear();
+    }
+
+    ObjectPropertyAccessor(Class<?> clazz) {
+        this.clazz = clazz;
+
+        List<Property> properties = new ArrayList<Property>();
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(clazz)) {
+            Method readMethod = descriptor.getReadMethod();
+            if (readMethod == null) {
+                continue;
+            }
+            ReflectionUtils.makeAccessible(readMethod);
+            readMethods.put(descriptor.getName(), readMethod);
+            if (!META_CLASS_PROPERTY.equals(descriptor.getName())) {
+                properties.add(new Property(descriptor.getName(), readMethod, null));
+            }
+        }
+        for (Field field : clazz.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isPublic(modifiers) && !(Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers))) {
+                properties.add(new Property(field.getName(), null, field));
+            }
+        }
+        beanProperties = properties.toArray(new Property[properties.size()]);
+    }
+
+    /**
+     * @return The readable bean properties (excluding the meta class) followed by the public instance fields
+     * declared by the class, in the order used by the bean marshallers
+     */
+    public Property[] getBeanProperties() {
+        return beanProperties;
+    }
+
+    /**
+     * Reads the value of the named property of the given object.
+     *
+     * @param object An instance of the class of this accessor
+     * @param name The property name
+     * @return The value
+     */
+    public Object getPropertyValue(Object object, String name) {
+        Method readMethod = readMethods.get(name);
+        if (readMethod == null) {
+            // not a simple readable property, let a BeanWrapper handle it (and report errors) as before
+            return new BeanWrapperImpl(object).getPropertyValue(name);
+        }
+        return invoke(readMethod, object, name);
+    }
+
+    private Object invoke(Method readMethod, Object object, String name) {
+        try {
+            return readMethod.invoke(object, (Object[]) null);
+        }
+        catch (InvocationTargetException e) {
+            Throwable cause = e.getTargetException();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ConverterException("Error reading property [" + name + "] of class " + clazz.getName(), cause);
+        }
+        catch (IllegalAccessException e) {
+            throw new ConverterException("Error reading property [" + name + "] of class " + clazz.getName(), e);
+        }
+    }
+
+    /**
+     * A readable property of a bean, backed either by a getter or by a public field.
+     */
+    public class Property {
+        private final String name;
+        private final Method readMethod;
+        private final Field field;
+
+        Property(String name, Method readMethod, Field field) {
+            this.name = name;
+            this.readMethod = readMethod;
+            this.field = field;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Object getValue(Object object) {
+            if (readMethod != null) {
+                return invoke(readMethod, object, name);
+            }
+            try {
+                return field.get(object);
+            }
+            catch (IllegalAccessException e) {
+                throw new ConverterException("Error reading field [" + name + "] of class " + clazz.getName(), e);
+            }
+        }
+    }
+}
@@ -32,15 +32,18 @@ import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
  * @since 1.1
  */
 @SuppressWarnings({ "unchecked", "rawtypes" })
-public class ProxyUnwrappingMarshaller<C extends Converter> implements ObjectMarshaller<C>, NameAwareMarshaller {
+public class ProxyUnwrappingMarshaller<C extends Converter> implements ObjectMarshaller<C>, NameAwareMarshaller, ClassBasedMarshaller {
 
     private static final String HIBERNATE_LAZY_INITIALIZER_PROP = "hibernateLazyInitializer";
     private static final String IMPLEMENTATION_PROP = "implementation";
 
+    /**
+     * Only looks at the meta class of the class of the object, so the result can be cached per class.
+     */
     public boolean supports(Object object) {
         if (object == null) return false;
         MetaClass mc = GroovySystem.getMetaClassRegistry().getMetaClass(object.getClass());
-        return mc.hasProperty(object, HIBERNATE_LAZY_INITIALIZER_PROP) != null;
+        return mc.getMetaProperty(HIBERNATE_LAZY_INITIALIZER_PROP) != null;
     }
 
     public void marshalObject(Object object, C converter) throws ConverterException {
@@ -20,6 +20,7 @@ import grails.converters.JSON;
 import java.util.Collection;
 
 import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller;
 import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
 import org.codehaus.groovy.grails.web.json.JSONWriter;
 
@@ -28,7 +29,7 @@ import org.codehaus.groovy.grails.web.json.JSONWriter;
  * @since 1.1
  */
 @SuppressWarnings("rawtypes")
-public class CollectionMarshaller implements ObjectMarshaller<JSON> {
+public class CollectionMarshaller implements ObjectMarshaller<JSON>, ClassBasedMarshaller {
 
     public boolean supports(Object object) {
         return object instanceof Collection;
@@ -24,6 +24,7 @@ import java.util.TimeZone;
 
 import org.apache.commons.lang.time.FastDateFormat;
 import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller;
 import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
 import org.codehaus.groovy.grails.web.json.JSONException;
 
@@ -34,7 +35,7 @@ import org.codehaus.groovy.grails.web.json.JSONException;
  * @author Siegfried Puchbauer
  * @since 1.1
  */
-public class DateMarshaller implements ObjectMarshaller<JSON> {
+public class DateMarshaller implements ObjectMarshaller<JSON>, ClassBasedMarshaller {
 
     private final Format formatter;
 
@@ -38,16 +38,16 @@ import org.codehaus.groovy.grails.support.proxy.EntityProxyHandler;
 import org.codehaus.groovy.grails.support.proxy.ProxyHandler;
 import org.codehaus.groovy.grails.web.converters.ConverterUtil;
 import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller;
 import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
+import org.codehaus.groovy.grails.web.converters.marshaller.ObjectPropertyAccessor;
 import org.codehaus.groovy.grails.web.json.JSONWriter;
-import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeanWrapperImpl;
 
 /**
  * @author Siegfried Puchbauer
  * @since 1.1
  */
-public class DomainClassMarshaller implements ObjectMarshaller<JSON> {
+public class DomainClassMarshaller implements ObjectMarshaller<JSON>, ClassBasedMarshaller {
 
     private boolean includeVersion = false;
     private ProxyHandler proxyHandler;
@@ -84,7 +84,7 @@ public class DomainClassMarshaller implements ObjectMarshaller<JSON> {
 
         GrailsDomainClass domainClass = (GrailsDomainClass)application.getArtefact(
               DomainClassArtefactHandler.TYPE, ConverterUtil.trimProxySuffix(clazz.getName()));
-        BeanWrapper beanWrapper = new BeanWrapperImpl(value);
+        ObjectPropertyAccessor accessor = ObjectPropertyAccessor.forClass(clazz);
 
         writer.object();
         writer.key("class").value(domainClass.getClazz().getName());
@@ -106,11 +106,11 @@ public class DomainClassMarshaller implements ObjectMarshaller<JSON> {
             writer.key(property.getName());
             if (!property.isAssociation()) {
                 // Write non-relation property
-                Object val = beanWrapper.getPropertyValue(property.getName());
+                Object val = accessor.getPropertyValue(value, property.getName());
                 json.convertAnother(val);
             }
             else {
-                Object referenceObject = beanWrapper.getPropertyValue(property.getName());
+                Object referenceObject = accessor.getPropertyValue(value, property.getName());
                 if (isRenderDomainClassRelations()) {
                     if (referenceObject == null) {
                         writer.value(null);
@@ -201,8 +201,7 @@ public class DomainClassMarshaller implements ObjectMarshaller<JSON> {
     }
 
     protected Object extractValue(Object domainObject, GrailsDomainClassProperty property) {
-        BeanWrapper beanWrapper = new BeanWrapperImpl(domainObject);
-        return beanWrapper.getPropertyValue(property.getName());
+        return ObjectPropertyAccessor.forClass(domainObject.getClass()).getPropertyValue(domainObject, property.getName());
     }
 
     protected boolean isRenderDomainClassRelations() {
@@ -18,21 +18,17 @@ package org.codehaus.groovy.grails.web.converters.marshaller.json;
 import grails.converters.JSON;
 import groovy.lang.GroovyObject;
 
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-
 import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller;
 import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
+import org.codehaus.groovy.grails.web.converters.marshaller.ObjectPropertyAccessor;
 import org.codehaus.groovy.grails.web.json.JSONWriter;
-import org.springframework.beans.BeanUtils;
 
 /**
  * @author Siegfried Puchbauer
  * @since 1.1
  */
-public class GroovyBeanMarshaller implements ObjectMarshaller<JSON> {
+public class GroovyBeanMarshaller implements ObjectMarshaller<JSON>, ClassBasedMarshaller {
 
     public boolean supports(Object object) {
         return object instanceof GroovyObject;
@@ -42,21 +38,10 @@ public class GroovyBeanMarshaller implements ObjectMarshaller<JSON> {
         JSONWriter writer = json.getWriter();
         try {
             writer.object();
-            for (PropertyDescriptor property : BeanUtils.getPropertyDescriptors(o.getClass())) {
-                String name = property.getName();
-                Method readMethod = property.getReadMethod();
-                if (readMethod != null && !(name.equals("metaClass"))) {
-                    Object value = readMethod.invoke(o, (Object[]) null);
-                    writer.key(name);
-                    json.convertAnother(value);
-                }
-            }
-            for (Field field : o.getClass().getDeclaredFields()) {
-                int modifiers = field.getModifiers();
-                if (Modifier.isPublic(modifiers) && !(Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers))) {
-                    writer.key(field.getName());
-                    json.convertAnother(field.get(o));
-                }
+            for (ObjectPropertyAccessor.Property property : ObjectPropertyAccessor.forClass(o.getClass()).getBeanProperties()) {
+                Object value = property.getValue(o);
+                writer.key(property.getName());
+                json.convertAnother(value);
             }
             writer.endObject();
         }
@@ -20,6 +20,7 @@ import grails.converters.JSON;
 import java.util.Locale;
 
 import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller;
 import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
 import org.codehaus.groovy.grails.web.json.JSONWriter;
 import org.springframework.context.ApplicationContext;
@@ -32,7 +33,7 @@ import org.springframework.validation.FieldError;
  * @author Siegfried Puchbauer
  * @since 1.1
  */
-public class ValidationErrorsMarshaller implements ObjectMarshaller<JSON>, ApplicationContextAware {
+public class ValidationErrorsMarshaller implements ObjectMarshaller<JSON>, ApplicationContextAware, ClassBasedMarshaller {
 
     private ApplicationContext applicationContext;
 
@@ -21,6 +21,7 @@ import groovy.lang.Writable;
 import java.io.IOException;
 
 import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller;
 import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
 import org.codehaus.groovy.runtime.EncodingGroovyMethods;
 
@@ -28,7 +29,7 @@ import org.codehaus.groovy.runtime.EncodingGroovyMethods;
  * @author Siegfried Puchbauer
  * @since 1.1
  */
-public class Base64ByteArrayMarshaller implements ObjectMarshaller<XML> {
+public class Base64ByteArrayMarshaller implements ObjectMarshaller<XML>, ClassBasedMarshaller {
 
     public boolean supports(Object object) {
         return object instanceof byte[] || object instanceof Byte[];
@@ -22,6 +22,7 @@ import java.util.Set;
 
 import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
 import org.codehaus.groovy.grails.web.converters.marshaller.NameAwareMarshaller;
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller;
 import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
 
 /**
@@ -29,7 +30,7 @@ import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
  * @since 1.1
  */
 @SuppressWarnings("rawtypes")
-public class CollectionMarshaller implements ObjectMarshaller<XML>, NameAwareMarshaller {
+public class CollectionMarshaller implements ObjectMarshaller<XML>, NameAwareMarshaller, ClassBasedMarshaller {
 
     public boolean supports(Object object) {
         return object instanceof Collection;
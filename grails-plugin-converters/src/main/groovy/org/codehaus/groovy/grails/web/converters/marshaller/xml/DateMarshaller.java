@@ -23,13 +23,14 @@ import java.util.Date;
 import org.apache.commons.lang.time.FastDateFormat;
 import org.codehaus.groovy.grails.web.converters.ConverterUtil;
 import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller;
 import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
 
 /**
  * @author Siegfried Puchbauer
  * @since 1.1
  */
-public class DateMarshaller implements ObjectMarshaller<XML> {
+public class DateMarshaller implements ObjectMarshaller<XML>, ClassBasedMarshaller {
 
     private final Format formatter;
 
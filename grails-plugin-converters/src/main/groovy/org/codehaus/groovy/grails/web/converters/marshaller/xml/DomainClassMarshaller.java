@@ -37,15 +37,15 @@ import org.codehaus.groovy.grails.support.proxy.EntityProxyHandler;
 import org.codehaus.groovy.grails.support.proxy.ProxyHandler;
 import org.codehaus.groovy.grails.web.converters.ConverterUtil;
 import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller;
 import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
-import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeanWrapperImpl;
+import org.codehaus.groovy.grails.web.converters.marshaller.ObjectPropertyAccessor;
 
 /**
  * @author Siegfried Puchbauer
  * @since 1.1
  */
-public class DomainClassMarshaller implements ObjectMarshaller<XML> {
+public class DomainClassMarshaller implements ObjectMarshaller<XML>, ClassBasedMarshaller {
 
     private final boolean includeVersion;
     private ProxyHandler proxyHandler;
@@ -75,15 +75,15 @@ public class DomainClassMarshaller implements ObjectMarshaller<XML> {
         Class clazz = value.getClass();
         GrailsDomainClass domainClass = (GrailsDomainClass)application.getArtefact(
               DomainClassArtefactHandler.TYPE, ConverterUtil.trimProxySuffix(clazz.getName()));
-        BeanWrapper beanWrapper = new BeanWrapperImpl(value);
+        ObjectPropertyAccessor accessor = ObjectPropertyAccessor.forClass(clazz);
 
         GrailsDomainClassProperty id = domainClass.getIdentifier();
-        Object idValue = beanWrapper.getPropertyValue(id.getName());
+        Object idValue = accessor.getPropertyValue(value, id.getName());
 
         if (idValue != null) xml.attribute("id", String.valueOf(idValue));
 
         if (includeVersion) {
-            Object versionValue = beanWrapper.getPropertyValue(domainClass.getVersion().getName());
+            Object versionValue = accessor.getPropertyValue(value, domainClass.getVersion().getName());
             xml.attribute("version", String.valueOf(versionValue));
         }
 
@@ -93,11 +93,11 @@ public class DomainClassMarshaller implements ObjectMarshaller<XML> {
             xml.startNode(property.getName());
             if (!property.isAssociation()) {
                 // Write non-relation property
-                Object val = beanWrapper.getPropertyValue(property.getName());
+                Object val = accessor.getPropertyValue(value, property.getName());
                 xml.convertAnother(val);
             }
             else {
-                Object referenceObject = beanWrapper.getPropertyValue(property.getName());
+                Object referenceObject = accessor.getPropertyValue(value, property.getName());
                 if (isRenderDomainClassRelations()) {
                     if (referenceObject != null) {
                         referenceObject = proxyHandler.unwrapIfProxy(referenceObject);
@@ -167,12 +167,12 @@ public class DomainClassMarshaller implements ObjectMarshaller<XML> {
 
             idValue = ((EntityProxyHandler) proxyHandler).getProxyIdentifier(refObj);
             if (idValue == null) {
-                idValue = new BeanWrapperImpl(refObj).getPropertyValue(idProperty.getName());
+                idValue = ObjectPropertyAccessor.forClass(refObj.getClass()).getPropertyValue(refObj, idProperty.getName());
             }
 
         }
         else {
-            idValue = new BeanWrapperImpl(refObj).getPropertyValue(idProperty.getName());
+            idValue = ObjectPropertyAccessor.forClass(refObj.getClass()).getPropertyValue(refObj, idProperty.getName());
         }
         xml.attribute("id",String.valueOf(idValue));
     }
@@ -18,20 +18,16 @@ package org.codehaus.groovy.grails.web.converters.marshaller.xml;
 import grails.converters.XML;
 import groovy.lang.GroovyObject;
 
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-
 import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller;
 import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
-import org.springframework.beans.BeanUtils;
+import org.codehaus.groovy.grails.web.converters.marshaller.ObjectPropertyAccessor;
 
 /**
  * @author Siegfried Puchbauer
  * @since 1.1
  */
-public class GroovyBeanMarshaller implements ObjectMarshaller<XML> {
+public class GroovyBeanMarshaller implements ObjectMarshaller<XML>, ClassBasedMarshaller {
 
     public boolean supports(Object object) {
         return object instanceof GroovyObject;
@@ -39,23 +35,11 @@ public class GroovyBeanMarshaller implements ObjectMarshaller<XML> {
 
     public void marshalObject(Object o, XML xml) throws ConverterException {
         try {
-            for (PropertyDescriptor property : BeanUtils.getPropertyDescriptors(o.getClass())) {
-                String name = property.getName();
-                Method readMethod = property.getReadMethod();
-                if (readMethod != null && !(name.equals("metaClass"))) {
-                    Object value = readMethod.invoke(o, (Object[]) null);
-                    xml.startNode(name);
-                    xml.convertAnother(value);
-                    xml.end();
-                }
-            }
-            for (Field field : o.getClass().getDeclaredFields()) {
-                int modifiers = field.getModifiers();
-                if (Modifier.isPublic(modifiers) && !(Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers))) {
-                    xml.startNode(field.getName());
-                    xml.convertAnother(field.get(o));
-                    xml.end();
-                }
+            for (ObjectPropertyAccessor.Property property : ObjectPropertyAccessor.forClass(o.getClass()).getBeanProperties()) {
+                Object value = property.getValue(o);
+                xml.startNode(property.getName());
+                xml.convertAnother(value);
+                xml.end();
             }
         }
         catch (ConverterException ce) {
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.web.converters.marshaller.xml;
+
+import grails.converters.XML;
+
+import java.io.Closeable;
+import java.util.Enumeration;
+import java.util.Iterator;
+
+import org.apache.commons.io.IOUtils;
+import org.codehaus.groovy.grails.web.converters.exceptions.ConverterException;
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller;
+import org.codehaus.groovy.grails.web.converters.marshaller.NameAwareMarshaller;
+import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller;
+
+/**
+ * Renders the elements of an Iterator or Enumeration as they are retrieved, so large results can be streamed
+ * without loading them into a collection first. Before 2.3 these were rendered as beans.
+ * Iterators that are {@link Closeable}, such as a ScrollableResultsIterator, are closed once rendered, even
+ * if rendering fails.
+ *
+ * @since 2.3
+ */
+@SuppressWarnings("rawtypes")
+public class IteratorMarshaller implements ObjectMarshaller<XML>, NameAwareMarshaller, ClassBasedMarshaller {
+
+    public boolean supports(Object object) {
+        return object instanceof Iterator || object instanceof Enumeration;
+    }
+
+    public void marshalObject(Object object, XML xml) throws ConverterException {
+        if (object instanceof Enumeration) {
+            Enumeration e = (Enumeration) object;
+            while (e.hasMoreElements()) {
+                marshalElement(e.nextElement(), xml);
+            }
+        }
+        else {
+            Iterator i = (Iterator) object;
+            try {
+                while (i.hasNext()) {
+                    marshalElement(i.next(), xml);
+                }
+            }
+            finally {
+                if (i instanceof Closeable) {
+                    IOUtils.closeQuietly((Closeable) i);
+                }
+            }
+        }
+    }
+
+    private void marshalElement(Object o, XML xml) {
+        if (o != null) {
+            xml.startNode(xml.getElementName(o));
+            xml.convertAnother(o);
+            xml.end();
+        }
+        else {
+            xml.startNode("null");
+            xml.end();
+        }
+    }
+
+    public String getElementName(Object o) {
+        return "list";
+    }
+}
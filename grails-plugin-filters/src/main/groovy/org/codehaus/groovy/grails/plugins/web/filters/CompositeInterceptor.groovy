@@ -20,12 +20,22 @@ import javax.servlet.http.HttpServletResponse
 
 import org.apache.commons.logging.Log
 import org.apache.commons.logging.LogFactory
+import org.codehaus.groovy.grails.web.servlet.GrailsApplicationAttributes
+import org.codehaus.groovy.grails.web.util.WebUtils
 import org.springframework.web.servlet.HandlerInterceptor
 import org.springframework.web.servlet.ModelAndView
 
+import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap
+
 /**
  * Composed of other HandlerInterceptor instances.
  *
+ * The filters that apply to a given controller and action are resolved once and kept in a bounded cache, so
+ * each request phase obtains its chain of applicable filters with a single lookup instead of matching the scope
+ * of every filter. The URI is only part of the cache key if a filter is scoped by URI. When a chain is not
+ * cached only the filters indexed under the name of the controller and the filters that can't be indexed
+ * (wildcards, regular expressions, URIs) are matched.
+ *
  * @author mike
  * @author Graeme Rocher
  */
@@ -33,13 +43,39 @@ class CompositeInterceptor implements HandlerInterceptor {
 
     static final Log LOG = LogFactory.getLog(CompositeInterceptor)
 
+    static final int DEFAULT_MAX_CACHED_CHAINS = 5000
+
     def handlers
+    int maxCachedChains = DEFAULT_MAX_CACHED_CHAINS
+
+    private volatile Map<List<String>, List> applicableHandlers
+    private volatile DispatchIndex dispatchIndex
+
+    void setHandlers(handlers) {
+        this.handlers = handlers
+        dispatchIndex = handlers ? new DispatchIndex(handlers) : null
+        applicableHandlers = new ConcurrentLinkedHashMap.Builder<List<String>, List>()
+            .maximumWeightedCapacity(maxCachedChains)
+            .build()
+    }
+
+    /**
+     * Removes the cached chains, for example when a controller changed and the default action used to match
+     * requests without an action may be different.
+     */
+    void clearCachedChains() {
+        applicableHandlers?.clear()
+    }
 
     boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object o) {
         if (LOG.isDebugEnabled()) LOG.debug "preHandle ${request}, ${response}, ${o}"
 
-        for (handler in handlers) {
-            if (!handler.preHandle(request, response, o)) return false
+        String controllerName = controllerName(request)
+        for (handler in getApplicableHandlers(request, controllerName)) {
+            boolean result = handler instanceof FilterToHandlerAdapter ?
+                ((FilterToHandlerAdapter)handler).invokeBefore(request, response, controllerName) :
+                handler.preHandle(request, response, o)
+            if (!result) return false
         }
         return true
     }
@@ -47,16 +83,133 @@ class CompositeInterceptor implements HandlerInterceptor {
     void postHandle(HttpServletRequest request, HttpServletResponse response,Object o, ModelAndView modelAndView) throws Exception {
         if (LOG.isDebugEnabled()) LOG.debug "postHandle ${request}, ${response}, ${o}, ${modelAndView}"
 
-        handlers.reverseEach { handler ->
-            handler.postHandle(request, response, o, modelAndView)
+        String controllerName = controllerName(request)
+        getApplicableHandlers(request, controllerName).reverseEach { handler ->
+            if (handler instanceof FilterToHandlerAdapter) {
+                ((FilterToHandlerAdapter)handler).invokeAfter(request, response, modelAndView, controllerName)
+            }
+            else {
+                handler.postHandle(request, response, o, modelAndView)
+            }
         }
     }
 
     void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object o, Exception e) throws Exception {
         if (LOG.isDebugEnabled()) LOG.debug "afterCompletion ${request}, ${response}, ${o}, ${e}"
 
-        handlers.reverseEach { handler ->
-            handler.afterCompletion(request, response, o, e)
+        getApplicableHandlers(request, controllerName(request)).reverseEach { handler ->
+            if (handler instanceof FilterToHandlerAdapter) {
+                ((FilterToHandlerAdapter)handler).invokeAfterView(e)
+            }
+            else {
+                handler.afterCompletion(request, response, o, e)
+            }
+        }
+    }
+
+    /**
+     * Returns the handlers that apply to the controller, action and URI of the request. Filters whose scope
+     * doesn't match are left out, other interceptors are always included.
+     */
+    protected List getApplicableHandlers(HttpServletRequest request, String controllerName) {
+        Map<List<String>, List> cache = applicableHandlers
+        DispatchIndex index = dispatchIndex
+        if (cache == null || index == null || !handlers) {
+            return handlers ?: []
+        }
+
+        String actionName = request.getAttribute(GrailsApplicationAttributes.ACTION_NAME_ATTRIBUTE)?.toString()
+        String uri = uri(request)
+        String uriKey
+        if (index.uriScoped) {
+            uriKey = uri
         }
+        else if (controllerName == null) {
+            // without a controller, filters only match the root URI
+            uriKey = '/' == uri ? '/' : ''
+        }
+        List<String> key = Arrays.asList(controllerName, actionName, uriKey)
+        List chain = cache.get(key)
+        if (chain == null) {
+            chain = Collections.unmodifiableList(index.resolve(controllerName, actionName, uri))
+            cache.put(key, chain)
+        }
+        return chain
+    }
+
+    /**
+     * Indexes the filters by the controller they are scoped to.
+     */
+    private static class DispatchIndex {
+        final List handlers
+        final boolean uriScoped
+        final Map<String, int[]> indexesByController = [:]
+        final int[] unindexed
+
+        DispatchIndex(handlers) {
+            this.handlers = new ArrayList(handlers)
+            Map<String, List<Integer>> byController = [:]
+            List<Integer> others = []
+            boolean anyUriScoped = false
+            this.handlers.eachWithIndex { handler, int i ->
+                String controller = null
+                if (handler instanceof FilterToHandlerAdapter) {
+                    FilterToHandlerAdapter adapter = (FilterToHandlerAdapter)handler
+                    anyUriScoped = anyUriScoped || adapter.isUriScoped()
+                    controller = adapter.getExactControllerName()
+                }
+                if (controller == null) {
+                    others << i
+                }
+                else {
+                    List<Integer> indexes = byController[controller]
+                    if (indexes == null) {
+                        indexes = []
+                        byController[controller] = indexes
+                    }
+                    indexes << i
+                }
+            }
+            uriScoped = anyUriScoped
+            unindexed = others as int[]
+            byController.each { String controller, List<Integer> indexes ->
+                indexesByController[controller] = indexes as int[]
+            }
+        }
+
+        /**
+         * Returns the handlers that apply, in the order they were registered.
+         */
+        List resolve(String controllerName, String actionName, String uri) {
+            int[] indexed = controllerName == null ? null : indexesByController.get(controllerName)
+            List chain = []
+            int i = 0
+            int j = 0
+            while (i < unindexed.length || (indexed != null && j < indexed.length)) {
+                int next
+                if (indexed == null || j >= indexed.length || (i < unindexed.length && unindexed[i] < indexed[j])) {
+                    next = unindexed[i++]
+                }
+                else {
+                    next = indexed[j++]
+                }
+                def handler = handlers[next]
+                if (!(handler instanceof FilterToHandlerAdapter) ||
+                        ((FilterToHandlerAdapter)handler).accept(controllerName, actionName, uri)) {
+                    chain << handler
+                }
+            }
+            return chain
+        }
+    }
+
+    private String controllerName(HttpServletRequest request) {
+        request.getAttribute(GrailsApplicationAttributes.CONTROLLER_NAME_ATTRIBUTE)?.toString()
+    }
+
+    private String uri(HttpServletRequest request) {
+        def uri = request.getAttribute(WebUtils.FORWARD_REQUEST_URI_ATTRIBUTE)
+        if (!uri) uri = request.getRequestURI()
+        return uri.substring(request.getContextPath().length())
     }
 }
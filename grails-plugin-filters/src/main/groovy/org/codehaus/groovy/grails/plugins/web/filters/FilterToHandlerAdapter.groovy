@@ -21,12 +21,12 @@ import javax.servlet.http.HttpServletRequest
 import javax.servlet.http.HttpServletResponse
 
 import org.codehaus.groovy.grails.commons.DefaultGrailsControllerClass
+import org.codehaus.groovy.grails.io.support.AntPathMatcher
 import org.codehaus.groovy.grails.web.servlet.GrailsApplicationAttributes
 import org.codehaus.groovy.grails.web.servlet.view.NullView
 import org.codehaus.groovy.grails.web.util.WebUtils
 
 import org.springframework.beans.factory.InitializingBean
-import org.springframework.util.AntPathMatcher
 import org.springframework.web.servlet.HandlerInterceptor
 import org.springframework.web.servlet.ModelAndView
 import org.springframework.web.util.UrlPathHelper
@@ -42,26 +42,26 @@ class FilterToHandlerAdapter implements HandlerInterceptor, InitializingBean, Gr
     def filterConfig
     def configClass
 
-    def controllerRegex
-    def controllerExcludeRegex
-    def actionRegex
-    def actionExcludeRegex
-    def uriPattern
-    def uriExcludePattern
-    def urlPathHelper = new UrlPathHelper()
-    def pathMatcher = new AntPathMatcher()
-    def useRegex  // standard regex
-    def invertRule // invert rule
-    def useRegexFind // use find instead of match
+    Pattern controllerRegex
+    Pattern controllerExcludeRegex
+    Pattern actionRegex
+    Pattern actionExcludeRegex
+    String uriPattern
+    String uriExcludePattern
+    UrlPathHelper urlPathHelper = new UrlPathHelper()
+    AntPathMatcher pathMatcher = new AntPathMatcher()
+    boolean useRegex  // standard regex
+    boolean invertRule // invert rule
+    boolean useRegexFind // use find instead of match
     def dependsOn = [] // any filters that need to be processed before this one
     GrailsApplication grailsApplication
 
     void afterPropertiesSet() {
         def scope = filterConfig.scope
 
-        useRegex = scope.regex
-        invertRule = scope.invert
-        useRegexFind = scope.find
+        useRegex = scope.regex as boolean
+        invertRule = scope.invert as boolean
+        useRegexFind = scope.find as boolean
 
         if (scope.controller) {
             controllerRegex = Pattern.compile((useRegex)?scope.controller:scope.controller.replaceAll("\\*", ".*"))
@@ -122,19 +122,31 @@ class FilterToHandlerAdapter implements HandlerInterceptor, InitializingBean, Gr
 
             if (!accept(controllerName, actionName, uri)) return true
 
-            def callable = filterConfig.before.clone()
-            def result = callable.call()
-            if (result instanceof Boolean) {
-                if (!result && filterConfig.modelAndView) {
-                    renderModelAndView(filterConfig, request, response, controllerName)
-                }
-                return result
-            }
+            return invokeBefore(request, response, controllerName)
         }
 
         return true
     }
 
+    /**
+     * Invokes the before interceptor of the filter, if any, without checking whether the filter applies.
+     */
+    boolean invokeBefore(HttpServletRequest request, HttpServletResponse response, String controllerName) {
+        if (!filterConfig.before) {
+            return true
+        }
+
+        def callable = filterConfig.before.clone()
+        def result = callable.call()
+        if (result instanceof Boolean) {
+            if (!result && filterConfig.modelAndView) {
+                renderModelAndView(filterConfig, request, response, controllerName)
+            }
+            return result
+        }
+        return true
+    }
+
     void postHandle(HttpServletRequest request, HttpServletResponse response, o, ModelAndView modelAndView) {
         if (!filterConfig.after) {
             return
@@ -146,6 +158,17 @@ class FilterToHandlerAdapter implements HandlerInterceptor, InitializingBean, Gr
 
         if (!accept(controllerName, actionName, uri)) return
 
+        invokeAfter(request, response, modelAndView, controllerName)
+    }
+
+    /**
+     * Invokes the after interceptor of the filter, if any, without checking whether the filter applies.
+     */
+    void invokeAfter(HttpServletRequest request, HttpServletResponse response, ModelAndView modelAndView, String controllerName) {
+        if (!filterConfig.after) {
+            return
+        }
+
         def callable = filterConfig.after.clone()
         def currentModel = modelAndView?.model
         if(currentModel == null) {
@@ -197,10 +220,41 @@ class FilterToHandlerAdapter implements HandlerInterceptor, InitializingBean, Gr
 
         if (!accept(controllerName, actionName, uri)) return
 
+        invokeAfterView(e)
+    }
+
+    /**
+     * Invokes the afterView interceptor of the filter, if any, without checking whether the filter applies.
+     */
+    void invokeAfterView(Exception e) {
+        if (!filterConfig.afterView) {
+            return
+        }
+
         def callable = filterConfig.afterView.clone()
         callable.call(e)
     }
 
+    /**
+     * Whether the filter is scoped by URI, the URI of a request then decides whether it applies.
+     */
+    boolean isUriScoped() {
+        uriPattern || uriExcludePattern
+    }
+
+    /**
+     * Returns the name of the controller if the filter can only apply to requests for that controller, or null
+     * if it is scoped by a pattern, a regular expression or a URI.
+     */
+    String getExactControllerName() {
+        def controller = filterConfig.scope.controller
+        if (!controller || useRegex || invertRule || useRegexFind || isUriScoped()) {
+            return null
+        }
+        controller = controller.toString()
+        controller ==~ /\w+/ ? controller : null
+    }
+
     boolean accept(String controllerName, String actionName, String uri) {
         boolean matched=true
 
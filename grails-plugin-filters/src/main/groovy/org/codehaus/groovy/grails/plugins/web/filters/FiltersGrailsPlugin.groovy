@@ -19,6 +19,7 @@ import grails.util.GrailsUtil
 
 import org.apache.commons.logging.Log
 import org.apache.commons.logging.LogFactory
+import org.codehaus.groovy.grails.commons.ControllerArtefactHandler
 import org.codehaus.groovy.grails.commons.GrailsApplication
 import org.codehaus.groovy.grails.commons.GrailsClass
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory
@@ -42,6 +43,7 @@ class FiltersGrailsPlugin {
     def dependsOn = [controllers:version]
     def artefacts = [FiltersConfigArtefactHandler]
     def watchedResources = "file:./grails-app/conf/**/*Filters.groovy"
+    def observe = ['controllers']
 
     static final BEANS = { GrailsClass filter ->
         "${filter.fullName}Class"(MethodInvokingFactoryBean) {
@@ -73,6 +75,12 @@ class FiltersGrailsPlugin {
 
         LOG.debug("onChange: $event")
 
+        if (event.application.isArtefactOfType(ControllerArtefactHandler.TYPE, event.source)) {
+            // filters without an action in the request are matched with the default action of the controller
+            event.ctx?.getBean('filterInterceptor')?.clearCachedChains()
+            return
+        }
+
         // Get the new or modified filter and (re-)register the associated beans
         def newFilter = event.application.addArtefact(TYPE, event.source)
         beans(BEANS.curry(newFilter)).registerBeans(event.ctx)
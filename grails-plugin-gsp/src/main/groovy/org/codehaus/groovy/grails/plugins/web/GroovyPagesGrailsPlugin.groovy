@@ -44,6 +44,7 @@ import org.codehaus.groovy.grails.web.servlet.view.GrailsViewResolver
 import org.codehaus.groovy.grails.web.sitemesh.GroovyPageLayoutFinder
 import org.springframework.beans.factory.config.PropertiesFactoryBean
 import org.springframework.context.ApplicationContext
+import org.springframework.jmx.export.MBeanExporter
 import org.springframework.web.servlet.view.JstlView
 import org.codehaus.groovy.grails.commons.ControllerArtefactHandler
 
@@ -78,10 +79,13 @@ class GroovyPagesGrailsPlugin {
     ]
 
     /**
-     * Clear the page cache with the ApplicationContext is loaded
+     * Clear the page cache with the ApplicationContext is loaded and warm up the views if enabled
      */
     def doWithApplicationContext = {ApplicationContext ctx ->
         ctx.getBean("groovyPagesTemplateEngine").clearPageCache()
+        if (ctx.containsBean("groovyPagesWarmer")) {
+            ctx.getBean("groovyPagesWarmer").warmUp()
+        }
     }
 
     /**
@@ -174,13 +178,40 @@ class GroovyPagesGrailsPlugin {
             cacheResources = enableCacheResources
         }
 
+        if (GrailsConfigUtils.isConfigTrue(application, GroovyPagesTemplateEngine.CONFIG_PROPERTY_GSP_WARMUP)) {
+            def warmupThreads = application.flatConfig[GroovyPagesTemplateEngine.CONFIG_PROPERTY_GSP_WARMUP_THREADS]
+            def warmupTimeout = application.flatConfig[GroovyPagesTemplateEngine.CONFIG_PROPERTY_GSP_WARMUP_TIMEOUT]
+            groovyPagesWarmer(GroovyPagesWarmer, ref("groovyPagesTemplateEngine")) {
+                if (warmupThreads) {
+                    threads = warmupThreads as int
+                }
+                if (warmupTimeout) {
+                    timeout = warmupTimeout as long
+                }
+            }
+
+            // exposes the warm-up progress and timings over JMX
+            if (application.flatConfig[GroovyPagesTemplateEngine.CONFIG_PROPERTY_GSP_WARMUP_JMX] != false) {
+                groovyPagesWarmerExporter(MBeanExporter) {
+                    beans = [(GroovyPagesWarmer.getObjectName(application.metadata?.getApplicationName()).toString()): ref("groovyPagesWarmer")]
+                    registrationBehaviorName = "REGISTRATION_REPLACE_EXISTING"
+                }
+            }
+        }
+
         groovyPageRenderer(PageRenderer, ref("groovyPagesTemplateEngine")) { bean ->
             bean.lazyInit = true
             groovyPageLocator = groovyPageLocator
         }
 
+        def templateNegativeCacheTimeout = application.flatConfig[GroovyPagesTemplateEngine.CONFIG_PROPERTY_GSP_TEMPLATE_NEGATIVE_CACHE_TIMEOUT]
         groovyPagesTemplateRenderer(GroovyPagesTemplateRenderer) { bean ->
             bean.autowire = true
+            if (templateNegativeCacheTimeout != null) {
+                negativeCacheTimeout = templateNegativeCacheTimeout as long
+            }
+            asyncRevalidation = enableReload &&
+                GrailsConfigUtils.isConfigTrue(application, GroovyPagesTemplateEngine.CONFIG_PROPERTY_GSP_TEMPLATE_ASYNC_REVALIDATION)
         }
 
         groovyPageLayoutFinder(GroovyPageLayoutFinder) {
@@ -21,6 +21,7 @@ import javax.servlet.http.HttpServletResponse
 import org.codehaus.groovy.grails.commons.metaclass.MetaClassEnhancer
 import org.codehaus.groovy.grails.plugins.web.api.RequestMimeTypesApi
 import org.codehaus.groovy.grails.plugins.web.api.ResponseMimeTypesApi
+import org.codehaus.groovy.grails.web.mime.AcceptHeaderResolver
 import org.codehaus.groovy.grails.web.mime.DefaultMimeUtility
 import org.codehaus.groovy.grails.web.mime.MimeType
 import org.springframework.context.ApplicationContext
@@ -57,4 +58,8 @@ class MimeTypesGrailsPlugin {
         responseEnhancer.addApi ctx.getBean("responseMimeTypesApi")
         responseEnhancer.enhance HttpServletResponse.metaClass
     }
+
+    def onConfigChange = { event ->
+        AcceptHeaderResolver.clearCache()
+    }
 }
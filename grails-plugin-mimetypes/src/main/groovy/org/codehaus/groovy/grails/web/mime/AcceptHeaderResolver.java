@@ -0,0 +1,224 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.web.mime;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+
+/**
+ * Resolves Accept and Content-Type headers to the configured {@link MimeType} instances they refer to, in the
+ * order of priority established by {@link DefaultAcceptHeaderParser}. The mime type to extension mapping of the
+ * <code>grails.mime.types</code> configuration is computed once, and the results for each distinct header are
+ * kept in a bounded cache, since real traffic only ever sends a handful of different headers.
+ *
+ * The arrays returned are shared between callers and must not be modified.
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public class AcceptHeaderResolver {
+
+    private static final Log LOG = LogFactory.getLog(AcceptHeaderResolver.class);
+
+    /**
+     * The maximum number of distinct headers whose results are cached.
+     */
+    public static final int DEFAULT_MAX_CACHED_HEADERS = 500;
+
+    private static final String XML = "application/xml";
+    private static final Pattern SPECIFIC_XML_TYPE = Pattern.compile("\\S+?\\+xml$");
+
+    private static final Comparator<MimeType> QUALITY_COMPARATOR = new Comparator<MimeType>() {
+        public int compare(MimeType m1, MimeType m2) {
+            return quality(m2).compareTo(quality(m1));
+        }
+    };
+
+    private static volatile AcceptHeaderResolver lastResolver;
+
+    private final Map<?, ?> mimeConfig;
+    private final Map<String, String> extensions = new HashMap<String, String>();
+    private final Map<String, MimeType[]> resolved;
+
+    /**
+     * @param mimeConfig The value of the grails.mime.types configuration
+     */
+    public AcceptHeaderResolver(Map<?, ?> mimeConfig) {
+        this.mimeConfig = mimeConfig;
+        resolved = new ConcurrentLinkedHashMap.Builder<String, MimeType[]>()
+                .maximumWeightedCapacity(DEFAULT_MAX_CACHED_HEADERS)
+                .build();
+
+        // mime types mapped directly to an extension take precedence over those in a list of types
+        for (Map.Entry<?, ?> entry : mimeConfig.entrySet()) {
+            if (!(entry.getValue() instanceof List)) {
+                putExtension(String.valueOf(entry.getValue()), entry.getKey());
+            }
+        }
+        for (Map.Entry<?, ?> entry : mimeConfig.entrySet()) {
+            if (entry.getValue() instanceof List) {
+                for (Object name : (List<?>)entry.getValue()) {
+                    putExtension(String.valueOf(name), entry.getKey());
+                }
+            }
+        }
+    }
+
+    private void putExtension(String mimeName, Object extension) {
+        if (!extensions.containsKey(mimeName)) {
+            extensions.put(mimeName, String.valueOf(extension));
+        }
+    }
+
+    /**
+     * Returns the resolver for the given configuration, reusing the previous one as long as the configuration
+     * is the same.
+     *
+     * @param mimeConfig The value of the grails.mime.types configuration
+     * @return The resolver
+     */
+    public static AcceptHeaderResolver forConfig(Map<?, ?> mimeConfig) {
+        AcceptHeaderResolver resolver = lastResolver;
+        if (resolver == null || resolver.mimeConfig != mimeConfig) {
+            resolver = new AcceptHeaderResolver(mimeConfig);
+            lastResolver = resolver;
+        }
+        return resolver;
+    }
+
+    /**
+     * Discards the cached resolver, for example when the configuration is reloaded.
+     */
+    public static void clearCache() {
+        lastResolver = null;
+    }
+
+    /**
+     * Resolves a header.
+     *
+     * @param header The non empty header
+     * @return The configured mime types the header refers to in order of priority, or the default mime types
+     * if it doesn't refer to any configured mime type
+     */
+    public MimeType[] resolve(String header) {
+        MimeType[] mimeTypes = resolved.get(header);
+        if (mimeTypes == null) {
+            mimeTypes = parse(header);
+            resolved.put(header, mimeTypes);
+        }
+        return mimeTypes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private MimeType[] parse(String header) {
+        List<MimeType> mimes = new ArrayList<MimeType>();
+        for (String token : header.split(",")) {
+            int paramsStart = token.indexOf(';');
+            if (paramsStart < 0) {
+                addMimeType(token.trim(), null, mimes);
+                continue;
+            }
+
+            String[] parts = token.split(";");
+            Map<String, String> params = new LinkedHashMap<String, String>();
+            for (int i = 1; i < parts.length; i++) {
+                int eq = parts[i].indexOf('=');
+                if (eq > -1) {
+                    params.put(parts[i].substring(0, eq).trim(), parts[i].substring(eq + 1).trim());
+                }
+            }
+            addMimeType(parts.length > 0 ? parts[0].trim() : "", params, mimes);
+        }
+
+        if (mimes.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("No configured mime types found for Accept header: " + header);
+            }
+            return MimeType.createDefaults();
+        }
+
+        // remove duplicate text/xml and application/xml entries
+        MimeType textXml = findByName(mimes, "text/xml");
+        MimeType appXml = findByName(mimes, XML);
+        if (textXml != null && appXml != null) {
+            // take the largest q value
+            appXml.getParameters().put("q", quality(textXml).max(quality(appXml)));
+            mimes.remove(textXml);
+        }
+        else if (textXml != null) {
+            textXml.setName(XML);
+        }
+
+        if (appXml != null) {
+            // prioritise more specific XML types like xhtml+xml if they are of equal quality
+            int appXmlIndex = mimes.indexOf(appXml);
+            BigDecimal appXmlQuality = quality(appXml);
+            for (MimeType mime : new ArrayList<MimeType>(mimes)) {
+                if (!SPECIFIC_XML_TYPE.matcher(mime.getName()).matches() || quality(mime).compareTo(appXmlQuality) < 0) {
+                    continue;
+                }
+                int mimeIndex = mimes.indexOf(mime);
+                if (mimeIndex > appXmlIndex) {
+                    mimes.remove(mimeIndex);
+                    mimes.add(appXmlIndex, mime);
+                }
+            }
+        }
+
+        Collections.sort(mimes, QUALITY_COMPARATOR);
+        return mimes.toArray(new MimeType[mimes.size()]);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void addMimeType(String name, Map<String, String> params, List<MimeType> mimes) {
+        String extension = extensions.get(name);
+        if (extension == null) {
+            return;
+        }
+        MimeType mime = params == null || params.isEmpty() ? new MimeType(name) : new MimeType(name, (Map)params);
+        mime.setExtension(extension);
+        mimes.add(mime);
+    }
+
+    private static MimeType findByName(List<MimeType> mimes, String name) {
+        for (MimeType mime : mimes) {
+            if (name.equals(mime.getName())) {
+                return mime;
+            }
+        }
+        return null;
+    }
+
+    private static BigDecimal quality(MimeType mime) {
+        Object q = mime.getParameters().get("q");
+        if (q instanceof BigDecimal) {
+            return (BigDecimal)q;
+        }
+        return new BigDecimal(String.valueOf(q).trim());
+    }
+}
@@ -41,8 +41,6 @@ class DefaultAcceptHeaderParser implements AcceptHeaderParser {
 
     MimeType[] parse(String header) {
         def config = application?.getConfig()
-        def mimes = []
-        def qualifiedMimes = []
         def mimeConfig = config?.grails?.mime?.types
         if (!mimeConfig) {
             LOG.debug "No mime types configured, defaulting to 'text/html'"
@@ -56,76 +54,7 @@ class DefaultAcceptHeaderParser implements AcceptHeaderParser {
             return MimeType.getConfiguredMimeTypes()
         }
 
-        def tokens = header.split(',')
-        for (t in tokens) {
-            if (t.indexOf(';') > -1) {
-                t = t.split(';')
-                def params = [:]
-                t[1..-1].each {
-                    def i = it.indexOf('=')
-                    if (i > -1) {
-                        params[it[0..i-1].trim()] = it[i+1..-1].trim()
-                    }
-                }
-                if (params) {
-                    createMimeTypeAndAddToList(t[0].trim(),mimeConfig, mimes, params)
-                }
-                else {
-                    createMimeTypeAndAddToList(t[0].trim(),mimeConfig, mimes)
-                }
-            }
-            else {
-                createMimeTypeAndAddToList(t.trim(),mimeConfig, mimes)
-            }
-        }
-
-        if (!mimes) {
-            LOG.debug "No configured mime types found for Accept header: $header"
-            return MimeType.createDefaults()
-        }
-
-        // remove duplicate text/xml and application/xml entries
-        MimeType textXml = mimes.find { it.name == 'text/xml' }
-        MimeType appXml = mimes.find { it.name ==  MimeType.XML }
-        if (textXml && appXml) {
-            // take the largest q value
-            appXml.parameters.q = [textXml.parameters.q.toBigDecimal(), appXml.parameters.q.toBigDecimal()].max()
-
-            mimes.remove(textXml)
-        }
-        else if (textXml) {
-            textXml.name = MimeType.XML
-        }
-
-        if (appXml) {
-            // prioritise more specific XML types like xhtml+xml if they are of equal quality
-            def specificTypes = mimes.findAll { it.name ==~ /\S+?\+xml$/ }
-            def appXmlIndex = mimes.indexOf(appXml)
-            def appXmlQuality = appXml.parameters.q.toBigDecimal()
-            for (mime in specificTypes) {
-                if (mime.parameters.q.toBigDecimal() < appXmlQuality) continue
-
-                def mimeIndex = mimes.indexOf(mime)
-                if (mimeIndex > appXmlIndex) {
-                    mimes.remove(mime)
-                    mimes.add(appXmlIndex, mime)
-                }
-            }
-        }
-        return mimes.sort(new QualityComparator()) as MimeType[]
-    }
-
-    private createMimeTypeAndAddToList(name, mimeConfig, mimes, params = null) {
-        def mime = params ? new MimeType(name, params) : new MimeType(name)
-        def ext = mimeConfig.find { it.value == name }
-        if (!ext) {
-            def multiMimeFormats = mimeConfig.findAll {it.value instanceof List}
-            ext = multiMimeFormats?.find { it.value?.find { it == name } }
-        }
-        if (ext) {
-            mime.extension = ext.key
-            mimes << mime
-        }
+        return AcceptHeaderResolver.forConfig(mimeConfig).resolve(header)
     }
 }
 
@@ -209,6 +209,8 @@ class ControllerUnitTestMixin extends GrailsUnitTestMixin {
                 bean.lazyInit = true
                 groovyPageLocator = ref("groovyPageLocator")
                 groovyPagesTemplateEngine = ref("groovyPagesTemplateEngine")
+                // views are registered by tests at any time
+                negativeCacheTimeout = 0
             }
         }
 
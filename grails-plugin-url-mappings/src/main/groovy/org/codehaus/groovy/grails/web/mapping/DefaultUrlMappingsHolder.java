@@ -76,6 +76,8 @@ public class DefaultUrlMappingsHolder implements UrlMappingsHolder {
     private UrlCreatorCache urlCreatorCache;
     // capacity of the UrlCreatoreCache is the estimated number of char's stored in cached objects
     private int urlCreatorMaxWeightedCacheCapacity = 160000;
+    private boolean trieMatchingEnabled;
+    private UrlMappingsTrie mappingsTrie;
 
     public DefaultUrlMappingsHolder(List<UrlMapping> mappings) {
         this(mappings, null, false);
@@ -108,6 +110,7 @@ public class DefaultUrlMappingsHolder implements UrlMappingsHolder {
         }
 
         mappings = urlMappings.toArray(new UrlMapping[urlMappings.size()]);
+        mappingsTrie = trieMatchingEnabled ? new UrlMappingsTrie(mappings) : null;
 
         for (UrlMapping mapping : mappings) {
             String mappingName = mapping.getMappingName();
@@ -342,7 +345,7 @@ public class DefaultUrlMappingsHolder implements UrlMappingsHolder {
             return cachedMatches.get(uri);
         }
 
-        for (UrlMapping mapping : mappings) {
+        for (UrlMapping mapping : getCandidateMappings(uri)) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Attempting to match URI [" + uri + "] with pattern [" + mapping.getUrlData().getUrlPattern() + "]");
             }
@@ -363,7 +366,7 @@ public class DefaultUrlMappingsHolder implements UrlMappingsHolder {
             matchingUrls = cachedListMatches.get(uri);
         }
         else {
-            for (UrlMapping mapping : mappings) {
+            for (UrlMapping mapping : getCandidateMappings(uri)) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Attempting to match URI [" + uri + "] with pattern [" + mapping.getUrlData().getUrlPattern() + "]");
                 }
@@ -382,6 +385,17 @@ public class DefaultUrlMappingsHolder implements UrlMappingsHolder {
         return matchingUrls.toArray(new UrlMappingInfo[matchingUrls.size()]);
     }
 
+    /**
+     * Returns the mappings that need to be matched against the given URI. When trie matching is enabled only the
+     * mappings whose path structure fits the URI are returned, otherwise all mappings are.
+     *
+     * @param uri The URI
+     * @return The mappings in precedence order
+     */
+    protected UrlMapping[] getCandidateMappings(String uri) {
+        return mappingsTrie != null ? mappingsTrie.findCandidates(uri) : mappings;
+    }
+
     public UrlMappingInfo[] matchAll(String uri, String httpMethod) {
         return matchAll(uri);
     }
@@ -577,4 +591,14 @@ public class DefaultUrlMappingsHolder implements UrlMappingsHolder {
     public void setUrlCreatorMaxWeightedCacheCapacity(int urlCreatorMaxWeightedCacheCapacity) {
         this.urlCreatorMaxWeightedCacheCapacity = urlCreatorMaxWeightedCacheCapacity;
     }
+
+    /**
+     * Whether to match URIs with a {@link UrlMappingsTrie} compiled from the mappings instead of trying
+     * the regular expression of each mapping in turn. Must be set before {@link #initialize()} is called.
+     *
+     * @param trieMatchingEnabled True if the trie should be used
+     */
+    public void setTrieMatchingEnabled(boolean trieMatchingEnabled) {
+        this.trieMatchingEnabled = trieMatchingEnabled;
+    }
 }
@@ -47,6 +47,8 @@ import org.springframework.web.context.WebApplicationContext;
 public class UrlMappingsHolderFactoryBean implements FactoryBean<UrlMappingsHolder>, InitializingBean, ApplicationContextAware, GrailsApplicationAware, PluginManagerAware {
     private static final String URL_MAPPING_CACHE_MAX_SIZE = "grails.urlmapping.cache.maxsize";
     private static final String URL_CREATOR_CACHE_MAX_SIZE = "grails.urlcreator.cache.maxsize";
+    private static final String URL_MAPPING_MATCHER = "grails.urlmapping.matcher";
+    private static final String TRIE_MATCHER = "trie";
     private GrailsApplication grailsApplication;
     private UrlMappingsHolder urlMappingsHolder;
     private GrailsPluginManager pluginManager;
@@ -110,6 +112,8 @@ public class UrlMappingsHolderFactoryBean implements FactoryBean<UrlMappingsHold
         if (urlCreatorCacheSize != null) {
             defaultUrlMappingsHolder.setUrlCreatorMaxWeightedCacheCapacity(urlCreatorCacheSize);
         }
+        Object matcher = flatConfig.get(URL_MAPPING_MATCHER);
+        defaultUrlMappingsHolder.setTrieMatchingEnabled(matcher != null && TRIE_MATCHER.equalsIgnoreCase(matcher.toString()));
         // call initialize() after settings are in place
         defaultUrlMappingsHolder.initialize();
         urlMappingsHolder=defaultUrlMappingsHolder;
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.web.mapping;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.codehaus.groovy.grails.validation.ConstrainedProperty;
+import org.codehaus.groovy.grails.validation.Constraint;
+import org.codehaus.groovy.grails.validation.MatchesConstraint;
+
+/**
+ * <p>Compiles the logical URLs of a set of {@link RegexUrlMapping} instances into a single segment trie. The trie
+ * is used to narrow down the mappings that could possibly match a URI so that only those candidates are
+ * matched with their regular expressions.</p>
+ *
+ * <p>The trie consists of static nodes (exact segment matches), typed nodes (captured segments constrained
+ * with a <code>matches</code> constraint), wildcard nodes (any single segment) and tail nodes (double wildcards
+ * that accept any remainder). Candidates are always returned in the order of the array of mappings the trie was
+ * built from, so the precedence rules of {@link DefaultUrlMappingsHolder} are retained.</p>
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public class UrlMappingsTrie {
+
+    private static final char SLASH = '/';
+    private static final String WILDCARD = "*";
+    private static final String DOUBLE_WILDCARD = "**";
+    private static final String CAPTURED_WILDCARD = "(*)";
+    private static final String REGEX_SPECIAL_CHARS = "\\^$|?()[]{}";
+
+    private final UrlMapping[] mappings;
+    private final Node root = new Node();
+    private final BitSet unindexed = new BitSet();
+
+    /**
+     * Builds a trie for the given mappings. The array must already be sorted by precedence.
+     *
+     * @param mappings The sorted mappings
+     */
+    public UrlMappingsTrie(UrlMapping[] mappings) {
+        this.mappings = mappings;
+        for (int i = 0; i < mappings.length; i++) {
+            UrlMapping mapping = mappings[i];
+            if (!(mapping instanceof RegexUrlMapping) || !addMapping(i, (RegexUrlMapping) mapping)) {
+                unindexed.set(i);
+            }
+        }
+    }
+
+    /**
+     * Returns the mappings that may match the given URI, in precedence order. Every returned mapping still
+     * needs to be matched against the URI; mappings that are not returned are guaranteed not to match.
+     *
+     * @param uri The URI
+     * @return The candidate mappings
+     */
+    public UrlMapping[] findCandidates(String uri) {
+        BitSet candidates = (BitSet) unindexed.clone();
+        String[] segments = split(uri);
+        if (segments == null) {
+            candidates.set(0, mappings.length);
+        }
+        else {
+            collect(root, segments, 0, candidates);
+        }
+
+        UrlMapping[] result = new UrlMapping[candidates.cardinality()];
+        int n = 0;
+        for (int i = candidates.nextSetBit(0); i > -1; i = candidates.nextSetBit(i + 1)) {
+            result[n++] = mappings[i];
+        }
+        return result;
+    }
+
+    private void collect(Node node, String[] segments, int index, BitSet candidates) {
+        if (node.tail != null) {
+            candidates.or(node.tail);
+        }
+        if (index == segments.length) {
+            if (node.terminal != null) {
+                candidates.or(node.terminal);
+            }
+            return;
+        }
+
+        String segment = segments[index];
+        if (node.statics != null) {
+            Node child = node.statics.get(segment);
+            if (child != null) {
+                collect(child, segments, index + 1, candidates);
+            }
+        }
+        if (node.typed != null) {
+            for (TypedNode child : node.typed.values()) {
+                if (child.accepts(segment)) {
+                    collect(child, segments, index + 1, candidates);
+                }
+            }
+        }
+        if (node.wildcard != null) {
+            collect(node.wildcard, segments, index + 1, candidates);
+        }
+    }
+
+    private boolean addMapping(int index, RegexUrlMapping mapping) {
+        String[] urls = mapping.getUrlData().getLogicalUrls();
+        ConstrainedProperty[] constraints = mapping.getConstraints();
+        for (String url : urls) {
+            String[] segments = split(url);
+            if (segments == null) {
+                return false;
+            }
+            addUrl(index, segments, constraints);
+        }
+        return true;
+    }
+
+    private void addUrl(int index, String[] segments, ConstrainedProperty[] constraints) {
+        Node node = root;
+        int group = 0;
+        boolean groupsKnown = true;
+        for (String segment : segments) {
+            if (segment.indexOf(DOUBLE_WILDCARD) > -1) {
+                node.tail = set(node.tail, index);
+                return;
+            }
+
+            if (CAPTURED_WILDCARD.equals(segment)) {
+                Pattern pattern = groupsKnown ? getMatchesPattern(constraints, group) : null;
+                node = pattern != null ? node.typedChild(pattern) : node.wildcardChild();
+            }
+            else if (segment.indexOf(WILDCARD) > -1 || containsRegexChars(segment)) {
+                // mixed tokens such as "(*).(*)" or tokens containing raw regex syntax are treated as plain wildcards
+                node = node.wildcardChild();
+                if (segment.indexOf("\\(") > -1 || segment.indexOf("(?") > -1) {
+                    groupsKnown = false;
+                }
+            }
+            else {
+                node = node.staticChild(segment);
+            }
+            group += countGroups(segment);
+        }
+        node.terminal = set(node.terminal, index);
+    }
+
+    private static Pattern getMatchesPattern(ConstrainedProperty[] constraints, int group) {
+        if (constraints == null || group >= constraints.length) {
+            return null;
+        }
+
+        Constraint c = constraints[group].getAppliedConstraint(ConstrainedProperty.MATCHES_CONSTRAINT);
+        if (!(c instanceof MatchesConstraint) || ((MatchesConstraint) c).getRegex() == null) {
+            return null;
+        }
+
+        try {
+            return Pattern.compile(((MatchesConstraint) c).getRegex());
+        }
+        catch (PatternSyntaxException e) {
+            return null;
+        }
+    }
+
+    private static int countGroups(String segment) {
+        int count = 0;
+        for (int i = 0; i < segment.length(); i++) {
+            if (segment.charAt(i) == '(') count++;
+        }
+        return count;
+    }
+
+    private static boolean containsRegexChars(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            if (REGEX_SPECIAL_CHARS.indexOf(segment.charAt(i)) > -1) return true;
+        }
+        return false;
+    }
+
+    private static BitSet set(BitSet bits, int index) {
+        if (bits == null) {
+            bits = new BitSet();
+        }
+        bits.set(index);
+        return bits;
+    }
+
+    /**
+     * Splits a URI or logical URL into its path segments. A single trailing slash is ignored since the regular
+     * expressions created by {@link RegexUrlMapping} accept it as optional.
+     *
+     * @param uri The URI
+     * @return The segments or null if the URI is not an absolute path
+     */
+    static String[] split(String uri) {
+        if (uri == null) {
+            return null;
+        }
+        int length = uri.length();
+        if (length == 0) {
+            return new String[0];
+        }
+        if (uri.charAt(0) != SLASH) {
+            return null;
+        }
+        if (length > 1 && uri.charAt(length - 1) == SLASH) {
+            length--;
+        }
+        if (length == 1) {
+            return new String[0];
+        }
+
+        List<String> segments = new ArrayList<String>();
+        int start = 1;
+        for (int i = 1; i < length; i++) {
+            if (uri.charAt(i) == SLASH) {
+                segments.add(uri.substring(start, i));
+                start = i + 1;
+            }
+        }
+        segments.add(uri.substring(start, length));
+        return segments.toArray(new String[segments.size()]);
+    }
+
+    private static class Node {
+        Map<String, Node> statics;
+        Map<String, TypedNode> typed;
+        Node wildcard;
+        BitSet terminal;
+        BitSet tail;
+
+        Node staticChild(String segment) {
+            if (statics == null) {
+                statics = new HashMap<String, Node>();
+            }
+            Node child = statics.get(segment);
+            if (child == null) {
+                child = new Node();
+                statics.put(segment, child);
+            }
+            return child;
+        }
+
+        Node typedChild(Pattern pattern) {
+            if (typed == null) {
+                typed = new LinkedHashMap<String, TypedNode>();
+            }
+            TypedNode child = typed.get(pattern.pattern());
+            if (child == null) {
+                child = new TypedNode(pattern);
+                typed.put(pattern.pattern(), child);
+            }
+            return child;
+        }
+
+        Node wildcardChild() {
+            if (wildcard == null) {
+                wildcard = new Node();
+            }
+            return wildcard;
+        }
+    }
+
+    private static class TypedNode extends Node {
+        private final Pattern pattern;
+
+        TypedNode(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        boolean accepts(String segment) {
+            int i = segment.indexOf('?');
+            String value = i > -1 ? segment.substring(0, i) : segment;
+            // blank values are left to the nullable and blank constraints of the mapping
+            return value.trim().length() == 0 || pattern.matcher(value).matches();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.codehaus.groovy.grails.orm.hibernate
+
+import grails.persistence.Entity
+
+import org.codehaus.groovy.grails.orm.hibernate.support.ClosureEventListener
+import org.hibernate.FlushMode
+import org.hibernate.event.PostLoadEvent
+import org.hibernate.event.PreInsertEvent
+
+class ClosureEventListenerTests extends AbstractGrailsHibernateTests {
+
+    void testFlushModeIsRestoredWhenHandlerThrows() {
+        def listener = new ClosureEventListener(FailingEventsDomain, false, [])
+        def entity = new FailingEventsDomain(name: "test")
+        session.flushMode = FlushMode.AUTO
+
+        def postLoad = new PostLoadEvent(session)
+        postLoad.entity = entity
+        shouldFail(IllegalStateException) {
+            listener.onPostLoad(postLoad)
+        }
+        assertEquals FlushMode.AUTO, session.flushMode
+
+        shouldFail(IllegalStateException) {
+            listener.onPreInsert(new PreInsertEvent(entity, null, [] as Object[], null, session))
+        }
+        assertEquals FlushMode.AUTO, session.flushMode
+    }
+
+    void testResolvedListenerIsDroppedWhenListenersAreCleared() {
+        def interceptor = eventTriggeringInterceptor
+        def entity = new FailingEventsDomain(name: "test")
+
+        def listener = interceptor.findEventListener(entity)
+        assertNotNull listener
+        assertSame listener, interceptor.findEventListener(entity)
+
+        interceptor.eventListeners.clear()
+        def resolvedAgain = interceptor.findEventListener(entity)
+        assertNotNull resolvedAgain
+        assertNotSame listener, resolvedAgain
+    }
+
+    void testResolvedListenerIsNotReusedForReloadedClass() {
+        def interceptor = eventTriggeringInterceptor
+        def source = '''
+@grails.persistence.Entity
+class ReloadedEventsDomain {
+    String name
+    def beforeInsert() { name = "VERSION" }
+}
+'''
+        def original = new GroovyClassLoader(gcl).parseClass(source.replace("VERSION", "original"))
+        def reloaded = new GroovyClassLoader(gcl).parseClass(source.replace("VERSION", "reloaded"))
+        assertEquals original.name, reloaded.name
+
+        def entity = original.newInstance()
+        interceptor.findEventListener(entity).beforeInsertCaller.call(entity)
+        assertEquals "original", entity.name
+
+        entity = reloaded.newInstance()
+        interceptor.findEventListener(entity).beforeInsertCaller.call(entity)
+        assertEquals "reloaded", entity.name
+    }
+
+    private getEventTriggeringInterceptor() {
+        def closureInterceptor = appCtx.getBean("eventTriggeringInterceptor")
+        closureInterceptor.datastores.values().iterator().next().eventTriggeringInterceptor
+    }
+
+    @Override
+    protected getDomainClasses() {
+        [FailingEventsDomain]
+    }
+}
+
+@Entity
+class FailingEventsDomain {
+    String name
+
+    def afterLoad() {
+        throw new IllegalStateException("afterLoad")
+    }
+
+    def beforeInsert() {
+        throw new IllegalStateException("beforeInsert")
+    }
+}
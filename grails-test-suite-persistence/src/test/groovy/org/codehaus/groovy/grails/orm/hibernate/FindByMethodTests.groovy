@@ -2,6 +2,8 @@ package org.codehaus.groovy.grails.orm.hibernate
 
 import grails.persistence.Entity
 
+import org.codehaus.groovy.grails.orm.hibernate.metaclass.AbstractClausedStaticPersistentMethod
+
 /**
  * @author Graeme Rocher
  * @since 1.0
@@ -20,6 +22,37 @@ class FindByMethodTests extends AbstractGrailsHibernateTests {
 		assertNotNull bookClass.findAllByReleaseDate(null)
 	}
 
+    void testRepeatedInvocationBindsNewArguments() {
+        def bookClass = ga.getDomainClass(FindByMethodBook.name).clazz
+
+        assertNotNull bookClass.newInstance(title:"The Stand").save()
+        assertNotNull bookClass.newInstance(title:"The Shining").save(flush:true)
+
+        assertEquals "The Stand", bookClass.findByTitle("The Stand")?.title
+        assertEquals "The Shining", bookClass.findByTitle("The Shining")?.title
+        assertEquals 1, bookClass.findAllByTitleLike("%Stand", [max:10]).size()
+        assertEquals 1, bookClass.findAllByTitleLike("%Shining").size()
+
+        shouldFail(MissingMethodException) {
+            bookClass.findByTitleAndReleaseDate("The Stand")
+        }
+    }
+
+    void testFinderPlansAreDroppedForReloadedClasses() {
+        def bookClass = ga.getDomainClass(FindByMethodBook.name).clazz
+        def plans = AbstractClausedStaticPersistentMethod.@FINDER_PLANS
+
+        assertNotNull bookClass.newInstance(title:"The Stand").save(flush:true)
+        assertEquals "The Stand", bookClass.findByTitle("The Stand")?.title
+        assertTrue plans.containsKey(bookClass)
+
+        AbstractClausedStaticPersistentMethod.clearFinderPlans(bookClass)
+        assertFalse plans.containsKey(bookClass)
+
+        assertEquals "The Stand", bookClass.findByTitle("The Stand")?.title
+        assertTrue plans.containsKey(bookClass)
+    }
+
     void testNullParameters() {
         def bookClass = ga.getDomainClass(FindByMethodBook.name).clazz
 
@@ -464,6 +464,28 @@ class PersistenceMethodTests extends AbstractGrailsHibernateTests {
         assertNull returnList[2]
     }
 
+    void testGetAllWithSessionAndQueriedInstances() {
+        def domainClass = ga.getDomainClass(PersistentMethodTests.name).clazz
+
+        ["fred", "wilma", "john"].eachWithIndex { name, i ->
+            def obj = domainClass.newInstance()
+            obj.setProperty("id", i + 1)
+            obj.setProperty("firstName", name)
+            obj.setProperty("lastName", "flintstone")
+            obj.invokeMethod("save", [flush: true] as Object[])
+        }
+        session.clear()
+
+        def wilma = domainClass.get(2)
+        def returnList = domainClass.getAll([3, 2, 5, 3, 1])
+        assertEquals 5, returnList.size()
+        assertEquals 3, returnList[0].getProperty("id")
+        assertSame wilma, returnList[1]
+        assertNull returnList[2]
+        assertSame returnList[0], returnList[3]
+        assertEquals 1, returnList[4].getProperty("id")
+    }
+
     void testDiscardMethod() {
         def domainClass = ga.getDomainClass(PersistentMethodTests.name).clazz
 
@@ -1124,6 +1124,96 @@ class Alert {
         assertTrue(!getCustomCascadedProperty('delete').isExplicitSaveUpdateCascade())
     }
 
+    void testMappingIsEvaluatedOncePerClass() {
+        GrailsDomainClass domainClass = new DefaultGrailsDomainClass(cl.parseClass('''
+class MappingCounter {
+    Long id
+    Long version
+    static int evaluations
+    static mapping = {
+        MappingCounter.evaluations++
+        table 'counted'
+    }
+}'''))
+
+        def mapping = GrailsDomainBinder.evaluateMapping(domainClass)
+        assertEquals 'counted', mapping.tableName
+        assertSame mapping, GrailsDomainBinder.evaluateMapping(domainClass)
+        assertSame mapping, GrailsDomainBinder.getMapping(domainClass)
+        assertEquals 1, domainClass.clazz.evaluations
+
+        GrailsDomainBinder.clearMappingCache(domainClass.clazz)
+        assertNull GrailsDomainBinder.getMapping(domainClass)
+        assertNotSame mapping, GrailsDomainBinder.evaluateMapping(domainClass)
+        assertEquals 2, domainClass.clazz.evaluations
+    }
+
+    void testMappingIsEvaluatedAgainForAnotherDefaultMapping() {
+        GrailsDomainClass domainClass = new DefaultGrailsDomainClass(cl.parseClass('''
+class DefaultMappingCounter {
+    Long id
+    Long version
+    static int evaluations
+    static mapping = {
+        DefaultMappingCounter.evaluations++
+        table 'default_counted'
+    }
+}'''))
+        def unversioned = { version false }
+        def cached = { cache true }
+
+        def mapping = GrailsDomainBinder.evaluateMapping(domainClass)
+        assertTrue mapping.versioned
+        assertNull mapping.cache
+
+        mapping = GrailsDomainBinder.evaluateMapping(domainClass, unversioned)
+        assertFalse mapping.versioned
+        assertSame mapping, GrailsDomainBinder.evaluateMapping(domainClass, unversioned)
+        assertEquals 2, domainClass.clazz.evaluations
+
+        mapping = GrailsDomainBinder.evaluateMapping(domainClass, cached)
+        assertTrue mapping.versioned
+        assertNotNull mapping.cache
+        assertSame mapping, GrailsDomainBinder.getMapping(domainClass)
+        assertEquals 'default_counted', mapping.tableName
+        assertEquals 3, domainClass.clazz.evaluations
+    }
+
+    void testMappingOfReloadedClassReplacesMapping() {
+        def source = '''
+class ReloadedMapping {
+    Long id
+    Long version
+    static mapping = { table 'reloaded' }
+}'''
+        GrailsDomainClass original = new DefaultGrailsDomainClass(new GroovyClassLoader().parseClass(source))
+        GrailsDomainClass reloaded = new DefaultGrailsDomainClass(new GroovyClassLoader().parseClass(source))
+
+        def mapping = GrailsDomainBinder.evaluateMapping(original)
+        assertNull GrailsDomainBinder.getMapping(reloaded)
+        assertNotSame mapping, GrailsDomainBinder.evaluateMapping(reloaded)
+        assertNull GrailsDomainBinder.getMapping(original)
+    }
+
+    void testEvaluateMappingsInParallel() {
+        def domainClasses = (1..8).collect {
+            new DefaultGrailsDomainClass(cl.parseClass("""
+class ParallelMapping$it {
+    Long id
+    Long version
+    static mapping = { table 'parallel_$it' }
+}"""))
+        }
+
+        GrailsDomainBinder.evaluateMappings(domainClasses, { version false }, 4)
+
+        domainClasses.eachWithIndex { GrailsDomainClass domainClass, int i ->
+            def mapping = GrailsDomainBinder.getMapping(domainClass)
+            assertEquals "parallel_${i + 1}".toString(), mapping.tableName
+            assertFalse mapping.versioned
+        }
+    }
+
     private GrailsDomainClassProperty getCustomCascadedProperty(String cascadeValue) {
         new DefaultGrailsDomainClass(cl.parseClass('''
 class CascadeChild {
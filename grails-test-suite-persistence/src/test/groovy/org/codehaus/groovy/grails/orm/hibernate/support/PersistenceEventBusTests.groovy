@@ -0,0 +1,70 @@
+package org.codehaus.groovy.grails.orm.hibernate.support
+
+import org.codehaus.groovy.grails.context.support.GrailsApplicationEventMulticaster
+import org.grails.datastore.mapping.core.Datastore
+import org.grails.datastore.mapping.engine.event.PostInsertEvent
+import org.grails.datastore.mapping.engine.event.PreInsertEvent
+import org.springframework.beans.factory.support.RootBeanDefinition
+import org.springframework.context.ApplicationListener
+import org.springframework.context.support.GenericApplicationContext
+
+class PersistenceEventBusTests extends GroovyTestCase {
+
+    GenericApplicationContext ctx
+    Datastore datastore = [:] as Datastore
+
+    protected void setUp() {
+        ctx = new GenericApplicationContext()
+        ctx.registerBeanDefinition("applicationEventMulticaster", new RootBeanDefinition(GrailsApplicationEventMulticaster))
+        ctx.refresh()
+    }
+
+    void testDispatchesToListenersOfTheEventType() {
+        def preInsert = new PreInsertListener()
+        def postInsert = new PostInsertListener()
+        ctx.addApplicationListener(preInsert)
+        ctx.addApplicationListener(postInsert)
+
+        def bus = new PersistenceEventBus(ctx)
+        def event = new PreInsertEvent(datastore, "entity")
+        bus.publishEvent(event)
+        bus.publishEvent(event)
+
+        assertEquals([event, event], preInsert.events)
+        assertEquals([], postInsert.events)
+    }
+
+    void testListenersAddedLaterReceiveEvents() {
+        def bus = new PersistenceEventBus(ctx)
+        bus.publishEvent(new PreInsertEvent(datastore, "first"))
+
+        def listener = new PreInsertListener()
+        ctx.addApplicationListener(listener)
+        def event = new PreInsertEvent(datastore, "second")
+        bus.publishEvent(event)
+
+        assertEquals([event], listener.events)
+    }
+
+    void testPublishesThroughContextWithoutGrailsMulticaster() {
+        def plainCtx = new GenericApplicationContext()
+        plainCtx.refresh()
+        def listener = new PreInsertListener()
+        plainCtx.addApplicationListener(listener)
+
+        def event = new PreInsertEvent(datastore, "entity")
+        new PersistenceEventBus(plainCtx).publishEvent(event)
+
+        assertEquals([event], listener.events)
+    }
+}
+
+class PreInsertListener implements ApplicationListener<PreInsertEvent> {
+    List events = []
+    void onApplicationEvent(PreInsertEvent event) { events << event }
+}
+
+class PostInsertListener implements ApplicationListener<PostInsertEvent> {
+    List events = []
+    void onApplicationEvent(PostInsertEvent event) { events << event }
+}
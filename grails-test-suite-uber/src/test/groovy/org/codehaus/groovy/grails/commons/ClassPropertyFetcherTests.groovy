@@ -0,0 +1,49 @@
+package org.codehaus.groovy.grails.commons
+
+import java.util.concurrent.CountDownLatch
+
+class ClassPropertyFetcherTests extends GroovyTestCase {
+
+    protected void setUp() {
+        ClassPropertyFetcher.clearClassPropertyFetcherCache()
+    }
+
+    protected void tearDown() {
+        ClassPropertyFetcher.clearClassPropertyFetcherCache()
+    }
+
+    void testFetchersAreCreatedOnce() {
+        def latch = new CountDownLatch(1)
+        def fetchers = Collections.synchronizedList([])
+        def threads = (1..8).collect {
+            Thread.start {
+                latch.await()
+                fetchers << ClassPropertyFetcher.forClass(FetcherTestBean)
+            }
+        }
+        latch.countDown()
+        threads*.join()
+
+        assertEquals 8, fetchers.size()
+        assertEquals 1, fetchers.unique(false) { System.identityHashCode(it) }.size()
+    }
+
+    void testPrecompute() {
+        ClassPropertyFetcher.precompute([FetcherTestBean, String])
+
+        def cpf = ClassPropertyFetcher.forClass(FetcherTestBean)
+        assertEquals "static", cpf.getStaticPropertyValue("staticName", String)
+        assertEquals "instance", cpf.getPropertyValue("name")
+        assertTrue cpf.isReadableProperty("name")
+        assertFalse cpf.isReadableProperty("missing")
+
+        shouldFail(UnsupportedOperationException) {
+            cpf.instanceFetchers.clear()
+        }
+    }
+}
+
+class FetcherTestBean {
+    static String staticName = "static"
+    String name = "instance"
+}
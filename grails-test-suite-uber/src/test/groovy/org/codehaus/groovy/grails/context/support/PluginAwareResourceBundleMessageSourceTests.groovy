@@ -56,6 +56,36 @@ one.two=test
         assertEquals "test", messageSource.getMessage("foo.bar", [] as Object[], Locale.default)
         assertEquals "test", messageSource.getMessage("one.two", [] as Object[], Locale.default)
     }
+
+    void testPluginMessageFormatsAreCached() {
+        def testPlugin = new GroovyClassLoader().parseClass('''
+class TestTwoGrailsPlugin {
+    def version = 0.2
+}
+''')
+
+        def messageSource = new TestPluginAwareResourceBundleMessageSource()
+        def pluginManager = new DefaultGrailsPluginManager([testPlugin] as Class[], new DefaultGrailsApplication())
+        pluginManager.loadPlugins()
+
+        messageSource.pluginManager = pluginManager
+        messageSource.basename = "WEB-INF/grails-app/i18n/messages"
+        def loader = new MockStringResourceLoader()
+        loader.registerMockResource("WEB-INF/plugins/test-two-0.2/grails-app/i18n/messages.properties", '''
+foo.bar=Hello {0}
+''')
+        messageSource.resourceLoader = loader
+        messageSource.afterPropertiesSet()
+
+        def format = messageSource.resolveCode("foo.bar", Locale.default)
+        assertNotNull format
+        assertSame format, messageSource.resolveCode("foo.bar", Locale.default)
+        assertNull messageSource.resolveCode("not.there", Locale.default)
+        assertEquals "Hello Bob", messageSource.getMessage("foo.bar", ["Bob"] as Object[], Locale.default)
+
+        messageSource.clearCache()
+        assertNotSame format, messageSource.resolveCode("foo.bar", Locale.default)
+    }
 }
 
 class TestPluginAwareResourceBundleMessageSource extends PluginAwareResourceBundleMessageSource {
@@ -0,0 +1,77 @@
+package org.codehaus.groovy.grails.plugins
+
+import java.util.concurrent.ConcurrentHashMap
+
+import org.codehaus.groovy.grails.commons.DefaultGrailsApplication
+
+class PluginPhaseSchedulerTests extends GroovyTestCase {
+
+    void testPluginsStartAfterTheirDependencies() {
+        def plugins = [
+            plugin("core"),
+            plugin("one", [dependsOn: ["core"]]),
+            plugin("two", [loadAfter: ["core"]]),
+            plugin("three", [loadBefore: ["four"]]),
+            plugin("four", [dependsOn: ["one", "two"]]),
+            plugin("five")]
+        def before = [one: ["core"], two: ["core"], four: ["one", "two", "three"]]
+        def finished = new ConcurrentHashMap()
+
+        def scheduler = new PluginPhaseScheduler()
+        20.times {
+            finished.clear()
+            scheduler.runInParallel("test", plugins, 4, { GrailsPlugin plugin ->
+                before[plugin.name].each { assert finished[it], "$plugin.name ran before $it" }
+                Thread.sleep(2)
+                finished[plugin.name] = true
+            } as PluginPhaseScheduler.PluginCallback)
+            assertEquals 6, finished.size()
+        }
+
+        assertEquals(["core", "one", "two", "three", "four", "five"] as Set, scheduler.getPluginTimings("test").keySet())
+        assertTrue scheduler.phaseTimings.containsKey("test")
+    }
+
+    void testCyclesRunInListOrder() {
+        def plugins = [plugin("one", [loadAfter: ["two"]]), plugin("two", [loadAfter: ["one"]]), plugin("three")]
+        def order = []
+
+        new PluginPhaseScheduler().runInParallel("test", plugins, 4, { order << it.name } as PluginPhaseScheduler.PluginCallback)
+
+        assertEquals(["one", "two", "three"], order)
+    }
+
+    void testFailuresAreRethrown() {
+        def plugins = [plugin("one"), plugin("two", [dependsOn: ["one"]])]
+        def ran = []
+
+        def message = shouldFail(IllegalStateException) {
+            new PluginPhaseScheduler().runInParallel("test", plugins, 2, { GrailsPlugin plugin ->
+                ran << plugin.name
+                throw new IllegalStateException("failed $plugin.name")
+            } as PluginPhaseScheduler.PluginCallback)
+        }
+
+        assertEquals "failed one", message
+        assertEquals(["one"], ran)
+    }
+
+    void testPoolSizeIsConfigurable() {
+        def application = new DefaultGrailsApplication()
+        def manager = new DefaultGrailsPluginManager([] as Class[], application)
+        assertEquals 1, manager.parallelPhasePoolSize
+
+        application.config.grails.plugins.parallel.enabled = true
+        application.config.grails.plugins.parallel.poolSize = 3
+        application.configChanged()
+        assertEquals 3, manager.parallelPhasePoolSize
+    }
+
+    private GrailsPlugin plugin(String name, Map relations = [:]) {
+        [getName: { -> name },
+         getDependencyNames: { -> (relations.dependsOn ?: []) as String[] },
+         getLoadAfterNames: { -> (relations.loadAfter ?: []) as String[] },
+         getLoadBeforeNames: { -> (relations.loadBefore ?: []) as String[] },
+         toString: { -> name }] as GrailsPlugin
+    }
+}
@@ -128,6 +128,35 @@ class GrailsDomainClassValidatorTests extends AbstractGrailsMockTests {
 
     }
 
+    void testValidatesTransientsAndPicksUpRefreshedConstraints() {
+        def isbnClass = ga.getDomainClass("Isbn")
+        def isbn = isbnClass.newInstance()
+
+        def validator = new GrailsDomainClassValidator()
+        validator.domainClass = isbnClass
+        validator.messageSource = createMessageSource()
+        validator.grailsApplication = ga
+
+        isbn.code = "123-x"
+        isbn.label = ""
+        def errors = new BindException(isbn, isbn.class.name)
+        validator.validate(isbn, errors)
+        assert errors.hasFieldErrors("code")
+        assert errors.hasFieldErrors("label")
+
+        isbn.code = "123-4"
+        isbn.label = "Label"
+        errors = new BindException(isbn, isbn.class.name)
+        validator.validate(isbn, errors)
+        assert !errors.hasErrors()
+
+        isbnClass.refreshConstraints()
+        isbn.label = ""
+        errors = new BindException(isbn, isbn.class.name)
+        validator.validate(isbn, errors)
+        assert errors.hasFieldErrors("label")
+    }
+
     protected void onSetUp() {
          gcl.parseClass('''
 class Book {
@@ -172,6 +201,17 @@ class Publisher {
     static mapping = {
         authors cascade: 'save-update'
     }
+}
+class Isbn {
+    Long id
+    Long version
+    String code
+    String label
+    static transients = ['label']
+    static constraints = {
+        code(matches: /\\d+-\\d/)
+        label(blank: false)
+    }
 }
         ''')
     }
@@ -0,0 +1,61 @@
+package org.codehaus.groovy.grails.web.json
+
+/**
+ * Tests that {@link JSONStreamTokener} parses like {@link JSONTokener}.
+ */
+class JSONStreamTokenerTests extends GroovyTestCase {
+
+    def source = '''{
+    "name": "Grails", 'quoted': 'single', "escaped": "a\\"b\\\\c\\u0041\\n",
+    "int": 42, "negative": -7, "zero": 0, "octal": 017, "hex": 0x1F, "long": 12345678901,
+    "big": 1234567890123456789012, "double": 3.14, "exp": 1e3, "plus": +5, "spaced": 12 ,
+    "bool": true, "nothing": null, "date": new Date(1000), unquoted: some text,
+    /* comment */ "list": [1, , "two", {"nested": [true, false]}], # hash comment
+    "items": [{"id": 1, "title": "a"}, {"id": 2, "title": "b"}, {"id": 3, "title": "c"}]
+}'''
+
+    void testParsesLikeJSONTokener() {
+        def expected = new JSONTokener(source).nextValue()
+        def min = JSONStreamTokener.MIN_BUFFER_SIZE
+        [min, min + 1, min * 2 - 1, 8192].each { bufferSize ->
+            def actual = new JSONStreamTokener(new StringReader(source), bufferSize).nextValue()
+            assertEquals "buffer size $bufferSize", expected.toString(), actual.toString()
+            assertEquals expected.keySet(), actual.keySet()
+            expected.each { k, v ->
+                if (v instanceof Number) {
+                    assertEquals "$k with buffer size $bufferSize", v.getClass(), actual[k].getClass()
+                }
+            }
+        }
+    }
+
+    void testParsesReaderReturningOneCharacterAtATime() {
+        def expected = new JSONTokener(source).nextValue()
+        def reader = new FilterReader(new StringReader(source)) {
+            int read(char[] cbuf, int off, int len) {
+                super.read(cbuf, off, Math.min(len, 1))
+            }
+        }
+        def actual = new JSONStreamTokener(reader, JSONStreamTokener.MIN_BUFFER_SIZE).nextValue()
+        assertEquals expected.toString(), actual.toString()
+    }
+
+    void testSmallerBuffersAreEnlargedToTheMinimum() {
+        def tokener = new JSONStreamTokener(new StringReader(source), 3)
+        assertEquals JSONStreamTokener.MIN_BUFFER_SIZE, tokener.@buffer.length
+    }
+
+    void testRepeatedKeysAreShared() {
+        def items = new JSONStreamTokener(new StringReader(source)).nextValue().items
+        def keys = items*.keySet()*.find { it == 'title' }
+        assertSame keys[0], keys[1]
+        assertSame keys[1], keys[2]
+    }
+
+    void testSyntaxErrorReportsPosition() {
+        def message = shouldFail(JSONException) {
+            new JSONStreamTokener(new StringReader('{"a": 1 "b": 2}')).nextValue()
+        }
+        assertTrue message, message.contains("at character 9")
+    }
+}
@@ -502,6 +502,80 @@ public class StreamCharBufferTests extends TestCase {
         }
     }
 
+    public void testPooledChunks() throws IOException {
+        StreamCharBufferChunkPool.setEnabled(true);
+        StreamCharBufferChunkPool pool = StreamCharBufferChunkPool.get();
+        pool.clear();
+        try {
+            StreamCharBuffer charBuffer = createTestInstance();
+            assertEquals(0, pool.getPooledChars());
+            String expected = new String(testbuffer);
+            assertEquals(expected, charBuffer.toString());
+            int pooledChars = pool.getPooledChars();
+            assertTrue(pooledChars > 0);
+
+            // recycled chunks are reused and don't corrupt the content of other buffers
+            StreamCharBuffer charBuffer2 = createTestInstance();
+            assertTrue(pool.getPooledChars() < pooledChars);
+            assertEquals(expected, charBuffer.toString());
+            assertEquals(expected, charBuffer2.toString());
+
+            // the chars returned by toCharArray are never recycled
+            StreamCharBuffer charBuffer3 = new StreamCharBuffer(100);
+            charBuffer3.getWriter().write("ABCDE");
+            char[] chars = charBuffer3.toCharArray();
+            assertSame(chars, charBuffer3.toCharArray());
+            charBuffer3.reset();
+            Arrays.fill(pool.acquire(5), 'X');
+            assertEquals("ABCDE", new String(chars));
+
+            // connected buffers recycle the chunks that have been flushed
+            StringWriter target = new StringWriter();
+            StreamCharBuffer connected = new StreamCharBuffer(512, 0, 512);
+            connected.connectTo(target, true);
+            copyAllFromTestBuffer(connected.getWriter(), 27);
+            connected.getWriter().flush();
+            assertEquals(expected, target.toString());
+        }
+        finally {
+            pool.clear();
+            StreamCharBufferChunkPool.setEnabled(false);
+        }
+    }
+
+    public void testPoolIsBoundedAcrossThreads() throws Exception {
+        final StreamCharBufferChunkPool pool = StreamCharBufferChunkPool.get();
+        int maxPooledChars = StreamCharBufferChunkPool.getMaxPooledChars();
+        pool.clear();
+        StreamCharBufferChunkPool.setMaxPooledChars(4096);
+        try {
+            Thread[] threads = new Thread[4];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread() {
+                    @Override
+                    public void run() {
+                        for (int j = 0; j < 64; j++) {
+                            pool.release(new char[128]);
+                        }
+                    }
+                };
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(4096, pool.getPooledChars());
+
+            // chunks released by other threads are reused by this one
+            assertEquals(128, pool.acquire(100).length);
+            assertEquals(4096 - 128, pool.getPooledChars());
+        }
+        finally {
+            pool.clear();
+            StreamCharBufferChunkPool.setMaxPooledChars(maxPooledChars);
+        }
+    }
+
     public void testHtmlEncode() throws IOException {
         StreamCharBuffer charBuffer = new StreamCharBuffer();
         Writer writer=charBuffer.getWriter();
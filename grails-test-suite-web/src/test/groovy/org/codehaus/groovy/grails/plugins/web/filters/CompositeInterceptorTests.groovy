@@ -3,6 +3,7 @@ package org.codehaus.groovy.grails.plugins.web.filters
 import javax.servlet.http.HttpServletRequest
 import javax.servlet.http.HttpServletResponse
 
+import org.codehaus.groovy.grails.web.servlet.GrailsApplicationAttributes
 import org.springframework.mock.web.MockHttpServletRequest
 import org.springframework.mock.web.MockHttpServletResponse
 import org.springframework.web.servlet.HandlerInterceptor
@@ -56,4 +57,90 @@ class CompositeInterceptorTests extends GroovyTestCase {
         assertEquals 'foo', t1
         assertEquals 'bar', t2
     }
+
+    void testApplicableFiltersAreResolvedOncePerRequestTarget() {
+        def invoked = []
+        def adapters = ["book", "author"].collect { controller ->
+            def filterConfig = new Expando(scope: new Expando(controller: controller),
+                                           before: { invoked << controller; true })
+            def adapter = new CountingFilterToHandlerAdapter(filterConfig: filterConfig)
+            adapter.afterPropertiesSet()
+            adapter
+        }
+
+        def ci = new CompositeInterceptor()
+        ci.handlers = adapters
+
+        3.times {
+            def request = new MockHttpServletRequest("GET", "/book/list")
+            request.setAttribute(GrailsApplicationAttributes.CONTROLLER_NAME_ATTRIBUTE, "book")
+            request.setAttribute(GrailsApplicationAttributes.ACTION_NAME_ATTRIBUTE, "list")
+            assertTrue ci.preHandle(request, new MockHttpServletResponse(), "boo")
+        }
+
+        assertEquals(["book", "book", "book"], invoked)
+        assertEquals([1, 0], adapters*.acceptCount)
+    }
+
+    void testUriIsOnlyPartOfTheKeyForUriScopedFilters() {
+        def adapter = countingAdapter(controller: "book", action: "show")
+        def ci = new CompositeInterceptor()
+        ci.handlers = [adapter]
+
+        (1..3).each { assertEquals 1, ci.getApplicableHandlers(request("/book/show/$it", "book", "show"), "book").size() }
+        assertEquals 1, adapter.acceptCount
+
+        def uriAdapter = countingAdapter(uri: "/book/**")
+        ci.handlers = [adapter, uriAdapter]
+        (1..3).each { assertEquals 2, ci.getApplicableHandlers(request("/book/show/$it", "book", "show"), "book").size() }
+        assertEquals 3, uriAdapter.acceptCount
+    }
+
+    void testChainsKeepTheRegistrationOrder() {
+        def adapters = [countingAdapter(controller: "book"), countingAdapter(controller: "*"),
+                        countingAdapter(controller: "author"), countingAdapter(controller: "book", action: "list"),
+                        countingAdapter(controller: "b.*", regex: true)]
+        def ci = new CompositeInterceptor()
+        ci.handlers = adapters
+
+        assertEquals([adapters[0], adapters[1], adapters[3], adapters[4]],
+            ci.getApplicableHandlers(request("/book/list", "book", "list"), "book"))
+        assertEquals([adapters[1], adapters[2]], ci.getApplicableHandlers(request("/author/list", "author", "list"), "author"))
+        assertEquals([1, 2, 1, 1, 2], adapters*.acceptCount)
+    }
+
+    void testClearingCachedChainsMatchesAgain() {
+        def adapter = countingAdapter(controller: "book")
+        def ci = new CompositeInterceptor()
+        ci.handlers = [adapter]
+
+        ci.getApplicableHandlers(request("/book", "book", null), "book")
+        ci.getApplicableHandlers(request("/book", "book", null), "book")
+        ci.clearCachedChains()
+        ci.getApplicableHandlers(request("/book", "book", null), "book")
+
+        assertEquals 2, adapter.acceptCount
+    }
+
+    private CountingFilterToHandlerAdapter countingAdapter(Map scope) {
+        def adapter = new CountingFilterToHandlerAdapter(filterConfig: new Expando(scope: new Expando(scope)))
+        adapter.afterPropertiesSet()
+        adapter
+    }
+
+    private MockHttpServletRequest request(String uri, String controller, String action) {
+        def request = new MockHttpServletRequest("GET", uri)
+        request.setAttribute(GrailsApplicationAttributes.CONTROLLER_NAME_ATTRIBUTE, controller)
+        if (action) request.setAttribute(GrailsApplicationAttributes.ACTION_NAME_ATTRIBUTE, action)
+        request
+    }
+}
+
+class CountingFilterToHandlerAdapter extends FilterToHandlerAdapter {
+    int acceptCount
+
+    boolean accept(String controllerName, String actionName, String uri) {
+        acceptCount++
+        super.accept(controllerName, actionName, uri)
+    }
 }
@@ -362,6 +362,65 @@ public class GrailsDataBinderTests extends TestCase {
         assertEquals(103.48674D, testBean.getAngle().doubleValue(), 0.1D);
     }
 
+    public void testLocaleEditorsAreNotSharedBetweenBinders() throws Exception {
+        MockHttpServletRequest usRequest = new MockHttpServletRequest();
+        usRequest.addPreferredLocale(Locale.US);
+        usRequest.addParameter("credit", "1,203.45");
+        MockHttpServletRequest germanRequest = new MockHttpServletRequest();
+        germanRequest.addPreferredLocale(Locale.GERMANY);
+        germanRequest.addParameter("credit", "1.203,45");
+
+        GrailsDataBinder usBinder = GrailsDataBinder.createBinder(new TestBean(), "testBean", usRequest);
+        GrailsDataBinder germanBinder = GrailsDataBinder.createBinder(new TestBean(), "testBean", germanRequest);
+        GrailsDataBinder usBinder2 = GrailsDataBinder.createBinder(new TestBean(), "testBean", usRequest);
+
+        assertNotSame(usBinder.findCustomEditor(BigDecimal.class, null), usBinder2.findCustomEditor(BigDecimal.class, null));
+        assertNotSame(usBinder.findCustomEditor(Date.class, null), usBinder2.findCustomEditor(Date.class, null));
+
+        for (GrailsDataBinder binder : Arrays.asList(usBinder, germanBinder, usBinder2)) {
+            binder.bind(binder == germanBinder ? germanRequest : usRequest);
+            assertEquals(new BigDecimal("1203.45"), ((TestBean)binder.getTarget()).getCredit());
+        }
+    }
+
+    public void testNestedPropertyTypesAreResolvedFromTheRuntimeClass() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("holder.value", "struct");
+        request.addParameter("holder.value_year", "2005");
+        request.addParameter("holder.value_month", "6");
+        request.addParameter("holder.value_day", "12");
+
+        ValueHolderOwner owner = new ValueHolderOwner();
+        owner.setHolder(new DateHolder());
+        GrailsDataBinder binder = GrailsDataBinder.createBinder(owner, "owner", request);
+        binder.bind(request);
+
+        // the declared type of holder.value is Object, the runtime type is Date
+        Calendar c = new GregorianCalendar();
+        c.setTime(((DateHolder)owner.getHolder()).getValue());
+        assertEquals(2005, c.get(Calendar.YEAR));
+        assertEquals(Calendar.JUNE, c.get(Calendar.MONTH));
+        assertEquals(12, c.get(Calendar.DAY_OF_MONTH));
+    }
+
+    public static class ValueHolder {
+        private Object value;
+        public Object getValue() { return value; }
+        public void setValue(Object value) { this.value = value; }
+    }
+
+    public static class DateHolder extends ValueHolder {
+        @Override
+        public Date getValue() { return (Date)super.getValue(); }
+        public void setValue(Date value) { super.setValue(value); }
+    }
+
+    public static class ValueHolderOwner {
+        private ValueHolder holder;
+        public ValueHolder getHolder() { return holder; }
+        public void setHolder(ValueHolder holder) { this.holder = holder; }
+    }
+
     // Test an embedded type
     public static class Book {
         private String name;
@@ -0,0 +1,33 @@
+package org.codehaus.groovy.grails.web.converters
+
+class ChunkedOutputStreamWriterTests extends GroovyTestCase {
+
+    void testWritesInChunks() {
+        def flushes = 0
+        def bytes = new ByteArrayOutputStream()
+        def out = new FilterOutputStream(bytes) {
+            void flush() {
+                flushes++
+                super.flush()
+            }
+        }
+        def writer = new ChunkedOutputStreamWriter(out, "UTF-8", 4)
+        writer.write("abcdefghij")
+
+        assertEquals 2, flushes
+        assertEquals "abcdefgh", bytes.toString("UTF-8")
+
+        writer.close()
+        assertEquals "abcdefghij", bytes.toString("UTF-8")
+    }
+
+    void testSurrogatePairSplitAcrossChunks() {
+        def text = "abc𝄞xyzé"
+        def bytes = new ByteArrayOutputStream()
+        def writer = new ChunkedOutputStreamWriter(bytes, "UTF-8", 4)
+        text.each { writer.write(it) }
+        writer.close()
+
+        assertEquals text, bytes.toString("UTF-8")
+    }
+}
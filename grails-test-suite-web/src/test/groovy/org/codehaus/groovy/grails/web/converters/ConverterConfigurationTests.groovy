@@ -3,7 +3,13 @@ package org.codehaus.groovy.grails.web.converters
 import grails.converters.JSON
 import grails.converters.XML
 
+import org.codehaus.groovy.grails.web.converters.configuration.ChainedConverterConfiguration
+import org.codehaus.groovy.grails.web.converters.configuration.ConvertersConfigurationHolder
+import org.codehaus.groovy.grails.web.converters.configuration.DefaultConverterConfiguration
+import org.codehaus.groovy.grails.web.converters.marshaller.ClassBasedMarshaller
 import org.codehaus.groovy.grails.web.converters.marshaller.ClosureOjectMarshaller
+import org.codehaus.groovy.grails.web.converters.marshaller.ObjectMarshaller
+import org.codehaus.groovy.grails.web.converters.marshaller.ProxyUnwrappingMarshaller
 import org.codehaus.groovy.grails.web.converters.marshaller.json.DomainClassMarshaller as JsonClassMarshaller
 import org.codehaus.groovy.grails.web.converters.marshaller.xml.DomainClassMarshaller as XmlClassMarshaller
 import org.codehaus.groovy.grails.web.servlet.mvc.AbstractGrailsControllerTests
@@ -66,6 +72,57 @@ class ConverterConfigurationTests extends AbstractGrailsControllerTests {
         assertEquals(([d: new Date()] as JSON).toString(), """{"d":"SUCCESS"}""")
     }
 
+    void testRegistrationInvalidatesResolvedMarshallers() {
+        def cfg = new DefaultConverterConfiguration<JSON>()
+        def om1 = new ClosureOjectMarshaller(Date, { "FIRST" })
+        cfg.registerObjectMarshaller(om1)
+        assertSame om1, cfg.getMarshaller(new Date())
+        assertSame om1, cfg.getMarshaller(new Date())
+
+        def om2 = new ClosureOjectMarshaller(Date, { "SECOND" })
+        cfg.registerObjectMarshaller(om2, 10)
+        assertSame om2, cfg.getMarshaller(new Date())
+    }
+
+    void testInstanceBasedMarshallersAreConsultedForEveryObject() {
+        def odd = [supports: { it instanceof Integer && it % 2 }, marshalObject: { o, c -> }] as ObjectMarshaller
+        def fallback = new ClosureOjectMarshaller(Integer, { "INT" })
+        def cfg = new ChainedConverterConfiguration<JSON>(new DefaultConverterConfiguration<JSON>([odd, fallback]))
+
+        assertSame fallback, cfg.getMarshaller(2)
+        assertSame odd, cfg.getMarshaller(3)
+        assertSame fallback, cfg.getMarshaller(4)
+    }
+
+    void testClearingResolvedMarshallers() {
+        def reloadable = new ReloadableClassMarshaller(supportedClass: Integer)
+        def fallback = new ClosureOjectMarshaller(Number, { "NUMBER" })
+        def cfg = new DefaultConverterConfiguration<JSON>([reloadable, fallback])
+        def chained = new ChainedConverterConfiguration<JSON>(cfg)
+        ConvertersConfigurationHolder.setDefaultConfiguration(JSON, cfg)
+        ConvertersConfigurationHolder.setNamedConverterConfiguration(JSON, "chained", chained)
+
+        assertSame reloadable, cfg.getMarshaller(1)
+        assertSame reloadable, chained.getMarshaller(1)
+
+        reloadable.supportedClass = String
+        assertSame reloadable, cfg.getMarshaller(1)
+
+        ConvertersConfigurationHolder.clearResolvedMarshallers()
+        assertSame fallback, cfg.getMarshaller(1)
+        assertSame fallback, chained.getMarshaller(1)
+    }
+
+    void testProxyUnwrappingMarshallerOnlyLooksAtTheClass() {
+        def proxyClass = gcl.parseClass("class BookProxy { def hibernateLazyInitializer }")
+        def marshaller = new ProxyUnwrappingMarshaller<JSON>()
+
+        assertTrue marshaller instanceof ClassBasedMarshaller
+        assertTrue marshaller.supports(proxyClass.newInstance())
+        assertFalse marshaller.supports([hibernateLazyInitializer: "not a proxy"])
+        assertFalse marshaller.supports(null)
+    }
+
     void testNamedConfigurations() {
 
         JSON.registerObjectMarshaller(Date) { "DEFAULT" }
@@ -158,3 +215,11 @@ def prettyJSON = """{
         """
     }
 }
+
+class ReloadableClassMarshaller implements ObjectMarshaller<JSON>, ClassBasedMarshaller {
+    Class supportedClass
+
+    boolean supports(object) { supportedClass.isInstance(object) }
+
+    void marshalObject(object, JSON converter) {}
+}
@@ -97,6 +97,26 @@ class JSONConverterTests extends AbstractGrailsControllerTests {
         }
     }
 
+    void testStreamingRenderOfIterator() {
+        def json = new JSON([1, "two", null, [a: "\u00e9"]].iterator())
+        json.streaming = true
+        json.render(response)
+
+        assertTrue response.contentType.startsWith("application/json")
+        assertEquals '[1,"two",null,{"a":"\u00e9"}]', response.contentAsString
+    }
+
+    void testCloseableIteratorIsClosedWhenRenderingFails() {
+        def closed = false
+        def elements = [hasNext: { true }, next: { throw new IllegalStateException("broken") }] as Iterator
+        def iterator = new CloseableTestIterator(elements: elements, onClose: { closed = true })
+
+        shouldFail {
+            new JSON(iterator).toString()
+        }
+        assertTrue closed
+    }
+
     void onSetUp() {
         GroovySystem.metaClassRegistry.removeMetaClass Errors
         GroovySystem.metaClassRegistry.removeMetaClass BeanPropertyBindingResult
@@ -145,3 +165,16 @@ class Book {
    String author
 
 }
+
+class CloseableTestIterator implements Iterator, Closeable {
+    Iterator elements
+    Closure onClose
+
+    boolean hasNext() { elements.hasNext() }
+
+    Object next() { elements.next() }
+
+    void remove() { throw new UnsupportedOperationException() }
+
+    void close() { onClose() }
+}
@@ -0,0 +1,35 @@
+package org.codehaus.groovy.grails.web.converters.marshaller
+
+import org.springframework.beans.NotReadablePropertyException
+
+class ObjectPropertyAccessorTests extends GroovyTestCase {
+
+    void testReadProperties() {
+        def accessor = ObjectPropertyAccessor.forClass(AccessorTestBean)
+        def bean = new AccessorTestBean(name: "Bob", age: 42, nickname: "B")
+
+        assertSame accessor, ObjectPropertyAccessor.forClass(AccessorTestBean)
+        assertEquals "Bob", accessor.getPropertyValue(bean, "name")
+        assertEquals 42, accessor.getPropertyValue(bean, "age")
+        shouldFail(NotReadablePropertyException) {
+            accessor.getPropertyValue(bean, "missing")
+        }
+    }
+
+    void testBeanPropertiesExcludeMetaClassAndIncludePublicFields() {
+        def accessor = ObjectPropertyAccessor.forClass(AccessorTestBean)
+        def bean = new AccessorTestBean(name: "Bob", age: 42, nickname: "B")
+
+        def values = accessor.beanProperties.collectEntries { [it.name, it.getValue(bean)] }
+        assertFalse values.containsKey("metaClass")
+        assertEquals "Bob", values.name
+        assertEquals 42, values.age
+        assertEquals "B", values.nickname
+    }
+}
+
+class AccessorTestBean {
+    String name
+    Integer age
+    public String nickname
+}
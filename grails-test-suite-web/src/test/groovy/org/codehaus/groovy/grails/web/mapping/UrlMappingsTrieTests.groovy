@@ -0,0 +1,74 @@
+package org.codehaus.groovy.grails.web.mapping
+
+import org.springframework.core.io.ByteArrayResource
+
+/**
+ * Tests that matching with a {@link UrlMappingsTrie} yields the same results as matching with regular expressions.
+ */
+class UrlMappingsTrieTests extends AbstractGrailsMappingTests {
+
+    def mappingScript = '''
+mappings {
+    "/$controller/$action?/$id?" {
+    }
+    "/blog/$entry/$year?/$month?/$day?" {
+        controller = "blog"
+        action = "show"
+    }
+    "/product/$id" {
+        controller = "product"
+        action = "show"
+        constraints {
+            id(matches:/\\d+/)
+        }
+    }
+    "/product/$name" {
+        controller = "product"
+        action = "byName"
+    }
+    "/files/**" {
+        controller = "files"
+    }
+    "/images/$name.$ext" {
+        controller = "image"
+    }
+    "/" {
+        controller = "home"
+        action = "index"
+    }
+    "500"(view:"/error")
+}
+'''
+
+    void testTrieMatchesLikeRegex() {
+        def mappings = evaluator.evaluateMappings(new ByteArrayResource(mappingScript.bytes))
+        def regexHolder = new DefaultUrlMappingsHolder(new ArrayList(mappings))
+        def trieHolder = new DefaultUrlMappingsHolder(new ArrayList(mappings), null, true)
+        trieHolder.trieMatchingEnabled = true
+        trieHolder.initialize()
+
+        def uris = ["/", "/blog/foo", "/blog/foo/2007/3/", "/product/10", "/product/ten", "/files/a/b/c.txt",
+                    "/files/", "/images/logo.png", "/book", "/book/list/", "/book/show/5", "/a/b/c/d", "//", "/blog//x"]
+        for (uri in uris) {
+            def expected = regexHolder.match(uri)
+            def actual = trieHolder.match(uri)
+            assertEquals "Mismatch for [$uri]", expected?.controllerName, actual?.controllerName
+            assertEquals "Mismatch for [$uri]", expected?.actionName, actual?.actionName
+            assertEquals "Mismatch for [$uri]", expected?.parameters, actual?.parameters
+            assertEquals "Mismatch for [$uri]", regexHolder.matchAll(uri).size(), trieHolder.matchAll(uri).size()
+        }
+    }
+
+    void testTypedNodesFilterCandidates() {
+        def mappings = evaluator.evaluateMappings(new ByteArrayResource(mappingScript.bytes))
+        def holder = new DefaultUrlMappingsHolder(mappings)
+        def trie = new UrlMappingsTrie(holder.urlMappings)
+
+        def candidates = trie.findCandidates("/product/ten")*.toString()
+        assertEquals 1, candidates.count("/product/(*)")
+        assertEquals 2, trie.findCandidates("/product/10")*.toString().count("/product/(*)")
+        assertTrue candidates.contains("/(*)/(*)?/(*)?")
+        assertFalse candidates.contains("/blog/(*)/(*)?/(*)?/(*)?")
+        assertTrue trie.findCandidates("/files/a/b/c")*.toString().contains("/files/**")
+    }
+}
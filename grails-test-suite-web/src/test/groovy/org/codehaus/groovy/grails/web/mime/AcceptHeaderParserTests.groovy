@@ -31,6 +31,7 @@ grails.mime.types = [ xml: ['text/xml', 'application/xml'],
         config = null
         ConfigurationHolder.setConfig null
         MimeType.reset()
+        AcceptHeaderResolver.clearCache()
     }
 
     void testXmlContentTypeWithCharset() {
@@ -101,4 +102,16 @@ grails.mime.types = [ xml: ['text/xml', 'application/xml'],
 
         assertEquals 1, mimes.size()
     }
+
+    void testResultsAreCachedPerConfiguration() {
+        def parser = new DefaultAcceptHeaderParser(new DefaultGrailsApplication(config:config))
+        def header = "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"
+
+        assertSame parser.parse(header), parser.parse(header)
+
+        def otherConfig = new ConfigSlurper().parse("grails.mime.types = [ xhtml: 'application/xhtml+xml' ]")
+        def mimes = new DefaultAcceptHeaderParser(new DefaultGrailsApplication(config:otherConfig)).parse(header)
+
+        assertEquals(['xhtml'], mimes.extension)
+    }
 }
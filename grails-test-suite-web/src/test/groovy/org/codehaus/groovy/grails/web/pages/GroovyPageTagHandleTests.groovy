@@ -0,0 +1,76 @@
+package org.codehaus.groovy.grails.web.pages
+
+import org.codehaus.groovy.grails.commons.TagLibArtefactHandler
+import org.codehaus.groovy.grails.web.taglib.AbstractGrailsTagTests
+import org.codehaus.groovy.grails.web.taglib.exceptions.GrailsTagException
+
+/**
+ * Tests pages compiled with tag handles enabled.
+ */
+class GroovyPageTagHandleTests extends AbstractGrailsTagTests {
+
+    protected void onInit() {
+        gcl.parseClass('''
+class HandleTagLib {
+    static namespace = "handle"
+    static returnObjectForTags = ['sum']
+
+    Closure wrap = { attrs, body ->
+        out << "[${attrs.name}:" << body() << "]"
+    }
+
+    Closure sum = { attrs ->
+        attrs.a + attrs.b
+    }
+
+    Closure fail = { attrs ->
+        throw new IllegalStateException("failed")
+    }
+}
+''')
+    }
+
+    void testParserEmitsTagCallSites() {
+        def parser = new GroovyPageParser("handles", "handles", "handles",
+            new ByteArrayInputStream('<handle:wrap name="a"><handle:sum a="${1}" b="${2}"/></handle:wrap><tmpl:foo/>'.bytes))
+        parser.enableTagHandles = true
+        def source = parser.parse().getText("UTF-8")
+
+        assertTrue source, source.contains("invokeTag(0,'sum','handle',")
+        assertTrue source, source.contains("invokeTag(1,'wrap','handle',")
+        assertTrue source, source.contains("invokeTag('foo','tmpl',")
+        assertTrue source, source.contains(GroovyPageTagHandle.name + "[2]")
+    }
+
+    void testRendersWithTagHandles() {
+        withConfig("grails.views.gsp.tagHandles=true") {
+            def template = '<g:each in="${1..3}"><handle:wrap name="${it}"><handle:sum a="${it}" b="${10}"/></handle:wrap></g:each><unknown:tag a="b"/>'
+            assertOutputEquals '[1:11][2:12][3:13]<unknown:tag a="b"></unknown:tag>', template
+        }
+    }
+
+    void testHandlesAreInvalidatedWhenTagLibIsRegistered() {
+        TagLibraryLookup lookup = appCtx.getBean("gspTagLibraryLookup")
+        def handle = lookup.lookupTagHandle("handle", "sum")
+        assertTrue handle.returnsObject
+        assertEquals 1, handle.parameterCount
+        assertTrue handle.isValidFor(lookup)
+        assertFalse handle.isValidFor(new TagLibraryLookup())
+
+        lookup.registerTagLib(ga.getArtefact(TagLibArtefactHandler.TYPE, "HandleTagLib"))
+        assertFalse handle.isValidFor(lookup)
+        assertTrue lookup.lookupTagHandle("handle", "sum").isValidFor(lookup)
+
+        assertNull lookup.lookupTagHandle("handle", "missing")
+        assertNull lookup.lookupTagHandle("unknown", "sum")
+    }
+
+    void testTagErrorsReportTheTag() {
+        withConfig("grails.views.gsp.tagHandles=true") {
+            def message = shouldFail(GrailsTagException) {
+                applyTemplate('<handle:fail />')
+            }
+            assertTrue message, message.contains("<handle:fail>")
+        }
+    }
+}
@@ -566,6 +566,71 @@ never
         assertEquals "/WEB-INF/grails-app/views/mydir/myview.gsp", gpte.getUriWithinGrailsViews("/mydir/myview")
     }
 
+    void testWarmUpViews() {
+        def rl = new MockStringResourceLoader()
+        rl.registerMockResource("/WEB-INF/grails-app/views/ok.gsp", "<%='ok'%>")
+        rl.registerMockResource("/WEB-INF/grails-app/views/broken.gsp", "<%='broken'")
+
+        def gpte = new GroovyPagesTemplateEngine(new MockServletContext(rl))
+        gpte.afterPropertiesSet()
+        gpte.groovyPageLocator.addResourceLoader(rl)
+
+        def warmer = new GroovyPagesWarmer(gpte)
+        warmer.threads = 2
+        warmer.warmUp(["/ok.gsp", "/broken.gsp"])
+
+        assertEquals 2, warmer.viewCount
+        assertEquals 2, warmer.completedCount
+        assertEquals(["/ok.gsp"], warmer.viewTimings.keySet() as List)
+        assertEquals(["/broken.gsp"], warmer.failures.keySet() as List)
+    }
+
+    void testConcurrentCompilation() {
+        def rl = new MockStringResourceLoader()
+        def uris = (1..40).collect { "/view${it}.gsp" }
+        uris.eachWithIndex { uri, i -> rl.registerMockResource("/WEB-INF/grails-app/views${uri}", "<%='view${i}'%>") }
+
+        def gpte = new GroovyPagesTemplateEngine(new MockServletContext(rl))
+        gpte.afterPropertiesSet()
+        gpte.groovyPageLocator.addResourceLoader(rl)
+
+        def warmer = new GroovyPagesWarmer(gpte)
+        warmer.threads = 8
+        warmer.warmUp(uris)
+
+        assertEquals 40, warmer.completedCount
+        assertEquals 0, warmer.failedViews.length
+        assertEquals 40, uris.collect { gpte.createTemplateForUri(it).metaInfo.pageClass }.unique().size()
+
+        // generated template names must stay unique when pages without a name are compiled concurrently
+        def pageClasses = Collections.synchronizedList([])
+        def threads = (1..8).collect { n ->
+            Thread.start {
+                5.times { pageClasses << gpte.createTemplate(new ByteArrayInputStream("<%='${n}'%>".bytes)).metaInfo.pageClass.name }
+            }
+        }
+        threads*.join()
+        assertEquals 40, pageClasses.unique().size()
+    }
+
+    void testWarmUpStopsWaitingAfterTimeout() {
+        def gpte = new GroovyPagesTemplateEngine(new MockServletContext()) {
+            groovy.text.Template createTemplateForUri(String uri) {
+                new java.util.concurrent.CountDownLatch(1).await()
+                null
+            }
+        }
+
+        def warmer = new GroovyPagesWarmer(gpte)
+        warmer.threads = 1
+        warmer.timeout = 1
+        long start = System.currentTimeMillis()
+        warmer.warmUp(["/blocked.gsp", "/queued.gsp"])
+
+        assertTrue System.currentTimeMillis() - start < 10000
+        assertTrue warmer.viewTimings.isEmpty()
+    }
+
     void tearDown() {
         RequestContextHolder.setRequestAttributes(null)
     }
@@ -21,6 +21,7 @@ import org.codehaus.groovy.grails.commons.UrlMappingsArtefactHandler
 import org.codehaus.groovy.grails.support.MockStringResourceLoader
 import org.codehaus.groovy.grails.web.pages.FastStringWriter
 import org.codehaus.groovy.grails.web.pages.GroovyPageBinding
+import org.codehaus.groovy.grails.web.pages.GroovyPageMetaInfo
 import org.codehaus.groovy.grails.web.servlet.GrailsApplicationAttributes
 import org.codehaus.groovy.grails.web.sitemesh.FactoryHolder
 import org.codehaus.groovy.grails.web.sitemesh.GSPSitemeshPage
@@ -190,6 +191,31 @@ class RenderTagLibTests extends AbstractGrailsTagTests {
         }
     }
 
+    void testNonExistantTemplateIsCachedNegatively() {
+        def renderer = appCtx.groovyPagesTemplateRenderer
+        renderer.clearCache()
+
+        2.times {
+            shouldFail(GrailsTagException) {
+                applyTemplate('<g:render template="/missing/thing" />')
+            }
+        }
+        assertEquals 1, renderer.@templateCache.size()
+        assertNull renderer.@templateCache.values().iterator().next().template
+
+        renderer.clearCache()
+        renderer.negativeCacheTimeout = 0
+        try {
+            shouldFail(GrailsTagException) {
+                applyTemplate('<g:render template="/missing/thing" />')
+            }
+            assertEquals 0, renderer.@templateCache.size()
+        }
+        finally {
+            renderer.negativeCacheTimeout = GroovyPageMetaInfo.LASTMODIFIED_CHECK_INTERVAL
+        }
+    }
+
     void testRenderTagWithContextPath() {
         def resourceLoader = new MockStringResourceLoader()
         resourceLoader.registerMockResource('/amazon/book/_book.gsp', 'content ${foo}: ${body()}')
@@ -41,12 +41,14 @@ import java.util.Collections;
 import java.util.Currency;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.ServletContext;
 import javax.servlet.ServletRequest;
@@ -88,6 +90,7 @@ import org.springframework.beans.propertyeditors.CustomDateEditor;
 import org.springframework.beans.propertyeditors.CustomNumberEditor;
 import org.springframework.beans.propertyeditors.LocaleEditor;
 import org.springframework.context.ApplicationContext;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.Validator;
 import org.springframework.web.bind.ServletRequestDataBinder;
@@ -99,6 +102,8 @@ import org.springframework.web.multipart.support.ByteArrayMultipartFileEditor;
 import org.springframework.web.multipart.support.StringMultipartFileEditor;
 import org.springframework.web.servlet.support.RequestContextUtils;
 
+import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+
 /**
  * A data binder that handles binding dates that are specified with a "struct"-like syntax in request parameters.
  * For example for a set of fields defined as:
@@ -140,6 +145,17 @@ public class GrailsDataBinder extends ServletRequestDataBinder {
     public static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss.S";
     private static final Object[] NO_HINTS = {};
 
+    private static final int MAX_CACHED_LOCALES = 64;
+
+    private static final Map<Class<?>, BindingPlan> BINDING_PLANS = new ConcurrentReferenceHashMap<Class<?>, BindingPlan>();
+
+    // the locale comes from the request, so the number of cached locales is bounded
+    private static final Map<Locale, LocaleFormats> LOCALE_FORMATS = new ConcurrentLinkedHashMap.Builder<Locale, LocaleFormats>()
+            .maximumWeightedCapacity(MAX_CACHED_LOCALES).build();
+
+    private static final DateFormat JSON_DATE_FORMAT_PROTOTYPE = new SimpleDateFormat(JSON_DATE_FORMAT);
+
+    private BindingPlan plan;
     private GrailsDomainClass domainClass;
     private GrailsApplication grailsApplication;
 
@@ -155,17 +171,34 @@ public class GrailsDataBinder extends ServletRequestDataBinder {
 
         setAutoGrowNestedPaths(false);
         bean = (BeanWrapper)((BeanPropertyBindingResult)super.getBindingResult()).getPropertyAccessor();
-
-        Object tmpTransients = GrailsClassUtils.getStaticPropertyValue(bean.getWrappedClass(), GrailsDomainClassProperty.TRANSIENT);
-        if (tmpTransients instanceof List) {
-            transients = (List)tmpTransients;
-        }
+        plan = getBindingPlan(bean.getWrappedClass());
+        transients = plan.transients;
 
         setDisallowedFields(GROOVY_DISALLOWED);
         setAllowedFields(ALL_OTHER_FIELDS_ALLOWED_BY_DEFAULT);
         setIgnoreInvalidFields(true);
     }
 
+    private static BindingPlan getBindingPlan(Class<?> clazz) {
+        BindingPlan classPlan = BINDING_PLANS.get(clazz);
+        if (classPlan == null) {
+            classPlan = new BindingPlan(clazz);
+            BINDING_PLANS.put(clazz, classPlan);
+        }
+        return classPlan;
+    }
+
+    private BindingPlan getBindingPlan(BeanWrapper wrapper) {
+        return wrapper == bean ? plan : getBindingPlan(wrapper.getWrappedClass());
+    }
+
+    /**
+     * Clears the cached binding metadata of classes, for example when classes are reloaded.
+     */
+    public static void clearBindingMetadataCache() {
+        BINDING_PLANS.clear();
+    }
+
     /**
      * Collects all PropertyEditorRegistrars in the application context and
      * calls them to register their custom editors
@@ -257,33 +290,53 @@ public class GrailsDataBinder extends ServletRequestDataBinder {
      * @param locale
      */
     public static void registerCustomEditors(GrailsWebRequest grailsWebRequest, PropertyEditorRegistry registry, Locale locale) {
-        // Formatters for the different number types.
-        NumberFormat floatFormat = NumberFormat.getInstance(locale);
-        NumberFormat integerFormat = NumberFormat.getIntegerInstance(locale);
-
-        DateFormat dateFormat = new SimpleDateFormat(DEFAULT_DATE_FORMAT, locale);
-
-        registry.registerCustomEditor(Date.class, new CustomDateEditor(dateFormat,true));
-        registry.registerCustomEditor(BigDecimal.class, new CustomNumberEditor(BigDecimal.class, floatFormat, true));
-        registry.registerCustomEditor(BigInteger.class, new CustomNumberEditor(BigInteger.class, floatFormat, true));
-        registry.registerCustomEditor(Double.class, new CustomNumberEditor(Double.class, floatFormat, true));
-        registry.registerCustomEditor(double.class, new CustomNumberEditor(Double.class, floatFormat, true));
-        registry.registerCustomEditor(Float.class, new CustomNumberEditor(Float.class, floatFormat, true));
-        registry.registerCustomEditor(float.class, new CustomNumberEditor(Float.class, floatFormat, true));
-        registry.registerCustomEditor(Long.class, new CustomNumberEditor(Long.class, integerFormat, true));
-        registry.registerCustomEditor(long.class, new CustomNumberEditor(Long.class, integerFormat, true));
-        registry.registerCustomEditor(Integer.class, new CustomNumberEditor(Integer.class, integerFormat, true));
-        registry.registerCustomEditor(int.class, new CustomNumberEditor(Integer.class, integerFormat, true));
-        registry.registerCustomEditor(Short.class, new CustomNumberEditor(Short.class, integerFormat, true));
-        registry.registerCustomEditor(short.class, new CustomNumberEditor(Short.class, integerFormat, true));
-        registry.registerCustomEditor(Date.class, new CompositeEditor(new StructuredDateEditor(dateFormat,true), new CustomDateEditor(new SimpleDateFormat(JSON_DATE_FORMAT), true)));
-        registry.registerCustomEditor(Calendar.class, new StructuredDateEditor(dateFormat,true));
-
+        for (Map.Entry<Class<?>, PropertyEditor> entry : getLocaleEditors(locale).entrySet()) {
+            registry.registerCustomEditor(entry.getKey(), entry.getValue());
+        }
 
         ServletContext servletContext = grailsWebRequest != null ? grailsWebRequest.getServletContext() : null;
         registerCustomEditors(servletContext, registry);
     }
 
+    /**
+     * Returns new number and date editors for the given locale. The formats they use are cloned from formats
+     * that are created once per locale, since creating them is expensive and they aren't thread-safe.
+     */
+    private static Map<Class<?>, PropertyEditor> getLocaleEditors(Locale locale) {
+        LocaleFormats formats = LOCALE_FORMATS.get(locale);
+        if (formats == null) {
+            formats = new LocaleFormats(locale);
+            LOCALE_FORMATS.put(locale, formats);
+        }
+
+        // Formatters for the different number types.
+        NumberFormat floatFormat = (NumberFormat)formats.floatFormat.clone();
+        NumberFormat integerFormat = (NumberFormat)formats.integerFormat.clone();
+
+        DateFormat dateFormat = (DateFormat)formats.dateFormat.clone();
+        DateFormat jsonDateFormat = (DateFormat)JSON_DATE_FORMAT_PROTOTYPE.clone();
+        // the clones keep the time zone of the prototypes, which may no longer be the default one
+        dateFormat.setTimeZone(TimeZone.getDefault());
+        jsonDateFormat.setTimeZone(TimeZone.getDefault());
+
+        Map<Class<?>, PropertyEditor> editors = new LinkedHashMap<Class<?>, PropertyEditor>();
+        editors.put(BigDecimal.class, new CustomNumberEditor(BigDecimal.class, floatFormat, true));
+        editors.put(BigInteger.class, new CustomNumberEditor(BigInteger.class, floatFormat, true));
+        editors.put(Double.class, new CustomNumberEditor(Double.class, floatFormat, true));
+        editors.put(double.class, new CustomNumberEditor(Double.class, floatFormat, true));
+        editors.put(Float.class, new CustomNumberEditor(Float.class, floatFormat, true));
+        editors.put(float.class, new CustomNumberEditor(Float.class, floatFormat, true));
+        editors.put(Long.class, new CustomNumberEditor(Long.class, integerFormat, true));
+        editors.put(long.class, new CustomNumberEditor(Long.class, integerFormat, true));
+        editors.put(Integer.class, new CustomNumberEditor(Integer.class, integerFormat, true));
+        editors.put(int.class, new CustomNumberEditor(Integer.class, integerFormat, true));
+        editors.put(Short.class, new CustomNumberEditor(Short.class, integerFormat, true));
+        editors.put(short.class, new CustomNumberEditor(Short.class, integerFormat, true));
+        editors.put(Date.class, new CompositeEditor(new StructuredDateEditor(dateFormat,true), new CustomDateEditor(jsonDateFormat, true)));
+        editors.put(Calendar.class, new StructuredDateEditor(dateFormat,true));
+        return editors;
+    }
+
     /**
      * Utility method for creating a GrailsDataBinder instance
      *
@@ -610,7 +663,7 @@ public class GrailsDataBinder extends ServletRequestDataBinder {
             propertyName = propertyName.substring(0, currentKeyStart);
         }
 
-        Class<?> type = wrapper.getPropertyType(propertyName);
+        Class<?> type = getPropertyType(wrapper, propertyName);
         Object val = wrapper.isReadableProperty(propertyName) ? wrapper.getPropertyValue(propertyName) : null;
 
         LOG.debug("Checking if auto-create is possible for property ["+propertyName+"] and type ["+type+"]");
@@ -714,8 +767,12 @@ public class GrailsDataBinder extends ServletRequestDataBinder {
     }
 
     private boolean isEmbedded(BeanWrapper wrapper, String propertyName) {
-        Object embedded = GrailsClassUtils.getStaticPropertyValue(wrapper.getWrappedClass(), GrailsDomainClassProperty.EMBEDDED);
-        return embedded instanceof List && ((List)embedded).contains(propertyName);
+        return getBindingPlan(wrapper).embedded.contains(propertyName);
+    }
+
+    private Class<?> getPropertyType(BeanWrapper wrapper, String propertyName) {
+        Class<?> type = getBindingPlan(wrapper).getPropertyType(propertyName);
+        return type != null ? type : wrapper.getPropertyType(propertyName);
     }
 
     private boolean shouldPropertyValueSkipAutoCreate(Object propertyValue) {
@@ -863,7 +920,7 @@ public class GrailsDataBinder extends ServletRequestDataBinder {
     }
 
     private Class<?> getPropertyTypeForPath(String propertyName) {
-        Class<?> type = bean.getPropertyType(propertyName);
+        Class<?> type = getPropertyType(bean, propertyName);
         if (type == null) {
             // type not available via BeanWrapper - this happens with e.g. empty list indexes - so
             // find type by examining GrailsDomainClass
@@ -1021,7 +1078,7 @@ public class GrailsDataBinder extends ServletRequestDataBinder {
             }
 
             String propertyName = getNameOf(propertyValue);
-            Class<?> type = bean.getPropertyType(propertyName);
+            Class<?> type = getPropertyType(bean, propertyName);
             if (type == null) {
                 continue;
             }
@@ -1173,4 +1230,63 @@ public class GrailsDataBinder extends ServletRequestDataBinder {
         }
         return StringUtils.join(pathElements, PATH_SEPARATOR);
     }
+
+    /**
+     * The binding metadata of a target class: its transient and embedded properties and the types of its
+     * properties that have been bound. Nested paths such as <code>author.publisher</code> and paths with keys
+     * such as <code>books[0]</code> depend on the runtime class of the nested values, so their types are left to
+     * the BeanWrapper.
+     */
+    private static class BindingPlan {
+        private static final int MAX_CACHED_PROPERTIES = 256;
+
+        private final Class<?> targetClass;
+        private final List<String> transients;
+        private final List<String> embedded;
+        private final Map<String, Class<?>> propertyTypes = new ConcurrentHashMap<String, Class<?>>();
+
+        @SuppressWarnings("unchecked")
+        BindingPlan(Class<?> targetClass) {
+            this.targetClass = targetClass;
+            Object value = GrailsClassUtils.getStaticPropertyValue(targetClass, GrailsDomainClassProperty.TRANSIENT);
+            transients = value instanceof List ? (List<String>)value : Collections.<String>emptyList();
+            value = GrailsClassUtils.getStaticPropertyValue(targetClass, GrailsDomainClassProperty.EMBEDDED);
+            embedded = value instanceof List ? (List<String>)value : Collections.<String>emptyList();
+        }
+
+        /**
+         * @return The type of the property of the target class, or null if the name is a nested or indexed path
+         * or the target class has no such property
+         */
+        Class<?> getPropertyType(String propertyName) {
+            Class<?> type = propertyTypes.get(propertyName);
+            if (type != null || propertyName.length() == 0 || propertyName.indexOf(PATH_SEPARATOR) > -1 ||
+                    propertyName.indexOf(PropertyAccessor.PROPERTY_KEY_PREFIX_CHAR) > -1) {
+                return type;
+            }
+
+            PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(targetClass, propertyName);
+            type = descriptor == null ? null : descriptor.getPropertyType();
+            // the names come from request parameters, so only a bounded number of them is cached
+            if (type != null && propertyTypes.size() < MAX_CACHED_PROPERTIES) {
+                propertyTypes.put(propertyName, type);
+            }
+            return type;
+        }
+    }
+
+    /**
+     * The number and date formats of a locale. They are never used directly, binders use clones of them.
+     */
+    private static class LocaleFormats {
+        private final NumberFormat floatFormat;
+        private final NumberFormat integerFormat;
+        private final DateFormat dateFormat;
+
+        LocaleFormats(Locale locale) {
+            floatFormat = NumberFormat.getInstance(locale);
+            integerFormat = NumberFormat.getIntegerInstance(locale);
+            dateFormat = new SimpleDateFormat(DEFAULT_DATE_FORMAT, locale);
+        }
+    }
 }
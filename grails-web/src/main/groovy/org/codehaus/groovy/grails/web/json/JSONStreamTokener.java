@@ -0,0 +1,265 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.web.json;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * <p>A {@link JSONTokener} that reads its source incrementally from a Reader through a fixed size buffer,
+ * so the JSON text never has to be held in memory as a whole. It accepts the same (lenient) syntax and
+ * produces the same values as JSONTokener.</p>
+ *
+ * <p>Quoted strings without escapes are created straight from the buffer, and short ones are shared for
+ * the duration of the parse so that repeated keys result in a single String instance. Plain decimal
+ * integers are converted while they are read, without creating an intermediate String.</p>
+ *
+ * <p>Errors report the position in the source, but not the source itself.</p>
+ *
+ * @since 2.3
+ */
+public class JSONStreamTokener extends JSONTokener {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    // characters kept before the current position when the buffer is refilled, so that back() always works
+    private static final int PUSHBACK_SIZE = 16;
+    // smaller buffers are enlarged to this size
+    static final int MIN_BUFFER_SIZE = PUSHBACK_SIZE * 2;
+    private static final int MAX_SHARED_STRING_LENGTH = 64;
+    private static final int SHARED_STRINGS_SIZE = 1024;
+    private static final String DELIMITERS = ",:]}/\\\"[{;=#";
+
+    private final Reader reader;
+    private final char[] buffer;
+    private int position;
+    private int limit;
+    private long discarded;
+    private boolean eof;
+
+    private final String[] sharedStrings = new String[SHARED_STRINGS_SIZE];
+    private final StringBuilder unquoted = new StringBuilder();
+
+    public JSONStreamTokener(Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param reader The source
+     * @param bufferSize The number of characters read at once, at least 32
+     */
+    public JSONStreamTokener(Reader reader, int bufferSize) {
+        super("");
+        this.reader = reader;
+        buffer = new char[Math.max(bufferSize, MIN_BUFFER_SIZE)];
+    }
+
+    private boolean fill() {
+        if (eof) {
+            return false;
+        }
+        int keep = Math.min(position, PUSHBACK_SIZE);
+        int shift = position - keep;
+        if (shift > 0) {
+            System.arraycopy(buffer, shift, buffer, 0, limit - shift);
+            discarded += shift;
+            position -= shift;
+            limit -= shift;
+        }
+        try {
+            int read = 0;
+            while (read == 0) {
+                read = reader.read(buffer, limit, buffer.length - limit);
+            }
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+            limit += read;
+            return true;
+        }
+        catch (IOException e) {
+            throw new JSONException(e);
+        }
+    }
+
+    @Override
+    public void back() {
+        if (position > 0) {
+            position--;
+        }
+    }
+
+    @Override
+    public boolean more() {
+        return position < limit || fill();
+    }
+
+    @Override
+    public char next() {
+        if (position < limit || fill()) {
+            return buffer[position++];
+        }
+        return 0;
+    }
+
+    @Override
+    public String next(int n) throws JSONException {
+        char[] chars = new char[n];
+        for (int i = 0; i < n; i++) {
+            if (!more()) {
+                throw syntaxError("Substring bounds error");
+            }
+            chars[i] = buffer[position++];
+        }
+        if (!more()) {
+            throw syntaxError("Substring bounds error");
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public String nextString(char quote) throws JSONException {
+        if (position < limit || fill()) {
+            for (int i = position; i < limit; i++) {
+                char c = buffer[i];
+                if (c == quote) {
+                    String str = sharedString(buffer, position, i - position);
+                    position = i + 1;
+                    return str;
+                }
+                if (c == '\\' || c == '\n' || c == '\r') {
+                    break;
+                }
+            }
+        }
+        // escapes, errors or strings that span the end of the buffer
+        return super.nextString(quote);
+    }
+
+    @Override
+    public Object nextValue() throws JSONException {
+        char c = nextClean();
+
+        switch (c) {
+            case '"':
+            case '\'':
+                return nextString(c);
+            case '{':
+                back();
+                return new JSONObject(this);
+            case '[':
+                back();
+                return new JSONArray(this);
+        }
+
+        StringBuilder sb = unquoted;
+        sb.setLength(0);
+        char b = c;
+        boolean integer = (c >= '0' && c <= '9') || c == '-';
+        boolean negative = c == '-';
+        int digits = 0;
+        long value = 0;
+        while (c >= ' ' && DELIMITERS.indexOf(c) < 0) {
+            sb.append(c);
+            if (integer && c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                digits++;
+            }
+            else if (integer && !(negative && sb.length() == 1)) {
+                integer = false;
+            }
+            c = next();
+        }
+        back();
+
+        // decimal integers of up to 18 digits always fit in a long; a leading zero means octal
+        if (integer && digits > 0 && digits <= 18 && !(b == '0' && digits > 1)) {
+            if (negative) {
+                value = -value;
+            }
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return Integer.valueOf((int) value);
+            }
+            return Long.valueOf(value);
+        }
+        return unquotedValue(sb.toString().trim(), b);
+    }
+
+    private String sharedString(char[] chars, int offset, int length) {
+        if (length > MAX_SHARED_STRING_LENGTH) {
+            return new String(chars, offset, length);
+        }
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & (SHARED_STRINGS_SIZE - 1);
+        String str = sharedStrings[index];
+        if (str != null && str.length() == length) {
+            int i = 0;
+            while (i < length && str.charAt(i) == chars[offset + i]) {
+                i++;
+            }
+            if (i == length) {
+                return str;
+            }
+        }
+        str = new String(chars, offset, length);
+        sharedStrings[index] = str;
+        return str;
+    }
+
+    /**
+     * Skip characters until the next character is the requested character. Unlike JSONTokener, the characters
+     * are consumed if the requested character is not found, since the source can't be rewound.
+     */
+    @Override
+    public char skipTo(char to) {
+        char c;
+        do {
+            c = next();
+            if (c == 0) {
+                return c;
+            }
+        } while (c != to);
+        back();
+        return c;
+    }
+
+    @Override
+    public void skipPast(String to) {
+        int matched = 0;
+        while (matched < to.length()) {
+            char c = next();
+            if (c == 0) {
+                return;
+            }
+            if (c == to.charAt(matched)) {
+                matched++;
+            }
+            else {
+                // restart the match, possibly at the current char
+                position -= matched;
+                matched = 0;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return " at character " + (discarded + position);
+    }
+}
@@ -317,7 +317,6 @@ public class JSONTokener {
      */
     public Object nextValue() throws JSONException {
         char c = nextClean();
-        String s;
 
         switch (c) {
             case '"':
@@ -348,11 +347,23 @@ public class JSONTokener {
         }
         back();
 
+        return unquotedValue(sb.toString().trim(), b);
+    }
+
+
+    /**
+     * Converts unquoted text to a value: true, false, null, a Date, a number or the text itself.
+     *
+     * @param s The trimmed text
+     * @param b The first character of the untrimmed text
+     * @return An object.
+     * @throws JSONException If the text is empty.
+     */
+    protected Object unquotedValue(String s, char b) throws JSONException {
         /*
          * If it is true, false, or null, return the proper value.
          */
 
-        s = sb.toString().trim();
         if (s.equals("")) {
             throw syntaxError("Missing value.");
         }
@@ -29,6 +29,7 @@ import org.codehaus.groovy.grails.web.util.BoundedCharsAsEncodedBytesCounter;
 import org.codehaus.groovy.grails.web.util.GrailsPrintWriterAdapter;
 import org.codehaus.groovy.grails.web.util.StreamCharBuffer;
 import org.codehaus.groovy.grails.web.util.StreamCharBuffer.StreamCharBufferWriter;
+import org.codehaus.groovy.grails.web.util.StreamCharBufferChunkPool;
 
 import com.opensymphony.module.sitemesh.RequestConstants;
 
@@ -54,6 +55,7 @@ public class GSPResponseWriter extends GrailsPrintWriterAdapter {
     protected static final Log LOG = LogFactory.getLog(GSPResponseWriter.class);
     private ServletResponse response;
     private BoundedCharsAsEncodedBytesCounter bytesCounter;
+    private StreamCharBuffer streamBuffer;
     public static final boolean CONTENT_LENGTH_COUNTING_ENABLED = Boolean.getBoolean("GSPResponseWriter.enableContentLength");
     public static final boolean BUFFERING_ENABLED = Boolean.valueOf(System.getProperty("GSPResponseWriter.enableBuffering","true"));
     public static final boolean AUTOFLUSH_ENABLED = Boolean.getBoolean("GSPResponseWriter.enableAutoFlush");
@@ -97,7 +99,7 @@ public class GSPResponseWriter extends GrailsPrintWriterAdapter {
                 throw new RuntimeException("Problem getting writer from response",e);
             }
         }
-        return new GSPResponseWriter(target, response, bytesCounter);
+        return new GSPResponseWriter(target, response, bytesCounter, streamBuffer);
     }
 
     /**
@@ -128,10 +130,11 @@ public class GSPResponseWriter extends GrailsPrintWriterAdapter {
      * @param streamBuffer StreamCharBuffer instance
      * @param bytesCounter    Keeps count of encoded bytes count
      */
-    private GSPResponseWriter(Writer activeWriter, final ServletResponse response, BoundedCharsAsEncodedBytesCounter bytesCounter) {
+    private GSPResponseWriter(Writer activeWriter, final ServletResponse response, BoundedCharsAsEncodedBytesCounter bytesCounter, StreamCharBuffer streamBuffer) {
         super(activeWriter);
         this.response = response;
         this.bytesCounter = bytesCounter;
+        this.streamBuffer = streamBuffer;
     }
 
     /**
@@ -163,6 +166,10 @@ public class GSPResponseWriter extends GrailsPrintWriterAdapter {
                 flushResponse();
             }
         }
+        if (streamBuffer != null && StreamCharBufferChunkPool.isEnabled()) {
+            // the content has been flushed, return the buffer's chunks to the pool at the end of the request
+            streamBuffer.reset();
+        }
     }
 
     private boolean canFlushContentLengthAwareResponse() {
@@ -108,6 +108,7 @@ public abstract class GroovyPage extends Script {
     private Map jspTags = Collections.EMPTY_MAP;
     private TagLibraryResolver jspTagLibraryResolver;
     private TagLibraryLookup gspTagLibraryLookup;
+    private GroovyPageTagHandle[] tagHandles;
     private String[] htmlParts;
     private GrailsPrintWriter out;
     private GrailsPrintWriter codecOut;
@@ -260,6 +261,16 @@ public abstract class GroovyPage extends Script {
         this.gspTagLibraryLookup = gspTagLibraryLookup;
     }
 
+    /**
+     * Sets the tag handles of the tag call sites of the page, which is done by pages compiled with
+     * tag handles enabled
+     *
+     * @param tagHandles The tag handles, shared by all instances of the page
+     */
+    public void setTagHandles(GroovyPageTagHandle[] tagHandles) {
+        this.tagHandles = tagHandles;
+    }
+
     /**
      * Obtains a reference to the JSP tag library resolver instance
      *
@@ -375,34 +386,8 @@ public abstract class GroovyPage extends Script {
                     boolean returnsObject = gspTagLibraryLookup.doesTagReturnObject(tagNamespace, tagName);
                     Object tagLibProp = tagLib.getProperty(tagName);
                     if (tagLibProp instanceof Closure) {
-                        Closure tag = (Closure) ((Closure) tagLibProp).clone();
-                        Object tagresult = null;
-
-                        if (!(attrs instanceof GroovyPageAttributes)) {
-                            attrs = new GroovyPageAttributes(attrs);
-                        }
-                        ((GroovyPageAttributes)attrs).setGspTagSyntaxCall(true);
-                        switch (tag.getParameterTypes().length) {
-                            case 1:
-                                tagresult = tag.call(new Object[]{attrs});
-                                if (returnsObject && tagresult != null && !(tagresult instanceof Writer)) {
-                                    out.print(tagresult);
-                                }
-                                if (body != null && body != EMPTY_BODY_CLOSURE) {
-                                    body.call();
-                                }
-
-                                break;
-
-                            case 2:
-                                if (tag.getParameterTypes().length == 2) {
-                                    tagresult = tag.call(new Object[]{attrs, (body != null) ? body : EMPTY_BODY_CLOSURE});
-                                    if (returnsObject && tagresult != null && !(tagresult instanceof Writer)) {
-                                        out.print(tagresult);
-                                    }
-                                }
-                                break;
-                        }
+                        Closure tag = (Closure) tagLibProp;
+                        invokeTagClosure(tag, tag.getParameterTypes().length, returnsObject, attrs, body);
                     } else {
                         throw new GrailsTagException("Tag [" + tagName + "] does not exist in tag library [" + tagLib.getClass().getName() + "]", getGroovyPageFileName(), lineNumber);
                     }
@@ -435,22 +420,94 @@ public abstract class GroovyPage extends Script {
                 out.append("</").append(tagNamespace).append(':').append(tagName).append('>');
             }
         } catch (Throwable e) {
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Full exception for problem at " + getGroovyPageFileName() + ":" + lineNumber, e);
+            handleTagException(tagName, tagNamespace, lineNumber, e);
+        }
+    }
+
+    /**
+     * Invokes a tag through the handle kept for the given tag call site, resolving the handle if there is none
+     * or if it is no longer valid. Used by pages compiled with tag handles enabled; tags that can't be resolved
+     * to a handle are invoked with {@link #invokeTag(String, String, int, Map, int)}.
+     *
+     * @param callSite         The index of the tag call site in the page
+     * @param tagName          The name of the tag
+     * @param tagNamespace     The taglib's namespace
+     * @param lineNumber       GSP source lineNumber
+     * @param attrs            The tags attributes
+     * @param bodyClosureIndex The index of the body variable
+     */
+    @SuppressWarnings("rawtypes")
+    public final void invokeTag(int callSite, String tagName, String tagNamespace, int lineNumber, Map attrs, int bodyClosureIndex) {
+        GroovyPageTagHandle handle = tagHandles != null ? tagHandles[callSite] : null;
+        if (handle == null || !handle.isValidFor(gspTagLibraryLookup)) {
+            try {
+                handle = gspTagLibraryLookup != null ? gspTagLibraryLookup.lookupTagHandle(tagNamespace, tagName) : null;
+            } catch (Throwable e) {
+                handleTagException(tagName, tagNamespace, lineNumber, e);
+            }
+            if (handle == null) {
+                invokeTag(tagName, tagNamespace, lineNumber, attrs, bodyClosureIndex);
+                return;
             }
+            if (tagHandles != null) {
+                tagHandles[callSite] = handle;
+            }
+        }
 
-            // The capture* tags are internal tags and not to be displayed to the user
-            // hence we don't wrap the exception and simple rethrow it
-            if (tagName.matches("capture(Body|Head|Meta|Title|Component)")) {
-                RuntimeException rte = GrailsExceptionResolver.getFirstRuntimeException(e);
-                if (rte == null) {
-                    throwRootCause(tagName, tagNamespace, lineNumber, e);
-                } else {
-                    throw rte;
+        try {
+            invokeTagClosure(handle.getTag(), handle.getParameterCount(), handle.isReturnsObject(), attrs,
+                    getBodyClosure(bodyClosureIndex));
+        } catch (Throwable e) {
+            handleTagException(tagName, tagNamespace, lineNumber, e);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void invokeTagClosure(Closure tagClosure, int parameterCount, boolean returnsObject, Map attrs, Closure body) {
+        Closure tag = (Closure) tagClosure.clone();
+        Object tagresult = null;
+
+        if (!(attrs instanceof GroovyPageAttributes)) {
+            attrs = new GroovyPageAttributes(attrs);
+        }
+        ((GroovyPageAttributes)attrs).setGspTagSyntaxCall(true);
+        switch (parameterCount) {
+            case 1:
+                tagresult = tag.call(new Object[]{attrs});
+                if (returnsObject && tagresult != null && !(tagresult instanceof Writer)) {
+                    out.print(tagresult);
                 }
-            } else {
+                if (body != null && body != EMPTY_BODY_CLOSURE) {
+                    body.call();
+                }
+
+                break;
+
+            case 2:
+                tagresult = tag.call(new Object[]{attrs, (body != null) ? body : EMPTY_BODY_CLOSURE});
+                if (returnsObject && tagresult != null && !(tagresult instanceof Writer)) {
+                    out.print(tagresult);
+                }
+                break;
+        }
+    }
+
+    private void handleTagException(String tagName, String tagNamespace, int lineNumber, Throwable e) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Full exception for problem at " + getGroovyPageFileName() + ":" + lineNumber, e);
+        }
+
+        // The capture* tags are internal tags and not to be displayed to the user
+        // hence we don't wrap the exception and simple rethrow it
+        if (tagName.matches("capture(Body|Head|Meta|Title|Component)")) {
+            RuntimeException rte = GrailsExceptionResolver.getFirstRuntimeException(e);
+            if (rte == null) {
                 throwRootCause(tagName, tagNamespace, lineNumber, e);
+            } else {
+                throw rte;
             }
+        } else {
+            throwRootCause(tagName, tagNamespace, lineNumber, e);
         }
     }
 
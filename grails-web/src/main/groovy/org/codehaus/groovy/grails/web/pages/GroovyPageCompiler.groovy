@@ -45,6 +45,7 @@ class GroovyPageCompiler {
     String viewPrefix = '/'
     String packagePrefix = 'default'
     String encoding = "UTF-8"
+    boolean enableTagHandles = false
 
     void setCompilerConfig(CompilerConfiguration c) {
         compilerConfig = c
@@ -123,6 +124,7 @@ class GroovyPageCompiler {
                 gpp.packageName = packageName
                 gpp.className = className
                 gpp.lastModified = gspfile.lastModified()
+                gpp.enableTagHandles = enableTagHandles
                 gspgroovyfile.withWriter(encoding) { Writer gsptarget ->
                     // generate gsp groovy source
                     gpp.generateGsp(gsptarget)
@@ -45,6 +45,7 @@ class GroovyPageCompilerTask extends MatchingTask {
     String packagename = 'default'
     String serverpath
     String encoding
+    boolean taghandles
 
     boolean verbose
 
@@ -113,6 +114,7 @@ class GroovyPageCompilerTask extends MatchingTask {
         if (encoding) {
             compiler.encoding = encoding
         }
+        compiler.enableTagHandles = taghandles
 
         compiler.compile()
         compiler = null
@@ -64,6 +64,7 @@ public class GroovyPageParser implements Tokens {
     public static final String CONSTANT_NAME_CONTENT_TYPE = "CONTENT_TYPE";
     public static final String CONSTANT_NAME_LAST_MODIFIED = "LAST_MODIFIED";
     public static final String CONSTANT_NAME_DEFAULT_CODEC = "DEFAULT_CODEC";
+    public static final String CONSTANT_NAME_TAG_HANDLES = "TAG_HANDLES";
     public static final String DEFAULT_ENCODING = "UTF-8";
 
     private static final String MULTILINE_GROOVY_STRING_DOUBLEQUOTES="\"\"\"";
@@ -122,6 +123,7 @@ public class GroovyPageParser implements Tokens {
     public static final String CONFIG_PROPERTY_GSP_ENCODING = "grails.views.gsp.encoding";
     public static final String CONFIG_PROPERTY_GSP_KEEPGENERATED_DIR = "grails.views.gsp.keepgenerateddir";
     public static final String CONFIG_PROPERTY_GSP_SITEMESH_PREPROCESS = "grails.views.gsp.sitemesh.preprocess";
+    public static final String CONFIG_PROPERTY_GSP_TAG_HANDLES = "grails.views.gsp.tagHandles";
 
     private static final String IMPORT_DIRECTIVE = "import";
     private static final String CONTENT_TYPE_DIRECTIVE = "contentType";
@@ -140,6 +142,8 @@ public class GroovyPageParser implements Tokens {
     private String defaultCodecDirectiveValue;
 
     private boolean enableSitemeshPreprocessing = true;
+    private boolean enableTagHandles;
+    private int tagCallSiteCount;
     private File keepGeneratedDirectory;
 
     public String getContentType() {
@@ -162,6 +166,16 @@ public class GroovyPageParser implements Tokens {
         this.enableSitemeshPreprocessing = enableSitemeshPreprocessing;
     }
 
+    /**
+     * Makes the generated page resolve each GSP tag call site to a {@link GroovyPageTagHandle} once,
+     * instead of looking the tag up on each invocation.
+     *
+     * @param enableTagHandles true to enable tag handles
+     */
+    public void setEnableTagHandles(boolean enableTagHandles) {
+        this.enableTagHandles = enableTagHandles;
+    }
+
     class TagMeta {
         String name;
         String namespace;
@@ -801,8 +815,17 @@ public class GroovyPageParser implements Tokens {
                 out.println("}");
             }
 
+            if (tagCallSiteCount > 0) {
+                out.println("public static final " + GroovyPageTagHandle.class.getName() + "[] " +
+                        CONSTANT_NAME_TAG_HANDLES + " = new " + GroovyPageTagHandle.class.getName() + "[" +
+                        tagCallSiteCount + "]");
+            }
+
             out.println("protected void init() {");
             out.println("\tthis.jspTags = " + CONSTANT_NAME_JSP_TAGS);
+            if (tagCallSiteCount > 0) {
+                out.println("\tthis.tagHandles = " + CONSTANT_NAME_TAG_HANDLES);
+            }
             out.println("}");
 
             out.println("public static final String " +
@@ -959,13 +982,20 @@ public class GroovyPageParser implements Tokens {
                 out.println(")");
             }
             else {
+                // the link and template namespaces are dispatched to other tags by invokeTag
+                if (enableTagHandles && !GroovyPage.LINK_NAMESPACE.equals(ns) && !GroovyPage.TEMPLATE_NAMESPACE.equals(ns)) {
+                    out.print("invokeTag(" + tagCallSiteCount++ + ",");
+                }
+                else {
+                    out.print("invokeTag(");
+                }
                 if (tm.hasAttributes) {
-                    out.println("invokeTag('" + tagName + "','" + ns + "'," +
+                    out.println("'" + tagName + "','" + ns + "'," +
                             getCurrentOutputLineNumber() + "," + attrsVarsMapDefinition.get(tagIndex) +
                             "," + bodyTagIndex + ")");
                 }
                 else {
-                    out.println("invokeTag('" + tagName + "','" + ns + "'," +
+                    out.println("'" + tagName + "','" + ns + "'," +
                             getCurrentOutputLineNumber() + ",[:]," + bodyTagIndex + ")");
                 }
             }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.web.pages;
+
+import groovy.lang.Closure;
+import groovy.lang.GroovyObject;
+
+/**
+ * A GSP tag resolved by a {@link TagLibraryLookup}: the tag library instance, the tag closure and the
+ * information needed to invoke it. Pages compiled with tag handles enabled keep a handle per tag call site,
+ * so the tag is only looked up again when tag libraries are registered (for example when one is reloaded).
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public final class GroovyPageTagHandle {
+
+    private final TagLibraryLookup tagLibraryLookup;
+    private final int registrationCount;
+    private final GroovyObject tagLib;
+    private final Closure<?> tag;
+    private final int parameterCount;
+    private final boolean returnsObject;
+
+    public GroovyPageTagHandle(TagLibraryLookup tagLibraryLookup, int registrationCount, GroovyObject tagLib,
+            Closure<?> tag, boolean returnsObject) {
+        this.tagLibraryLookup = tagLibraryLookup;
+        this.registrationCount = registrationCount;
+        this.tagLib = tagLib;
+        this.tag = tag;
+        this.returnsObject = returnsObject;
+        parameterCount = tag.getParameterTypes().length;
+    }
+
+    /**
+     * @param lookup The lookup of the page invoking the tag
+     * @return true if the handle was resolved by the given lookup and no tag library has been registered since
+     */
+    public boolean isValidFor(TagLibraryLookup lookup) {
+        return lookup == tagLibraryLookup && lookup.getRegistrationCount() == registrationCount;
+    }
+
+    public GroovyObject getTagLib() {
+        return tagLib;
+    }
+
+    /**
+     * @return The tag closure of the tag library instance. Clone it before calling it.
+     */
+    public Closure<?> getTag() {
+        return tag;
+    }
+
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    public boolean isReturnsObject() {
+        return returnsObject;
+    }
+}
@@ -27,6 +27,7 @@ import java.security.PrivilegedAction;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
@@ -42,6 +43,7 @@ import org.codehaus.groovy.grails.commons.GrailsClass;
 import org.codehaus.groovy.grails.compiler.web.pages.GroovyPageClassLoader;
 import org.codehaus.groovy.grails.exceptions.DefaultErrorsPrinter;
 import org.codehaus.groovy.grails.support.ResourceAwareTemplateEngine;
+import org.codehaus.groovy.grails.support.StartupTimeline;
 import org.codehaus.groovy.grails.web.errors.GrailsExceptionResolver;
 import org.codehaus.groovy.grails.web.pages.discovery.DefaultGroovyPageLocator;
 import org.codehaus.groovy.grails.web.pages.discovery.GroovyPageCompiledScriptSource;
@@ -88,6 +90,12 @@ import org.springframework.web.context.support.ServletContextResource;
 public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine implements ApplicationContextAware, ServletContextAware, InitializingBean {
     public static final String CONFIG_PROPERTY_DISABLE_CACHING_RESOURCES="grails.gsp.disable.caching.resources";
     public static final String CONFIG_PROPERTY_GSP_ENABLE_RELOAD="grails.gsp.enable.reload";
+    public static final String CONFIG_PROPERTY_GSP_WARMUP="grails.gsp.warmup.enabled";
+    public static final String CONFIG_PROPERTY_GSP_WARMUP_THREADS="grails.gsp.warmup.threads";
+    public static final String CONFIG_PROPERTY_GSP_WARMUP_TIMEOUT="grails.gsp.warmup.timeout";
+    public static final String CONFIG_PROPERTY_GSP_WARMUP_JMX="grails.gsp.warmup.jmx";
+    public static final String CONFIG_PROPERTY_GSP_TEMPLATE_NEGATIVE_CACHE_TIMEOUT="grails.gsp.templates.negativeCacheTimeout";
+    public static final String CONFIG_PROPERTY_GSP_TEMPLATE_ASYNC_REVALIDATION="grails.gsp.templates.asyncRevalidation";
     public static final String BEAN_ID = "groovyPagesTemplateEngine";
 
     private static final String GENERATED_GSP_NAME_PREFIX = "gsp_script_";
@@ -95,8 +103,8 @@ public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine imple
     private static File dumpLineNumbersTo;
 
     private Map<String, GroovyPageMetaInfo> pageCache = new ConcurrentHashMap<String, GroovyPageMetaInfo>();
-    private ClassLoader classLoader;
-    private int scriptNameCount;
+    private volatile ClassLoader classLoader;
+    private final AtomicInteger scriptNameCount = new AtomicInteger();
 
     private GroovyPageLocator groovyPageLocator = new DefaultGroovyPageLocator();
 
@@ -297,11 +305,18 @@ public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine imple
     private GroovyPageMetaInfo initializeCompiledMetaInfo(GroovyPageMetaInfo meta) {
         meta.initializeOnDemand(new GroovyPageMetaInfo.GroovyPageMetaInfoInitializer() {
             public void initialize(GroovyPageMetaInfo metaInfo) {
-                metaInfo.setGrailsApplication(grailsApplication);
-                metaInfo.setJspTagLibraryResolver(jspTagLibraryResolver);
-                metaInfo.setTagLibraryLookup(tagLibraryLookup);
-                metaInfo.initialize();
-                GroovyPagesMetaUtils.registerMethodMissingForGSP(metaInfo.getPageClass(), tagLibraryLookup);
+                StartupTimeline.Step step = StartupTimeline.getInstance().start(
+                        StartupTimeline.GSP, metaInfo.getPageClass().getName());
+                try {
+                    metaInfo.setGrailsApplication(grailsApplication);
+                    metaInfo.setJspTagLibraryResolver(jspTagLibraryResolver);
+                    metaInfo.setTagLibraryLookup(tagLibraryLookup);
+                    metaInfo.initialize();
+                    GroovyPagesMetaUtils.registerMethodMissingForGSP(metaInfo.getPageClass(), tagLibraryLookup);
+                }
+                finally {
+                    step.end();
+                }
             }
         });
         return meta;
@@ -536,7 +551,16 @@ public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine imple
      */
     protected GroovyPageMetaInfo buildPageMetaInfo(InputStream inputStream, Resource res, String pageName) {
         String name = establishPageName(res, pageName);
+        StartupTimeline.Step step = StartupTimeline.getInstance().start(StartupTimeline.GSP, name);
+        try {
+            return doBuildPageMetaInfo(inputStream, res, name);
+        }
+        finally {
+            step.end();
+        }
+    }
 
+    private GroovyPageMetaInfo doBuildPageMetaInfo(InputStream inputStream, Resource res, String name) {
         GroovyPageParser parser;
         String path = getPathForResource(res);
         try {
@@ -560,6 +584,11 @@ public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine imple
                     parser.setEnableSitemeshPreprocessing(enableSitemeshPreprocessing);
                 }
 
+                Object tagHandlesEnabled = config.get(GroovyPageParser.CONFIG_PROPERTY_GSP_TAG_HANDLES);
+                if (tagHandlesEnabled != null) {
+                    parser.setEnableTagHandles(BooleanUtils.toBoolean(String.valueOf(tagHandlesEnabled).trim()));
+                }
+
                 Object keepDirObj = config.get(GroovyPageParser.CONFIG_PROPERTY_GSP_KEEPGENERATED_DIR);
                 if (keepDirObj instanceof File) {
                     parser.setKeepGeneratedDirectory((File) keepDirObj);
@@ -654,11 +683,24 @@ public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine imple
         return scriptClass;
     }
 
-    private synchronized GroovyClassLoader findOrInitGroovyClassLoader() {
-        if (!(classLoader instanceof GroovyPageClassLoader)) {
-            classLoader = initGroovyClassLoader(classLoader);
+    /**
+     * Views may be compiled concurrently, for example by the {@link GroovyPagesWarmer}. Only the creation of the
+     * page class loader needs a lock: the field is volatile and checked again under the lock, so it's created once.
+     * GroovyClassLoader.parseClass guards its own caches, the page cache is a ConcurrentHashMap and generated
+     * template names come from an AtomicInteger. If two threads compile the same page at the same time both get
+     * an equivalent meta info and the last one is cached, as happens when a page is reloaded.
+     */
+    private GroovyClassLoader findOrInitGroovyClassLoader() {
+        ClassLoader cl = classLoader;
+        if (cl instanceof GroovyPageClassLoader) {
+            return (GroovyClassLoader)cl;
+        }
+        synchronized (this) {
+            if (!(classLoader instanceof GroovyPageClassLoader)) {
+                classLoader = initGroovyClassLoader(classLoader);
+            }
+            return (GroovyClassLoader)classLoader;
         }
-        return (GroovyClassLoader)classLoader;
     }
 
     /**
@@ -737,8 +779,8 @@ public class GroovyPagesTemplateEngine extends ResourceAwareTemplateEngine imple
      *
      * @return The template name
      */
-    private synchronized String generateTemplateName() {
-        return GENERATED_GSP_NAME_PREFIX + ++scriptNameCount;
+    private String generateTemplateName() {
+        return GENERATED_GSP_NAME_PREFIX + scriptNameCount.incrementAndGet();
     }
 
     /**
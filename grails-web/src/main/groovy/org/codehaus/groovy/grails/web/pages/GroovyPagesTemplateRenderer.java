@@ -11,44 +11,64 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.commons.lang.ObjectUtils;
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.codehaus.groovy.grails.commons.GrailsDomainClass;
 import org.codehaus.groovy.grails.io.support.GrailsResourceUtils;
+import org.codehaus.groovy.grails.support.DaemonThreadFactory;
 import org.codehaus.groovy.grails.web.pages.discovery.GrailsConventionGroovyPageLocator;
 import org.codehaus.groovy.grails.web.pages.discovery.GroovyPageScriptSource;
 import org.codehaus.groovy.grails.web.servlet.mvc.GrailsWebRequest;
 import org.codehaus.groovy.grails.web.taglib.exceptions.GrailsTagException;
 import org.codehaus.groovy.runtime.InvokerHelper;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
+import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
+
 /**
  * Service that provides the actual implementation to RenderTagLib's render tag.
  *
  * This is an internal Grails service and should not be used by plugins directly.
  * The implementation was moved from RenderTagLib, ported to Java and then refactored.
  *
+ * The outcome of resolving a template, including that no template exists, is cached per template name,
+ * controller, plugin and page context. Entries for missing templates expire after the negative cache timeout.
+ * When reloading is enabled, entries expire after the GSP reload interval; with asyncRevalidation set, an expired
+ * template keeps being rendered while it is recreated from its script source on a background thread.
+ *
  * @author Lari Hotari
  * @author Graeme Rocher
  *
  * @since 2.0
  */
-public class GroovyPagesTemplateRenderer implements InitializingBean {
+public class GroovyPagesTemplateRenderer implements InitializingBean, DisposableBean {
+    private static final Log LOG = LogFactory.getLog(GroovyPagesTemplateRenderer.class);
+    private static final int DEFAULT_MAX_CACHE_SIZE = 10000;
+
     private GrailsConventionGroovyPageLocator groovyPageLocator;
     private GroovyPagesTemplateEngine groovyPagesTemplateEngine;
-    private ConcurrentMap<String,TemplateRendererCacheEntry> templateCache = new ConcurrentHashMap<String,TemplateRendererCacheEntry>();
+    private ConcurrentMap<TemplateCacheKey,TemplateRendererCacheEntry> templateCache = new ConcurrentLinkedHashMap.Builder<TemplateCacheKey,TemplateRendererCacheEntry>()
+            .maximumWeightedCapacity(DEFAULT_MAX_CACHE_SIZE)
+            .build();
     private Object scaffoldingTemplateGenerator;
     private Map<String, Collection<String>> scaffoldedActionMap;
     private Map<String, GrailsDomainClass> controllerToScaffoldedDomainClassMap;
     private Method generateViewMethod;
     private boolean reloadEnabled;
     private boolean disableCache = Environment.isDevelopmentMode();
+    private long negativeCacheTimeout = GroovyPageMetaInfo.LASTMODIFIED_CHECK_INTERVAL;
+    private boolean asyncRevalidation;
+    private ExecutorService revalidationExecutor;
 
     public void afterPropertiesSet() throws Exception {
         if (scaffoldingTemplateGenerator != null) {
@@ -59,6 +79,13 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
         reloadEnabled = groovyPagesTemplateEngine.isReloadEnabled();
     }
 
+    public synchronized void destroy() {
+        if (revalidationExecutor != null) {
+            revalidationExecutor.shutdownNow();
+            revalidationExecutor = null;
+        }
+    }
+
     public void clearCache() {
         templateCache.clear();
     }
@@ -71,21 +98,43 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
             throw new GrailsTagException("Tag [render] is missing required attribute [template]");
         }
 
-        String uri = webRequest.getAttributes().getTemplateUri(templateName, webRequest.getRequest());
         String contextPath = getStringValue(attrs, "contextPath");
         String pluginName = getStringValue(attrs, "plugin");
 
-        Template t = findAndCacheTemplate(webRequest, pageScope, templateName, contextPath, pluginName, uri);
-        if (t == null) {
-            throw new GrailsTagException("Template not found for name [" + templateName + "] and path [" + uri + "]");
+        TemplateRendererCacheEntry cacheEntry = findAndCacheTemplate(webRequest, pageScope, templateName, contextPath, pluginName);
+        if (cacheEntry.template == null) {
+            throw new GrailsTagException("Template not found for name [" + templateName + "] and path [" + cacheEntry.uri + "]");
         }
 
-        makeTemplate(t, attrs, body, out);
+        makeTemplate(cacheEntry.template, attrs, body, out);
     }
 
-    private Template findAndCacheTemplate(GrailsWebRequest webRequest, GroovyPageBinding pageScope, String templateName,
-            String contextPath, String pluginName, String uri) throws IOException {
+    private TemplateRendererCacheEntry findAndCacheTemplate(GrailsWebRequest webRequest, GroovyPageBinding pageScope, String templateName,
+            String contextPath, String pluginName) throws IOException {
 
+        TemplateCacheKey cacheKey = new TemplateCacheKey(webRequest.getControllerName(), templateName, contextPath, pluginName, pageScope);
+        TemplateRendererCacheEntry cacheEntry = templateCache.get(cacheKey);
+        if (cacheEntry != null) {
+            if (cacheEntry.isValid()) {
+                return cacheEntry;
+            }
+            if (asyncRevalidation && cacheEntry.scriptSource != null && revalidate(cacheKey, cacheEntry)) {
+                // keep rendering the current template until it has been recreated
+                return cacheEntry;
+            }
+        }
+
+        cacheEntry = resolveTemplate(webRequest, pageScope, templateName, contextPath, pluginName);
+        if (cacheEntry.timeout != 0) {
+            templateCache.put(cacheKey, cacheEntry);
+        }
+        return cacheEntry;
+    }
+
+    private TemplateRendererCacheEntry resolveTemplate(GrailsWebRequest webRequest, GroovyPageBinding pageScope, String templateName,
+            String contextPath, String pluginName) throws IOException {
+
+        String uri = webRequest.getAttributes().getTemplateUri(templateName, webRequest.getRequest());
         String templatePath = StringUtils.isNotEmpty(contextPath) ? GrailsResourceUtils.appendPiecesForUri(contextPath, templateName) : templateName;
         GroovyPageScriptSource scriptSource;
         if (pluginName == null) {
@@ -94,52 +143,68 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
             scriptSource = groovyPageLocator.findTemplateInBinding(pluginName, templatePath, pageScope);
         }
 
-        String cacheKey;
-        if (scriptSource == null) {
-            cacheKey = contextPath + pluginName + uri;
-        } else {
-            cacheKey = scriptSource.getURI();
+        Template t = null;
+        if (scriptSource != null) {
+            t = groovyPagesTemplateEngine.createTemplate(scriptSource);
+        }
+        boolean allowCaching = !disableCache;
+        if (t == null && scaffoldingTemplateGenerator != null) {
+            t = generateScaffoldedTemplate(webRequest, uri);
+            // always enable caching for generated scaffolded template
+            allowCaching = true;
         }
 
-        TemplateRendererCacheEntry cacheEntry = templateCache.get(cacheKey);
-        if (cacheEntry != null && cacheEntry.isValid()) {
-            return cacheEntry.template;
+        long timeout;
+        if (t != null) {
+            timeout = !allowCaching ? 0 : reloadEnabled ? GroovyPageMetaInfo.LASTMODIFIED_CHECK_INTERVAL : -1;
         }
+        else {
+            // whether a template can be scaffolded depends on the action, which isn't part of the cache key
+            boolean scaffolded = scaffoldedActionMap != null && scaffoldedActionMap.containsKey(webRequest.getControllerName());
+            timeout = scaffolded ? 0 : negativeCacheTimeout;
+        }
+        return new TemplateRendererCacheEntry(t, scriptSource, uri, timeout);
+    }
 
-        Template t = null;
+    /**
+     * Recreates the template of an expired entry in the background, unless that is already happening.
+     *
+     * @return false if the entry can't be revalidated in the background
+     */
+    private boolean revalidate(final TemplateCacheKey cacheKey, final TemplateRendererCacheEntry cacheEntry) {
+        if (!cacheEntry.revalidating.compareAndSet(false, true)) {
+            return true;
+        }
         try {
-            if (cacheEntry != null) {
-                // prevent several competing threads to update the template at the same time
-                cacheEntry.getLock().lock();
-                if (cacheEntry.isValid()) {
-                    // another thread already updated the entry
-                    t = cacheEntry.template;
-                }
-            }
-            if (t == null) {
-                if (scriptSource != null) {
-                    t = groovyPagesTemplateEngine.createTemplate(scriptSource);
-                }
-                boolean allowCaching = !disableCache;
-                if (t == null && scaffoldingTemplateGenerator != null) {
-                    t = generateScaffoldedTemplate(webRequest, uri);
-                    // always enable caching for generated scaffolded template
-                    allowCaching = true;
-                }
-                if (t != null && allowCaching) {
-                    if (cacheEntry == null) {
-                        templateCache.put(cacheKey, new TemplateRendererCacheEntry(t, reloadEnabled));
-                    } else {
-                        cacheEntry.setTemplate(t);
+            getRevalidationExecutor().execute(new Runnable() {
+                public void run() {
+                    try {
+                        Template t = groovyPagesTemplateEngine.createTemplate(cacheEntry.scriptSource);
+                        if (t != null) {
+                            templateCache.replace(cacheKey, cacheEntry, new TemplateRendererCacheEntry(t, cacheEntry.scriptSource,
+                                    cacheEntry.uri, cacheEntry.timeout));
+                            return;
+                        }
                     }
+                    catch (Throwable e) {
+                        LOG.warn("Unable to revalidate GSP template [" + cacheEntry.uri + "]: " + e.getMessage(), e);
+                    }
+                    // resolve the template again on the next request
+                    templateCache.remove(cacheKey, cacheEntry);
                 }
-            }
-        } finally {
-            if (cacheEntry != null) {
-                cacheEntry.getLock().unlock();
-            }
+            });
+            return true;
+        }
+        catch (RejectedExecutionException e) {
+            return false;
         }
-        return t;
+    }
+
+    private synchronized ExecutorService getRevalidationExecutor() {
+        if (revalidationExecutor == null) {
+            revalidationExecutor = DaemonThreadFactory.newFixedThreadPool(1, "grails-gspTemplateRevalidation");
+        }
+        return revalidationExecutor;
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -202,28 +267,80 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
         return t;
     }
 
+    /**
+     * The outcome of resolving a template; the template is null if none exists. A timeout of -1 means the entry
+     * never expires, 0 that it isn't cached.
+     */
     private static class TemplateRendererCacheEntry {
-        private long timestamp=System.currentTimeMillis();
-        private Template template;
-        private boolean reloadEnabled;
-        private final Lock lock = new ReentrantLock();
-
-        public TemplateRendererCacheEntry(Template t, boolean reloadEnabled) {
-            this.template = t;
-            this.reloadEnabled = reloadEnabled;
-        }
+        private final long timestamp = System.currentTimeMillis();
+        private final Template template;
+        private final GroovyPageScriptSource scriptSource;
+        private final String uri;
+        private final long timeout;
+        private final AtomicBoolean revalidating = new AtomicBoolean();
 
-        public Lock getLock() {
-            return lock;
+        public TemplateRendererCacheEntry(Template template, GroovyPageScriptSource scriptSource, String uri, long timeout) {
+            this.template = template;
+            this.scriptSource = scriptSource;
+            this.uri = uri;
+            this.timeout = timeout;
         }
 
         public boolean isValid() {
-            return !reloadEnabled || (System.currentTimeMillis() - timestamp < GroovyPageMetaInfo.LASTMODIFIED_CHECK_INTERVAL);
+            return timeout < 0 || (System.currentTimeMillis() - timestamp < timeout);
+        }
+    }
+
+    /**
+     * Everything the resolution of a template depends on.
+     */
+    private static final class TemplateCacheKey {
+        private final String controllerName;
+        private final String templateName;
+        private final String contextPath;
+        private final String pluginName;
+        private final String pageContextPath;
+        private final Object pagePlugin;
+        private final int hashCode;
+
+        TemplateCacheKey(String controllerName, String templateName, String contextPath, String pluginName, GroovyPageBinding pageScope) {
+            this.controllerName = controllerName;
+            this.templateName = templateName;
+            this.contextPath = contextPath;
+            this.pluginName = pluginName;
+            pageContextPath = pageScope != null ? pageScope.getPluginContextPath() : null;
+            pagePlugin = pageScope != null ? pageScope.getPagePlugin() : null;
+
+            int result = ObjectUtils.hashCode(controllerName);
+            result = 31 * result + templateName.hashCode();
+            result = 31 * result + ObjectUtils.hashCode(contextPath);
+            result = 31 * result + ObjectUtils.hashCode(pluginName);
+            result = 31 * result + ObjectUtils.hashCode(pageContextPath);
+            result = 31 * result + ObjectUtils.hashCode(pagePlugin);
+            hashCode = result;
         }
 
-        public void setTemplate(Template template) {
-            this.template = template;
-            this.timestamp = System.currentTimeMillis();
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TemplateCacheKey)) {
+                return false;
+            }
+            TemplateCacheKey other = (TemplateCacheKey)obj;
+            return hashCode == other.hashCode &&
+                    templateName.equals(other.templateName) &&
+                    ObjectUtils.equals(controllerName, other.controllerName) &&
+                    ObjectUtils.equals(contextPath, other.contextPath) &&
+                    ObjectUtils.equals(pluginName, other.pluginName) &&
+                    ObjectUtils.equals(pageContextPath, other.pageContextPath) &&
+                    ObjectUtils.equals(pagePlugin, other.pagePlugin);
         }
     }
 
@@ -241,6 +358,20 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
         groovyPagesTemplateEngine = engine;
     }
 
+    /**
+     * @param negativeCacheTimeout The time in milliseconds for which a template that doesn't exist isn't looked up again
+     */
+    public void setNegativeCacheTimeout(long negativeCacheTimeout) {
+        this.negativeCacheTimeout = negativeCacheTimeout;
+    }
+
+    /**
+     * @param asyncRevalidation Whether templates that are due to be checked for changes are recreated in the background
+     */
+    public void setAsyncRevalidation(boolean asyncRevalidation) {
+        this.asyncRevalidation = asyncRevalidation;
+    }
+
     public void setScaffoldingTemplateGenerator(Object generator) {
         scaffoldingTemplateGenerator = generator;
     }
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.web.pages;
+
+import groovy.text.Template;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.codehaus.groovy.grails.support.DaemonThreadFactory;
+import org.codehaus.groovy.grails.web.pages.discovery.DefaultGroovyPageLocator;
+import org.codehaus.groovy.grails.web.pages.discovery.GroovyPageLocator;
+
+/**
+ * Compiles (or, for precompiled views, loads and initializes) all the views of the application on a bounded pool
+ * of threads, so that the first requests after startup don't have to wait for the views they render to be compiled.
+ * Progress and the time taken for each view are available while and after the warm-up runs, over JMX
+ * (see {@link GroovyPagesWarmerMBean}) and in the log once the warm-up is done.
+ *
+ * @since 2.3
+ */
+public class GroovyPagesWarmer implements GroovyPagesWarmerMBean {
+
+    private static final Log LOG = LogFactory.getLog(GroovyPagesWarmer.class);
+    private static final int LOGGED_SLOWEST_VIEWS = 10;
+
+    private final GroovyPagesTemplateEngine templateEngine;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long timeout = 300;
+
+    private final Map<String, Long> viewTimings = new ConcurrentHashMap<String, Long>();
+    private final Map<String, Throwable> failures = new ConcurrentHashMap<String, Throwable>();
+    private final AtomicInteger completedCount = new AtomicInteger();
+    private volatile int viewCount;
+    private volatile long totalTime;
+
+    public GroovyPagesWarmer(GroovyPagesTemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+    }
+
+    /**
+     * @param threads The maximum number of views compiled at the same time
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * @param timeout The maximum time in seconds to wait for the warm-up, after which views that haven't been
+     * compiled yet are left to be compiled on first use
+     */
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * @param applicationName The name of the application, can be null
+     * @return The name the warmer is registered with in the MBean server
+     */
+    public static ObjectName getObjectName(String applicationName) throws MalformedObjectNameException {
+        return new ObjectName("grails:type=GroovyPagesWarmer,name=" +
+                ObjectName.quote(applicationName == null ? "grails" : applicationName));
+    }
+
+    /**
+     * Warms up all the views found by the page locator of the template engine.
+     */
+    public void warmUp() {
+        GroovyPageLocator locator = templateEngine.getGroovyPageLocator();
+        if (locator instanceof DefaultGroovyPageLocator) {
+            warmUp(((DefaultGroovyPageLocator)locator).findAllPageUris());
+        }
+        else {
+            LOG.warn("Unable to warm up GSP views, the page locator " + locator + " can't list views");
+        }
+    }
+
+    /**
+     * Warms up the given views, blocking until all of them have been compiled or the timeout has elapsed.
+     *
+     * @param uris The URIs of the views
+     */
+    public void warmUp(Collection<String> uris) {
+        long start = System.currentTimeMillis();
+        viewCount = uris.size();
+        LOG.info("Warming up " + viewCount + " GSP views using " + threads + " threads");
+
+        ExecutorService executor = DaemonThreadFactory.newFixedThreadPool(Math.max(1, threads), "grails-gspWarmUp");
+        try {
+            for (final String uri : uris) {
+                executor.execute(new Runnable() {
+                    public void run() {
+                        warmUpView(uri);
+                    }
+                });
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(timeout, TimeUnit.SECONDS)) {
+                LOG.warn("GSP warm-up didn't finish within " + timeout + "s, the remaining views are compiled on first use");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        totalTime = System.currentTimeMillis() - start;
+        LOG.info("Warmed up " + completedCount.get() + " of " + viewCount + " GSP views in " + totalTime + "ms" +
+                (failures.isEmpty() ? "" : ", " + failures.size() + " failed"));
+        logSlowestViews();
+    }
+
+    private void logSlowestViews() {
+        if (!LOG.isInfoEnabled() || viewTimings.isEmpty()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder("Slowest GSP views:");
+        int count = 0;
+        for (Map.Entry<String, Long> entry : getViewTimings().entrySet()) {
+            if (count++ == LOGGED_SLOWEST_VIEWS) {
+                break;
+            }
+            message.append("\n  ").append(entry.getKey()).append(": ").append(entry.getValue()).append("ms");
+        }
+        LOG.info(message);
+    }
+
+    private void warmUpView(String uri) {
+        long start = System.currentTimeMillis();
+        try {
+            Template template = templateEngine.createTemplateForUri(uri);
+            if (template instanceof GroovyPageTemplate) {
+                GroovyPagesException compilationException = ((GroovyPageTemplate)template).getMetaInfo().getCompilationException();
+                if (compilationException != null) {
+                    throw compilationException;
+                }
+            }
+            long time = System.currentTimeMillis() - start;
+            viewTimings.put(uri, time);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Warmed up GSP view [" + uri + "] in " + time + "ms");
+            }
+        }
+        catch (Throwable e) {
+            failures.put(uri, e);
+            LOG.warn("Unable to warm up GSP view [" + uri + "]: " + e.getMessage());
+        }
+        finally {
+            completedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return The number of views being warmed up
+     */
+    public int getViewCount() {
+        return viewCount;
+    }
+
+    /**
+     * @return The number of views processed so far, including failed ones
+     */
+    public int getCompletedCount() {
+        return completedCount.get();
+    }
+
+    /**
+     * @return The total time the warm-up took in milliseconds, or 0 while it's running
+     */
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * @return The time in milliseconds it took to compile each view, slowest first
+     */
+    public Map<String, Long> getViewTimings() {
+        List<Map.Entry<String, Long>> entries = new ArrayList<Map.Entry<String, Long>>(viewTimings.entrySet());
+        Collections.sort(entries, new Comparator<Map.Entry<String, Long>>() {
+            public int compare(Map.Entry<String, Long> e1, Map.Entry<String, Long> e2) {
+                return e2.getValue().compareTo(e1.getValue());
+            }
+        });
+        Map<String, Long> timings = new LinkedHashMap<String, Long>();
+        for (Map.Entry<String, Long> entry : entries) {
+            timings.put(entry.getKey(), entry.getValue());
+        }
+        return timings;
+    }
+
+    public String[] getFailedViews() {
+        return failures.keySet().toArray(new String[0]);
+    }
+
+    /**
+     * @return The errors that occurred for views that couldn't be warmed up
+     */
+    public Map<String, Throwable> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+}
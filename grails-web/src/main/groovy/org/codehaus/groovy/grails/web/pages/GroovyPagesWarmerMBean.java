@@ -0,0 +1,51 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.web.pages;
+
+import java.util.Map;
+
+/**
+ * The JMX view of the {@link GroovyPagesWarmer}.
+ *
+ * @since 2.3
+ */
+public interface GroovyPagesWarmerMBean {
+
+    /**
+     * @return The number of views being warmed up
+     */
+    int getViewCount();
+
+    /**
+     * @return The number of views processed so far, including failed ones
+     */
+    int getCompletedCount();
+
+    /**
+     * @return The total time the warm-up took in milliseconds, or 0 while it's running
+     */
+    long getTotalTime();
+
+    /**
+     * @return The time in milliseconds it took to compile each view, slowest first
+     */
+    Map<String, Long> getViewTimings();
+
+    /**
+     * @return The URIs of the views that couldn't be warmed up
+     */
+    String[] getFailedViews();
+}
@@ -14,6 +14,7 @@
  */
 package org.codehaus.groovy.grails.web.pages;
 
+import groovy.lang.Closure;
 import groovy.lang.GroovyObject;
 
 import java.util.HashMap;
@@ -46,6 +47,7 @@ public class TagLibraryLookup implements ApplicationContextAware, GrailsApplicat
     protected Map<String, Map<String, Object>> tagNamespaces = new HashMap<String, Map<String, Object>>();
     protected Map<String, NamespacedTagDispatcher> namespaceDispatchers = new HashMap<String, NamespacedTagDispatcher>();
     protected Map<String, Set<String>> tagsThatReturnObjectForNamespace = new HashMap<String, Set<String>>();
+    private volatile int registrationCount;
 
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
@@ -84,6 +86,7 @@ public class TagLibraryLookup implements ApplicationContextAware, GrailsApplicat
      * @param taglib The taglib descriptor class.
      */
     public void registerTagLib(GrailsTagLibClass taglib) {
+        registrationCount++;
         String namespace = taglib.getNamespace();
         namespaceDispatchers.put(namespace, new NamespacedTagDispatcher(namespace, GroovyPage.class, grailsApplication, this));
         Set<String> tagsThatReturnObject=tagsThatReturnObjectForNamespace.get(namespace);
@@ -124,6 +127,35 @@ public class TagLibraryLookup implements ApplicationContextAware, GrailsApplicat
         return (GroovyObject)tags.get(tagName);
     }
 
+    /**
+     * Resolves a tag to a handle that can be reused for as long as it is valid, see
+     * {@link GroovyPageTagHandle#isValidFor(TagLibraryLookup)}.
+     *
+     * @param namespace The tag library namespace
+     * @param tagName The tag name
+     * @return The handle or null if the tag wasn't found
+     */
+    public GroovyPageTagHandle lookupTagHandle(String namespace, String tagName) {
+        // read the count first, so that a concurrent registration invalidates the handle
+        int count = registrationCount;
+        GroovyObject tagLib = lookupTagLibrary(namespace, tagName);
+        if (tagLib == null) {
+            return null;
+        }
+        Object tag = tagLib.getProperty(tagName);
+        if (!(tag instanceof Closure)) {
+            return null;
+        }
+        return new GroovyPageTagHandle(this, count, tagLib, (Closure<?>)tag, doesTagReturnObject(namespace, tagName));
+    }
+
+    /**
+     * @return The number of tag library registrations so far
+     */
+    public int getRegistrationCount() {
+        return registrationCount;
+    }
+
     public boolean doesTagReturnObject(String namespace, String tagName) {
         Set<String> tagsThatReturnObject=tagsThatReturnObjectForNamespace.get(namespace);
         return tagsThatReturnObject != null && tagsThatReturnObject.contains(tagName);
@@ -19,8 +19,10 @@ package org.codehaus.groovy.grails.web.pages.discovery;
 import grails.util.CollectionUtils;
 import grails.util.Environment;
 
+import java.io.IOException;
 import java.security.PrivilegedAction;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,8 +48,10 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.web.context.ServletContextAware;
 import org.springframework.web.context.support.ServletContextResourceLoader;
+import org.springframework.web.context.support.ServletContextResourcePatternResolver;
 
 /**
  * Used to locate GSPs whether in development or WAR deployed mode from static
@@ -131,6 +135,46 @@ public class DefaultGroovyPageLocator implements GroovyPageLocator, ServletConte
         return contextPath;
     }
 
+    /**
+     * Finds the URIs of all the views of the application, both precompiled views and GSP files that can be
+     * loaded by the configured resource loaders. Each URI can be passed to {@link #findPage(String)}.
+     *
+     * @return The URIs of the views
+     */
+    public Set<String> findAllPageUris() {
+        Set<String> uris = new LinkedHashSet<String>();
+        if (isPrecompiledAvailable()) {
+            for (String path : precompiledGspMap.keySet()) {
+                String uri = removeViewLocationPrefixes(path);
+                uris.add(uri.startsWith("/") ? uri : "/" + uri);
+            }
+        }
+        for (ResourceLoader loader : resourceLoaders) {
+            ResourcePatternResolver resolver = loader instanceof ResourcePatternResolver ?
+                    (ResourcePatternResolver)loader : new ServletContextResourcePatternResolver(loader);
+            for (String viewsPath : new String[] { PATH_TO_WEB_INF_VIEWS + "/", SLASHED_VIEWS_DIR_PATH }) {
+                try {
+                    for (Resource resource : resolver.getResources(viewsPath + "**/*.gsp")) {
+                        String uri = resolveViewUri(resource);
+                        if (uri != null) {
+                            uris.add(uri);
+                        }
+                    }
+                }
+                catch (IOException e) {
+                    LOG.debug("Unable to list views in " + viewsPath + ": " + e.getMessage());
+                }
+            }
+        }
+        return uris;
+    }
+
+    private String resolveViewUri(Resource resource) throws IOException {
+        String path = resource.getURL().getPath();
+        int i = path.lastIndexOf(SLASHED_VIEWS_DIR_PATH);
+        return i > -1 ? path.substring(i + SLASHED_VIEWS_DIR_PATH.length() - 1) : null;
+    }
+
     public void removePrecompiledPage(GroovyPageCompiledScriptSource scriptSource) {
         reloadedPrecompiledGspClassNames.add(scriptSource.getCompiledClass().getName());
         if (scriptSource.getURI() != null && precompiledGspMap != null) {
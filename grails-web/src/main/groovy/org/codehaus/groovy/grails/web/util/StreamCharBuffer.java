@@ -25,8 +25,6 @@ import java.io.ObjectOutput;
 import java.io.Reader;
 import java.io.Writer;
 import java.lang.ref.SoftReference;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -37,8 +35,6 @@ import java.util.Set;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.springframework.util.ReflectionUtils;
-import org.springframework.web.util.HtmlUtils;
 
 /**
  * <p>
@@ -212,6 +208,12 @@ import org.springframework.web.util.HtmlUtils;
  * connected mode.</td>
  * <td>256</td>
  * </tr>
+ * <tr>
+ * <td>streamcharbuffer.pooling</td>
+ * <td>recycles the allocated buffers through a shared, bounded {@link StreamCharBufferChunkPool}
+ * when the buffer is reset or emptied</td>
+ * <td>false</td>
+ * </tr>
  * </table>
  *
  * Configuration values can also be changed for each instance of
@@ -261,6 +263,7 @@ public class StreamCharBuffer implements Writable, CharSequence, Externalizable
     private Map<StreamCharBufferKey, StreamCharBufferSubChunk> dynamicChunkMap;
 
     private Set<SoftReference<StreamCharBufferKey>> parentBuffers;
+    private List<char[]> pooledChunks;
     int allocatedBufferIdSequence = 0;
     int readerCount = 0;
     boolean hasReaders = false;
@@ -316,10 +319,45 @@ public class StreamCharBuffer implements Writable, CharSequence, Externalizable
             chunkSize = firstChunkSize;
             totalChunkSize = 0;
         }
-        allocBuffer = new AllocatedBuffer(chunkSize);
+        if (pooledChunks != null) {
+            releasePooledChunks(null);
+        }
+        // with pooling, the first buffer is taken from the pool only when something gets written
+        allocBuffer = new AllocatedBuffer(StreamCharBufferChunkPool.isEnabled() ? 0 : chunkSize);
         dynamicChunkMap = new HashMap<StreamCharBufferKey, StreamCharBufferSubChunk>();
     }
 
+    private char[] allocateChunk(int size) {
+        if (!StreamCharBufferChunkPool.isEnabled() || size == 0) {
+            return new char[size];
+        }
+        char[] chunk = StreamCharBufferChunkPool.get().acquire(size);
+        if (pooledChunks == null) {
+            pooledChunks = new ArrayList<char[]>();
+        }
+        pooledChunks.add(chunk);
+        return chunk;
+    }
+
+    /**
+     * Returns the chunks taken from the pool to it, except the one still in use.
+     * Nothing is returned once readers have been created, since they may still refer to the chunks.
+     */
+    private void releasePooledChunks(char[] inUse) {
+        if (!hasReaders) {
+            StreamCharBufferChunkPool pool = StreamCharBufferChunkPool.get();
+            for (char[] chunk : pooledChunks) {
+                if (chunk != inUse) {
+                    pool.release(chunk);
+                }
+            }
+        }
+        pooledChunks.clear();
+        if (inUse != null && !hasReaders) {
+            pooledChunks.add(inUse);
+        }
+    }
+
     /**
      * Clears the buffer and notifies the parents of this buffer of the change.
      */
@@ -500,6 +538,9 @@ public class StreamCharBuffer implements Writable, CharSequence, Externalizable
         allocBuffer.writeTo(target);
         if (emptyAfter) {
             allocBuffer.reuseBuffer();
+            if (pooledChunks != null) {
+                releasePooledChunks(allocBuffer.buffer);
+            }
         }
         if (flushTarget) {
             target.flush();
@@ -614,7 +655,12 @@ public class StreamCharBuffer implements Writable, CharSequence, Externalizable
     public char[] toCharArray() {
         // check if there is a cached single charbuffer
         if (firstChunk == lastChunk && firstChunk instanceof CharBufferChunk && allocBuffer.charsUsed()==0 && ((CharBufferChunk)firstChunk).isSingleBuffer()) {
-            return ((CharBufferChunk)firstChunk).buffer;
+            char[] buffer = ((CharBufferChunk)firstChunk).buffer;
+            if (pooledChunks != null) {
+                // handed out to the caller, so it must never be recycled
+                pooledChunks.remove(buffer);
+            }
+            return buffer;
         }
 
         int initialReaderCount = readerCount;
@@ -731,8 +777,10 @@ public class StreamCharBuffer implements Writable, CharSequence, Externalizable
             spaceLeft = allocBuffer.spaceLeft();
         }
         if (spaceLeft == 0) {
-            totalChunkSize += allocBuffer.chunkSize();
-            resizeChunkSizeAsProcentageOfTotalSize();
+            if (allocBuffer.chunkSize() > 0) {
+                totalChunkSize += allocBuffer.chunkSize();
+                resizeChunkSizeAsProcentageOfTotalSize();
+            }
             allocBuffer = new AllocatedBuffer(chunkSize);
             spaceLeft = allocBuffer.spaceLeft();
         }
@@ -1232,7 +1280,7 @@ public class StreamCharBuffer implements Writable, CharSequence, Externalizable
 
         public AllocatedBuffer(int size) {
             this.size = size;
-            buffer = new char[size];
+            buffer = allocateChunk(size);
         }
 
         public int charsUsed() {
@@ -1251,7 +1299,7 @@ public class StreamCharBuffer implements Writable, CharSequence, Externalizable
         }
 
         public int chunkSize() {
-            return buffer.length;
+            return size;
         }
 
         public int spaceLeft() {
@@ -1875,54 +1923,13 @@ public class StreamCharBuffer implements Writable, CharSequence, Externalizable
 
     public StreamCharBuffer encodeAsHTML() {
         StreamCharBuffer coded = new StreamCharBuffer(Math.min(Math.max(totalChunkSize, chunkSize) * 12 / 10, maxChunkSize));
-        Writer codedWriter = coded.getWriter();
-        if (StreamingHTMLEncoderHelper.disabled) {
-            try {
-                codedWriter.write(HtmlUtils.htmlEscape(toString()));
-            } catch (IOException e) {
-                // Should not ever happen
-                log.error("IOException in StreamCharBuffer.encodeAsHTML", e);
-            }
-        } else {
-            Reader reader = getReader();
-            char[] buf = new char[1];
-            try {
-                while (reader.read(buf) != -1) {
-                    String reference = StreamingHTMLEncoderHelper.convertToReference(buf[0]);
-                    if (reference != null) {
-                        codedWriter.write(reference);
-                    } else {
-                        codedWriter.write(buf);
-                    }
-                }
-            } catch (IOException e) {
-                // Should not ever happen
-                log.error("IOException in StreamCharBuffer.encodeAsHTML", e);
-            }
+        try {
+            // encodes chunk by chunk, without creating readers or Strings of the content
+            writeToImpl(StreamingHTMLEncoder.createEncodingWriter(coded.getWriter()), false, false);
+        } catch (IOException e) {
+            // Should not ever happen
+            log.error("IOException in StreamCharBuffer.encodeAsHTML", e);
         }
         return coded;
     }
-
-    private static class StreamingHTMLEncoderHelper {
-        private static Object instance;
-        private static Method mapMethod;
-        private static boolean disabled=false;
-        static {
-            try {
-                Field instanceField=ReflectionUtils.findField(HtmlUtils.class, "characterEntityReferences");
-                ReflectionUtils.makeAccessible(instanceField);
-                instance = instanceField.get(null);
-                mapMethod = ReflectionUtils.findMethod(instance.getClass(), "convertToReference", char.class);
-                if (mapMethod != null)
-                    ReflectionUtils.makeAccessible(mapMethod);
-            } catch (Exception e) {
-                log.warn("Couldn't use reflection for resolving characterEntityReferences in HtmlUtils class", e);
-                disabled = true;
-            }
-        }
-
-        public static String convertToReference(char c) {
-            return (String)ReflectionUtils.invokeMethod(mapMethod, instance, c);
-        }
-    }
 }
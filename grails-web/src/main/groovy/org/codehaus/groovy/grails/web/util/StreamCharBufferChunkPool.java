@@ -0,0 +1,151 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.web.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>A free-list of the char[] chunks allocated by {@link StreamCharBuffer}, shared by all threads. Chunks are
+ * kept in power-of-two size classes, so a request for a chunk is served with an array of the next size class
+ * that may be larger than requested. The total number of chars pooled is capped; chunks returned to a full pool
+ * (or larger than the largest size class) are left to the garbage collector.</p>
+ *
+ * <p>Pooling is disabled by default. It is enabled with the <code>streamcharbuffer.pooling</code> system property
+ * or with {@link #setEnabled(boolean)}; the <code>streamcharbuffer.pooling.maxchars</code> system property sets the
+ * maximum number of chars pooled in total (default 1048576).</p>
+ *
+ * @since 2.3
+ */
+public class StreamCharBufferChunkPool {
+
+    private static final char[] EMPTY_CHARS = new char[0];
+    private static final int MIN_SIZE_CLASS = 6;
+    private static final int MAX_SIZE_CLASS = 20;
+
+    private static volatile boolean enabled = Boolean.getBoolean("streamcharbuffer.pooling");
+    private static volatile int maxPooledChars = Integer.getInteger("streamcharbuffer.pooling.maxchars", 1024 * 1024);
+
+    private static final StreamCharBufferChunkPool INSTANCE = new StreamCharBufferChunkPool();
+
+    private final Queue<char[]>[] chunks;
+    private final AtomicInteger pooledChars = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    StreamCharBufferChunkPool() {
+        chunks = new Queue[MAX_SIZE_CLASS + 1];
+        for (int i = MIN_SIZE_CLASS; i <= MAX_SIZE_CLASS; i++) {
+            chunks[i] = new ConcurrentLinkedQueue<char[]>();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        StreamCharBufferChunkPool.enabled = enabled;
+    }
+
+    public static int getMaxPooledChars() {
+        return maxPooledChars;
+    }
+
+    public static void setMaxPooledChars(int maxPooledChars) {
+        StreamCharBufferChunkPool.maxPooledChars = maxPooledChars;
+    }
+
+    /**
+     * @return The pool
+     */
+    public static StreamCharBufferChunkPool get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Takes a chunk of at least the given size from the pool, or allocates one of the size class of the given size.
+     *
+     * @param size The minimum size of the chunk
+     * @return The chunk
+     */
+    public char[] acquire(int size) {
+        if (size == 0) {
+            return EMPTY_CHARS;
+        }
+        int sizeClass = sizeClassOf(size);
+        if (sizeClass > MAX_SIZE_CLASS) {
+            return new char[size];
+        }
+        char[] chunk = chunks[sizeClass].poll();
+        if (chunk != null) {
+            pooledChars.addAndGet(-chunk.length);
+            return chunk;
+        }
+        return new char[1 << sizeClass];
+    }
+
+    /**
+     * Returns a chunk to the pool. The chunk must not be used by the caller afterwards.
+     *
+     * @param chunk A chunk obtained with {@link #acquire(int)}
+     */
+    public void release(char[] chunk) {
+        int length = chunk.length;
+        // only chunks of exactly one size class are pooled
+        if (length < (1 << MIN_SIZE_CLASS) || (length & (length - 1)) != 0) {
+            return;
+        }
+        int sizeClass = sizeClassOf(length);
+        if (sizeClass > MAX_SIZE_CLASS) {
+            return;
+        }
+        // reserve the chars first, so concurrent releases can't exceed the maximum together
+        int current;
+        do {
+            current = pooledChars.get();
+            if (current + length > maxPooledChars) {
+                return;
+            }
+        }
+        while (!pooledChars.compareAndSet(current, current + length));
+        chunks[sizeClass].offer(chunk);
+    }
+
+    /**
+     * @return The number of chars held by the pool
+     */
+    public int getPooledChars() {
+        return pooledChars.get();
+    }
+
+    /**
+     * Empties the pool.
+     */
+    public void clear() {
+        for (int i = MIN_SIZE_CLASS; i <= MAX_SIZE_CLASS; i++) {
+            char[] chunk;
+            while ((chunk = chunks[i].poll()) != null) {
+                pooledChars.addAndGet(-chunk.length);
+            }
+        }
+    }
+
+    private static int sizeClassOf(int size) {
+        int sizeClass = 32 - Integer.numberOfLeadingZeros(size - 1);
+        return Math.max(sizeClass, MIN_SIZE_CLASS);
+    }
+}
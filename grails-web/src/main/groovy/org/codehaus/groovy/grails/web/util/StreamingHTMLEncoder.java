@@ -0,0 +1,170 @@
+/*
+ * Copyright 2013 SpringSource
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.groovy.grails.web.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * Escapes HTML like {@link HtmlUtils#htmlEscape(String)}, using a table of the character entity references that
+ * is built once. Runs of characters that don't need escaping are copied in bulk and the references are written
+ * from preallocated char arrays, so content can be encoded from one buffer to another without creating Strings.
+ *
+ * @author Graeme Rocher
+ * @since 2.3
+ */
+public final class StreamingHTMLEncoder {
+
+    private static final char[][] REFERENCES;
+
+    static {
+        // derive the table from HtmlUtils so that the output is identical to HtmlUtils.htmlEscape
+        char[][] references = new char[Character.MAX_VALUE + 1][];
+        int tableSize = 0;
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            String ch = String.valueOf((char) c);
+            String escaped = HtmlUtils.htmlEscape(ch);
+            if (!ch.equals(escaped)) {
+                references[c] = escaped.toCharArray();
+                tableSize = c + 1;
+            }
+        }
+        REFERENCES = new char[tableSize][];
+        System.arraycopy(references, 0, REFERENCES, 0, tableSize);
+    }
+
+    private StreamingHTMLEncoder() {
+        // static methods only
+    }
+
+    private static char[] referenceFor(char c) {
+        return c < REFERENCES.length ? REFERENCES[c] : null;
+    }
+
+    /**
+     * Escapes the given String.
+     *
+     * @param str The String
+     * @return The escaped String, or the given String itself if nothing needed escaping
+     */
+    public static String encode(String str) {
+        int length = str.length();
+        int i = 0;
+        while (i < length && referenceFor(str.charAt(i)) == null) {
+            i++;
+        }
+        if (i == length) {
+            return str;
+        }
+
+        StringBuilder sb = new StringBuilder(length + 16);
+        int runStart = 0;
+        for (; i < length; i++) {
+            char[] reference = referenceFor(str.charAt(i));
+            if (reference != null) {
+                sb.append(str, runStart, i).append(reference);
+                runStart = i + 1;
+            }
+        }
+        sb.append(str, runStart, length);
+        return sb.toString();
+    }
+
+    /**
+     * Escapes a range of chars to a Writer.
+     */
+    public static void encode(char[] chars, int off, int len, Writer target) throws IOException {
+        int runStart = off;
+        int end = off + len;
+        for (int i = off; i < end; i++) {
+            char[] reference = referenceFor(chars[i]);
+            if (reference != null) {
+                if (i > runStart) {
+                    target.write(chars, runStart, i - runStart);
+                }
+                target.write(reference);
+                runStart = i + 1;
+            }
+        }
+        if (end > runStart) {
+            target.write(chars, runStart, end - runStart);
+        }
+    }
+
+    /**
+     * Escapes a range of a String to a Writer.
+     */
+    public static void encode(String str, int off, int len, Writer target) throws IOException {
+        int runStart = off;
+        int end = off + len;
+        for (int i = off; i < end; i++) {
+            char[] reference = referenceFor(str.charAt(i));
+            if (reference != null) {
+                if (i > runStart) {
+                    target.write(str, runStart, i - runStart);
+                }
+                target.write(reference);
+                runStart = i + 1;
+            }
+        }
+        if (end > runStart) {
+            target.write(str, runStart, end - runStart);
+        }
+    }
+
+    /**
+     * Creates a Writer that escapes everything written to it to the target Writer.
+     *
+     * @param target The target
+     * @return The escaping Writer
+     */
+    public static Writer createEncodingWriter(final Writer target) {
+        return new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                encode(cbuf, off, len, target);
+            }
+
+            @Override
+            public void write(String str, int off, int len) throws IOException {
+                encode(str, off, len, target);
+            }
+
+            @Override
+            public void write(int c) throws IOException {
+                char[] reference = referenceFor((char) c);
+                if (reference != null) {
+                    target.write(reference);
+                }
+                else {
+                    target.write(c);
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                target.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                target.close();
+            }
+        };
+    }
+}